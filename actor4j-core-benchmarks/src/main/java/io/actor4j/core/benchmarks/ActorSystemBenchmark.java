@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.benchmarks;
+
+import static io.actor4j.core.logging.ActorLogger.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.actor4j.core.ActorRuntime;
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.runtime.ActorOverflowPolicy;
+import io.actor4j.core.runtime.ActorThreadMode;
+
+/*
+ * Base of the benchmarks, one actor system per trial. The parameters select the actor threads (unbounded or 
+ * bounded queues), their thread mode and the dispatching config; they can be overridden on the command line 
+ * (e.g., -p threadMode=PARK -p parallelism=1,2,4). Bounded queues measure the cost of the capacity checks, they 
+ * are sized above the messages in flight of each benchmark (boundedQueueSize), so that nothing is rejected (REJECT, 
+ * counted as undelivered) and no producer waits for space.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class ActorSystemBenchmark {
+	@Param({"false", "true"})
+	public boolean bounded;
+	
+	@Param({"100000"})
+	public int boundedQueueSize;
+	
+	@Param({"PARK", "SLEEP", "YIELD"})
+	public ActorThreadMode threadMode;
+	
+	@Param({"100"})
+	public int throughput;
+	
+	@Param({"10000"})
+	public int bufferQueueSize;
+	
+	@Param({"2"})
+	public int parallelism;
+	
+	protected ActorSystem system;
+	
+	@Setup
+	public void setup() throws Exception {
+		systemLogger().setLevel(ERROR);
+		logger().setLevel(ERROR);
+		
+		system = ActorSystem.create(ActorRuntime.factory(), config().build());
+		addActors();
+		system.start();
+	}
+	
+	@TearDown
+	public void tearDown() {
+		system.shutdownWithActors(true);
+	}
+	
+	protected ActorSystemConfig.Builder<?> config() {
+		ActorSystemConfig.Builder<?> builder = ActorSystemConfig.builder()
+			.name(getClass().getSimpleName())
+			.parallelism(parallelism)
+			.parallelismFactor(1)
+			.throughput(throughput)
+			.bufferQueueSize(bufferQueueSize)
+			.watchdogEnabled(false);
+		
+		switch (threadMode) {
+			case PARK -> builder.parkMode();
+			case SLEEP -> builder.sleepMode();
+			case YIELD -> builder.yieldMode();
+			case BACKOFF -> builder.backoffMode();
+		}
+		
+		if (bounded)
+			builder
+				.queueSize(boundedQueueSize)
+				.overflowPolicy(ActorOverflowPolicy.REJECT);
+		
+		return builder;
+	}
+	
+	protected abstract void addActors() throws Exception;
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.benchmarks;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.utils.AskPattern;
+
+/*
+ * Request-reply from outside of the actor system (including the temporary actor of each ask).
+ */
+public class AskPatternBenchmark extends ActorSystemBenchmark {
+	protected UUID echo;
+	
+	@Override
+	protected void addActors() {
+		echo = system.addActor(() -> new Actor("echo") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				tell(message.value(), message.tag(), message.source());
+			}
+		});
+	}
+	
+	@Benchmark
+	public Optional<ActorMessage<?>> ask() {
+		return AskPattern.ask(ActorMessage.create(42, 0, system.SYSTEM_ID(), echo), system);
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.utils.ActorGroup;
+import io.actor4j.core.utils.ActorGroupSet;
+
+/*
+ * Broadcasts of the actor system to an actor group, an operation is a burst of broadcasts, that are delivered to all members.
+ */
+public class BroadcastBenchmark extends ActorSystemBenchmark {
+	protected static final int BROADCASTS = 100;
+	
+	@Param({"64"})
+	public int members;
+	
+	protected record Notice(CountDownLatch latch) {
+	}
+	
+	protected ActorGroup group;
+	
+	@Override
+	protected void addActors() {
+		group = new ActorGroupSet(system.addActor(() -> new Actor() {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.value() instanceof Notice notice)
+					notice.latch().countDown();
+			}
+		}, members));
+	}
+	
+	@Benchmark
+	public void broadcast() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(BROADCASTS*members);
+		for (int i=0; i<BROADCASTS; i++)
+			system.broadcast(ActorMessage.create(new Notice(latch), 0, system.SYSTEM_ID(), null), group);
+		latch.await();
+	}
+}
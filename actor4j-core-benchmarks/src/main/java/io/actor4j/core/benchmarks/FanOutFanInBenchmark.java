@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.benchmarks;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.messages.ActorMessage;
+
+/*
+ * A master scatters messages over the workers and gathers their replies.
+ */
+public class FanOutFanInBenchmark extends ActorSystemBenchmark {
+	protected static final int MESSAGES = 10_000;
+	
+	@Param({"8"})
+	public int workers;
+	
+	protected record Scatter(CompletableFuture<Void> done) {
+	}
+	
+	protected UUID master;
+	
+	@Override
+	protected void addActors() {
+		List<UUID> children = system.addActor(() -> new Actor() {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				tell(null, 0, message.source());
+			}
+		}, workers);
+		master = system.addActor(() -> new Actor("master") {
+			protected CompletableFuture<Void> done;
+			protected int pending;
+			
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.value() instanceof Scatter scatter) {
+					done = scatter.done();
+					pending = MESSAGES;
+					for (int i=0; i<MESSAGES; i++)
+						tell(null, 0, children.get(i%children.size()));
+				}
+				else if (--pending==0)
+					done.complete(null);
+			}
+		});
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(MESSAGES)
+	public void fanOutFanIn() {
+		CompletableFuture<Void> done = new CompletableFuture<>();
+		system.send(ActorMessage.create(new Scatter(done), 0, system.SYSTEM_ID(), master));
+		done.join();
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.messages.ActorMessage;
+
+/*
+ * Round trips between two actors, a single message is in flight (latency bound).
+ */
+public class PingPongBenchmark extends ActorSystemBenchmark {
+	protected static final int ROUND_TRIPS = 10_000;
+	
+	protected record Rally(int count, CompletableFuture<Void> done) {
+	}
+	
+	protected UUID ping;
+	
+	@Override
+	protected void addActors() {
+		UUID pong = system.addActor(() -> new Actor("pong") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				tell(message.value(), 0, message.source());
+			}
+		});
+		ping = system.addActor(() -> new Actor("ping") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.value() instanceof Rally rally) {
+					if (rally.count()<ROUND_TRIPS)
+						tell(new Rally(rally.count()+1, rally.done()), 0, pong);
+					else
+						rally.done().complete(null);
+				}
+			}
+		});
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(ROUND_TRIPS)
+	public void pingPong() {
+		CompletableFuture<Void> done = new CompletableFuture<>();
+		system.send(ActorMessage.create(new Rally(0, done), 0, system.SYSTEM_ID(), ping));
+		done.join();
+	}
+}
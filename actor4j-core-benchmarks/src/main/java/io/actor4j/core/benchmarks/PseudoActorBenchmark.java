@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.actors.PseudoActor;
+import io.actor4j.core.messages.ActorMessage;
+
+/*
+ * Ingress of messages, that are sent by a pseudo actor (from outside of the actor threads) to an actor.
+ */
+public class PseudoActorBenchmark extends ActorSystemBenchmark {
+	protected static final int MESSAGES = 10_000;
+	
+	protected record Ingress(CountDownLatch latch) {
+	}
+	
+	protected UUID sink;
+	protected PseudoActor pseudo;
+	
+	@Override
+	protected void addActors() {
+		sink = system.addActor(() -> new Actor("sink") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.value() instanceof Ingress ingress)
+					ingress.latch().countDown();
+			}
+		});
+		pseudo = new PseudoActor(system, false) {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				// empty
+			}
+		};
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(MESSAGES)
+	public void ingress() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(MESSAGES);
+		Ingress ingress = new Ingress(latch);
+		for (int i=0; i<MESSAGES; i++)
+			pseudo.tell(ingress, 0, sink);
+		latch.await();
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+
+import io.actor4j.core.actors.ResourceActor;
+import io.actor4j.core.messages.ActorMessage;
+
+/*
+ * Messages to a resource actor, that are processed by the resource executor (stateless: concurrently).
+ */
+public class ResourceActorBenchmark extends ActorSystemBenchmark {
+	protected static final int MESSAGES = 1_000;
+	
+	@Param({"false", "true"})
+	public boolean stateful;
+	
+	protected record Job(CountDownLatch latch) {
+	}
+	
+	protected UUID resource;
+	
+	@Override
+	protected void addActors() {
+		resource = system.addActor(() -> new ResourceActor("resource", stateful, false) {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.value() instanceof Job job)
+					job.latch().countDown();
+			}
+		});
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(MESSAGES)
+	public void resource() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(MESSAGES);
+		Job job = new Job(latch);
+		for (int i=0; i<MESSAGES; i++)
+			system.send(ActorMessage.create(job, 0, system.SYSTEM_ID(), resource));
+		latch.await();
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.messages.ActorMessage;
+
+/*
+ * A token passes along a ring of actors (mostly across threads).
+ */
+public class RingBenchmark extends ActorSystemBenchmark {
+	protected static final int HOPS = 10_000;
+	
+	@Param({"100"})
+	public int actors;
+	
+	protected record Token(int hops, CompletableFuture<Void> done) {
+	}
+	
+	protected final List<UUID> ring = new ArrayList<>();
+	
+	@Override
+	protected void addActors() {
+		ring.clear();
+		for (int i=0; i<actors; i++) {
+			final int index = i;
+			ring.add(system.addActor(() -> new Actor("ring-"+index) {
+				@Override
+				public void receive(ActorMessage<?> message) {
+					if (message.value() instanceof Token token) {
+						if (token.hops()<HOPS)
+							tell(new Token(token.hops()+1, token.done()), 0, ring.get((index+1)%ring.size()));
+						else
+							token.done().complete(null);
+					}
+				}
+			}));
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(HOPS)
+	public void ring() {
+		CompletableFuture<Void> done = new CompletableFuture<>();
+		system.send(ActorMessage.create(new Token(0, done), 0, system.SYSTEM_ID(), ring.get(0)));
+		done.join();
+	}
+}
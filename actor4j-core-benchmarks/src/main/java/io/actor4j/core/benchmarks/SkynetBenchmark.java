@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.messages.ActorMessage;
+
+/*
+ * Creates a tree of actors (each node has ten children), the leaves reply their number and the sums are 
+ * gathered up to the root. An operation is the creation and summation of the whole tree, that is stopped afterwards.
+ */
+public class SkynetBenchmark extends ActorSystemBenchmark {
+	protected static final int CHILDREN = 10;
+	
+	@Param({"4"})
+	public int depth;
+	
+	protected record Spawn(long number, int level) {
+	}
+	
+	protected class Node extends Actor {
+		protected final CompletableFuture<Long> done; // only of the root
+		protected long sum;
+		protected int pending;
+		
+		public Node(CompletableFuture<Long> done) {
+			super();
+			
+			this.done = done;
+		}
+		
+		@Override
+		public void receive(ActorMessage<?> message) {
+			if (message.value() instanceof Spawn spawn) {
+				if (spawn.level()==depth)
+					tell(spawn.number(), 0, getParent());
+				else {
+					pending = CHILDREN;
+					for (int i=0; i<CHILDREN; i++) {
+						Spawn child = new Spawn(spawn.number()*CHILDREN+i, spawn.level()+1);
+						tell(child, 0, addChild(() -> new Node(null)));
+					}
+				}
+			}
+			else if (message.value() instanceof Long number) {
+				sum += number;
+				if (--pending==0) {
+					if (done!=null) {
+						done.complete(sum);
+						stop();
+					}
+					else
+						tell(sum, 0, getParent());
+				}
+			}
+		}
+	}
+	
+	@Override
+	protected void addActors() {
+		// the trees are created per operation
+	}
+	
+	@Benchmark
+	public long skynet() {
+		CompletableFuture<Long> done = new CompletableFuture<>();
+		system.send(ActorMessage.create(new Spawn(0, 0), 0, system.SYSTEM_ID(), system.addActor(() -> new Node(done))));
+		
+		return done.join();
+	}
+}
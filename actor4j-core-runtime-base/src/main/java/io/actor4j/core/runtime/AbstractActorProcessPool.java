@@ -18,6 +18,8 @@ package io.actor4j.core.runtime;
 import java.util.ArrayList;
 import java.util.List;
 
+import io.actor4j.core.utils.LatencyHistogram;
+
 public abstract class AbstractActorProcessPool<P extends ActorProcess> implements ActorProcessPool<P>{
 	protected final InternalActorRuntimeSystem system;
 	
@@ -52,8 +54,8 @@ public abstract class AbstractActorProcessPool<P extends ActorProcess> implement
 	}
 	
 	@Override
-	public List<Long> getProcessingTimeStatistics() {
-		List<Long> list = new ArrayList<>();
+	public List<LatencyHistogram> getProcessingTimeStatistics() {
+		List<LatencyHistogram> list = new ArrayList<>();
 		for (P p : actorProcessList)
 			list.add(p.getProcessingTimeStatistics());
 		return list;
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.jfr.ActorReceiveEvent;
+import io.actor4j.core.utils.LatencyHistogram;
+
+/*
+ * Mailbox of an actor cell. It is scheduled on the executor only while messages are pending,
+ * at most one instance is running at the same time (preserves the message order of the actor).
+ */
+public class ActorCellMailbox implements ActorProcess {
+	protected final InternalActorSystem system;
+	protected final InternalActorCell cell;
+	protected final Executor executor;
+	protected final int throughput; // quantum per scheduling
+	
+	protected final Queue<ActorMessage<?>> directiveQueue;
+	protected final ActorPriorityQueue priorityQueue;
+	protected final Queue<ActorMessage<?>> serverQueue;
+	protected final Queue<ActorMessage<?>> outerQueue;
+	
+	protected final AtomicBoolean scheduled;
+	protected final AtomicBoolean registered;
+	
+	protected final AtomicLong counter;
+	protected final AtomicBoolean load;
+	
+	protected final LatencyHistogram processingTimeStatistics;
+	
+	public ActorCellMailbox(InternalActorSystem system, InternalActorCell cell, Executor executor, int throughput) {
+		super();
+		
+		this.system = system;
+		this.cell = cell;
+		this.executor = executor;
+		this.throughput = throughput;
+		
+		directiveQueue = new ConcurrentLinkedQueue<>();
+		priorityQueue  = new ActorPriorityQueue(system.getConfig().priorityLevels(), system.getConfig().defaultPriorityLevel());
+		serverQueue    = new ConcurrentLinkedQueue<>();
+		outerQueue     = new ConcurrentLinkedQueue<>();
+		
+		scheduled = new AtomicBoolean(false);
+		registered = new AtomicBoolean(true);
+		
+		counter = new AtomicLong(0);
+		load = new AtomicBoolean(false);
+		
+		processingTimeStatistics = new LatencyHistogram(false); // count and sum, percentiles on request
+	}
+	
+	@Override
+	public Object processId() {
+		return cell.getId();
+	}
+	
+	public InternalActorCell getCell() {
+		return cell;
+	}
+	
+	protected void faultToleranceMethod(ActorMessage<?> message) {
+		ActorReceiveEvent event = new ActorReceiveEvent();
+		event.begin();
+		try {
+			if (system.getConfig().threadProcessingTimeEnabled().get()) {
+				long startTime = System.nanoTime();
+				cell.internal_receive(message);
+				processingTimeStatistics.record(System.nanoTime()-startTime);
+			}
+			else
+				cell.internal_receive(message);
+		}
+		catch(Exception e) {
+			system.getExecutorService().getFaultToleranceManager().notifyErrorHandler(e, ActorSystemError.ACTOR, cell.getId());
+			system.getActorStrategyOnFailure().handle(cell, e);
+		}
+		event.end(cell, message);
+	}
+	
+	protected boolean poll(Queue<ActorMessage<?>> queue) {
+		boolean result = false;
+		
+		ActorMessage<?> message = queue.poll();
+		if (message!=null) {
+			if (registered.get()) {
+				cell.getRequestRate().getAndIncrement();
+				faultToleranceMethod(message);
+			}
+			if (system.getConfig().counterEnabled().get())
+				counter.getAndIncrement();
+			
+			result = true;
+		}
+		
+		return result;
+	}
+	
+	@Override
+	public void run() {
+		int hasNext = 0;
+		
+		try {
+			while (poll(directiveQueue));
+			while (poll(priorityQueue));
+			
+			for (; hasNext<throughput && poll(serverQueue); hasNext++);
+			for (; hasNext<throughput && poll(outerQueue); hasNext++);
+			
+			load.set(hasNext==throughput);
+		}
+		finally {
+			scheduled.set(false);
+			if (!isEmpty())
+				newMessage();
+		}
+	}
+	
+	public boolean isEmpty() {
+		return directiveQueue.isEmpty() && priorityQueue.isEmpty() && serverQueue.isEmpty() && outerQueue.isEmpty();
+	}
+	
+	public void directiveQueue(ActorMessage<?> message) {
+		directiveQueue.offer(message);
+	}
+	
+	public void priorityQueue(ActorMessage<?> message) {
+		priorityQueue.offer(message);
+	}
+	
+	public void priorityQueue(ActorMessage<?> message, int level) {
+		priorityQueue.offer(message, level);
+	}
+	
+	public void serverQueue(ActorMessage<?> message) {
+		serverQueue.offer(message);
+	}
+	
+	public void outerQueue(ActorMessage<?> message) {
+		outerQueue.offer(message);
+	}
+	
+	protected void newMessage() {
+		if (scheduled.compareAndSet(false, true))
+			try {
+				executor.execute(this);
+			}
+			catch (RejectedExecutionException e) {
+				scheduled.set(false); // executor is already shut down
+			}
+	}
+	
+	public void unregister() {
+		registered.set(false);
+	}
+	
+	public boolean isRegistered() {
+		return registered.get();
+	}
+	
+	@Override
+	public long getCount() {
+		return counter.longValue();
+	}
+	
+	@Override
+	public AtomicBoolean getLoad() {
+		return load;
+	}
+	
+	@Override
+	public LatencyHistogram getProcessingTimeStatistics() {
+		return processingTimeStatistics;
+	}
+	
+	public Queue<ActorMessage<?>> getDirectiveQueue() {
+		return directiveQueue;
+	}
+	
+	public Queue<ActorMessage<?>> getPriorityQueue() {
+		return priorityQueue;
+	}
+	
+	public Queue<ActorMessage<?>> getServerQueue() {
+		return serverQueue;
+	}
+	
+	public Queue<ActorMessage<?>> getOuterQueue() {
+		return outerQueue;
+	}
+}
@@ -38,6 +38,7 @@ import io.actor4j.core.actors.ActorWithDistributedGroup;
 import io.actor4j.core.exceptions.ActorInitializationException;
 import io.actor4j.core.runtime.fault.tolerance.ErrorHandler;
 import io.actor4j.core.runtime.fault.tolerance.FaultToleranceManager;
+import io.actor4j.core.runtime.jfr.ActorResourceRejectedEvent;
 import io.actor4j.core.runtime.persistence.ActorPersistenceService;
 import io.actor4j.core.runtime.persistence.ActorPersistenceServiceImpl;
 import io.actor4j.core.messages.ActorMessage;
@@ -125,6 +126,14 @@ public abstract class ActorExecutorServiceImpl<P extends ActorProcess> implement
 						systemLogger().log(ERROR,
 								String.format("[FT] Exception in WatchdogThread"));
 					}
+					else if (systemError==ActorSystemError.REBALANCING) {
+						systemLogger().log(ERROR,
+								String.format("[FT] Exception in RebalancingThread"));
+					}
+					else if (systemError==ActorSystemError.HOTSPOT_DETECTION) {
+						systemLogger().log(ERROR,
+								String.format("[FT] Exception in HotspotDetectionThread"));
+					}
 					else if (systemError==ActorSystemError.EXECUTER_RESOURCE) {
 						InternalActorCell cell = system.getCells().get(uuid);
 						if (cell!=null) {
@@ -242,6 +251,15 @@ public abstract class ActorExecutorServiceImpl<P extends ActorProcess> implement
 			}
 	}
 	
+	public int getResourceQueueSize() {
+		return resourceExecutorService instanceof ThreadPoolExecutor executor ? executor.getQueue().size() : 0;
+	}
+	
+	public int getTimerQueueSize() {
+		return (globalTimerExecutorService!=null ? globalTimerExecutorService.getQueueSize() : 0)
+			+ (timerExecutorService!=null ? timerExecutorService.getQueueSize() : 0);
+	}
+	
 	public abstract ActorProcessPool<P> createActorProcessPool();
 	
 	public void shutdownActorProcessPool(Runnable onTermination, boolean await) {
@@ -287,6 +305,7 @@ public abstract class ActorExecutorServiceImpl<P extends ActorProcess> implement
 					});
 				}
 				catch (RejectedExecutionException e) {
+					ActorResourceRejectedEvent.commit(cell, message);
 					faultToleranceManager.notifyErrorHandler(e, ActorSystemError.EXECUTER_RESOURCE, cell.getId());
 				}
 		}
@@ -349,4 +368,12 @@ public abstract class ActorExecutorServiceImpl<P extends ActorProcess> implement
 	public int nonResponsiveThreadsCount() {	
 		return watchdogRunnable!=null ? watchdogRunnable.nonResponsiveThreadsCount() : 0;
 	}
+	
+	public Set<Long> degradedThreads() {
+		return watchdogRunnable instanceof DefaultWatchdogRunnable defaultWatchdogRunnable ? defaultWatchdogRunnable.degradedThreads() : new HashSet<>();
+	}
+	
+	public WatchdogRunnable getWatchdogRunnable() {
+		return watchdogRunnable;
+	}
 }
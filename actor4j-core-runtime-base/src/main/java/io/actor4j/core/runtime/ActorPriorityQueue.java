@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import io.actor4j.core.messages.ActorMessage;
+
+/*
+ * Lock-free priority queue, made of a fixed number of multi-producer/single-consumer lanes. Level 0 is the highest 
+ * priority, the order within a lane is FIFO. Messages offered without level go to the default level (by default 
+ * the middle lane), so that explicit levels can be placed above or below them.
+ */
+public class ActorPriorityQueue extends AbstractQueue<ActorMessage<?>> {
+	protected final Queue<ActorMessage<?>>[] lanes;
+	protected final int defaultLevel;
+	
+	@SuppressWarnings("unchecked")
+	public ActorPriorityQueue(int levels, int defaultLevel, Supplier<Queue<ActorMessage<?>>> factory) {
+		super();
+		
+		lanes = new Queue[Math.max(levels, 1)];
+		for (int i=0; i<lanes.length; i++)
+			lanes[i] = factory.get();
+		this.defaultLevel = level(defaultLevel);
+	}
+	
+	public ActorPriorityQueue(int levels, Supplier<Queue<ActorMessage<?>>> factory) {
+		this(levels, levels/2, factory);
+	}
+	
+	public ActorPriorityQueue(int levels, int defaultLevel) {
+		this(levels, defaultLevel, ConcurrentLinkedQueue::new);
+	}
+	
+	public ActorPriorityQueue(int levels) {
+		this(levels, levels/2);
+	}
+	
+	public int levels() {
+		return lanes.length;
+	}
+	
+	public int defaultLevel() {
+		return defaultLevel;
+	}
+	
+	protected int level(int level) {
+		return level<0 ? 0 : (level<lanes.length ? level : lanes.length-1);
+	}
+	
+	@Override
+	public boolean offer(ActorMessage<?> message) {
+		return lanes[defaultLevel].offer(message);
+	}
+	
+	public boolean offer(ActorMessage<?> message, int level) {
+		return lanes[level(level)].offer(message);
+	}
+	
+	@Override
+	public ActorMessage<?> poll() {
+		ActorMessage<?> result = null;
+		for (int i=0; i<lanes.length && (result=lanes[i].poll())==null; i++);
+		
+		return result;
+	}
+	
+	@Override
+	public ActorMessage<?> peek() {
+		ActorMessage<?> result = null;
+		for (int i=0; i<lanes.length && (result=lanes[i].peek())==null; i++);
+		
+		return result;
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		for (Queue<ActorMessage<?>> lane : lanes)
+			if (!lane.isEmpty())
+				return false;
+		
+		return true;
+	}
+	
+	@Override
+	public int size() {
+		int result = 0;
+		for (Queue<ActorMessage<?>> lane : lanes)
+			result += lane.size();
+		
+		return result;
+	}
+	
+	@Override
+	public Iterator<ActorMessage<?>> iterator() {
+		return new Iterator<>() {
+			protected final Iterator<Queue<ActorMessage<?>>> iteratorLanes = Arrays.asList(lanes).iterator();
+			protected Iterator<ActorMessage<?>> iterator;
+			
+			@Override
+			public boolean hasNext() {
+				while ((iterator==null || !iterator.hasNext()) && iteratorLanes.hasNext())
+					iterator = iteratorLanes.next().iterator();
+				
+				return iterator!=null && iterator.hasNext();
+			}
+			
+			@Override
+			public ActorMessage<?> next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				
+				return iterator.next();
+			}
+			
+			@Override
+			public void remove() {
+				if (iterator==null)
+					throw new IllegalStateException();
+				
+				iterator.remove();
+			}
+		};
+	}
+}
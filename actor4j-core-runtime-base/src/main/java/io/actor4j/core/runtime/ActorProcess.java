@@ -17,6 +17,8 @@ package io.actor4j.core.runtime;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.actor4j.core.utils.LatencyHistogram;
+
 public interface ActorProcess extends Runnable {
 	public Object processId();
 	
@@ -26,5 +28,12 @@ public interface ActorProcess extends Runnable {
 	
 	public long getCount();
 	public AtomicBoolean getLoad();
-	public long getProcessingTimeStatistics();
+	public LatencyHistogram getProcessingTimeStatistics();
+	
+	/*
+	 * Returns the cell, that is currently in receive (null, if unknown or idle).
+	 */
+	public default InternalActorCell getCurrentCell() {
+		return null;
+	}
 }
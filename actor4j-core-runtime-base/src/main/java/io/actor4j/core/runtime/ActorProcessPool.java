@@ -17,6 +17,8 @@ package io.actor4j.core.runtime;
 
 import java.util.List;
 
+import io.actor4j.core.utils.LatencyHistogram;
+
 public interface ActorProcessPool<P extends ActorProcess> {
 	public void shutdown(Runnable onTermination, boolean await);
 	
@@ -24,7 +26,7 @@ public interface ActorProcessPool<P extends ActorProcess> {
 	public ActorProcessPoolHandler<P> getActorProcessPoolHandler();
 	
 	public List<Boolean> getProcessLoads();
-	public List<Long> getProcessingTimeStatistics();
+	public List<LatencyHistogram> getProcessingTimeStatistics();
 	public long getCount();
 	public List<Long> getCounts();
 }
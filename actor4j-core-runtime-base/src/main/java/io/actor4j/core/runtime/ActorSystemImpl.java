@@ -19,6 +19,7 @@ import static io.actor4j.core.runtime.protocols.ActorProtocolTag.*;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -35,6 +36,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import io.actor4j.core.actors.Actor;
 import io.actor4j.core.actors.PseudoActor;
@@ -66,20 +68,17 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 	
 	protected final PseudoActorCellFactory pseudoActorCellFactory;
 	
-	protected final Map<UUID, InternalActorCell> cells; // ActorCellID    -> ActorCell
-	protected final Map<String, Queue<UUID>> aliases;  // ActorCellAlias -> ActorCellID
-	protected final Map<UUID, String> hasAliases;
-	protected final Map<UUID, Boolean> resourceCells;
-	protected final Map<UUID, Boolean> podCells;
+	protected final ActorRoutingTable routingTable; // ActorCellID -> ActorRoute (cell, kind, redirect, alias)
 	protected final Map<String, Queue<UUID>> podDomains; // PodActorCellDomain -> ActorCellID
-	protected final Map<UUID, InternalActorCell> pseudoCells;
-	protected final Map<UUID, UUID> redirector;
 	protected /*quasi final*/ ActorMessageDispatcher messageDispatcher;
 	
 	protected final AtomicBoolean messagingEnabled;
 	
 	protected final Queue<ActorMessage<?>> bufferQueue;
-	protected final ActorExecutorService executorService;
+	
+	protected final LongAdder undeliveredCounter;
+	protected final LongAdder unhandledCounter;
+	protected /*quasi final*/ ActorExecutorService executorService;
 	
 	protected final ActorStrategyOnFailure actorStrategyOnFailure;
 	
@@ -106,18 +105,15 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 		
 		pseudoActorCellFactory = (system, actor, blocking) -> new PseudoActorCell(system, actor, blocking);
 		
-		cells          = new ConcurrentHashMap<>();
-		aliases        = new ConcurrentHashMap<>();
-		hasAliases     = new ConcurrentHashMap<>();
-		resourceCells  = new ConcurrentHashMap<>();
-		podCells       = new ConcurrentHashMap<>();
+		routingTable   = new ActorRoutingTable(this.config.compactAddresses(), this.config.idGenerator()); // fixed, see isAddressingChanged
 		podDomains     = new ConcurrentHashMap<>();
-		pseudoCells    = new ConcurrentHashMap<>();
-		redirector     = new ConcurrentHashMap<>();
 		
 		messagingEnabled = new AtomicBoolean();
 		
 		bufferQueue = new ConcurrentLinkedQueue<>();
+		
+		undeliveredCounter = new LongAdder();
+		unhandledCounter = new LongAdder();
 		executorService = createActorExecutorService();
 		
 		actorStrategyOnFailure = new DefaultActorStrategyOnFailure(this);
@@ -125,10 +121,10 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 		countDownLatch = new AtomicReference<>();
 		countDownLatchPark = new AtomicInteger();
 				
-		USER_ID    = UUID.randomUUID();
-		SYSTEM_ID  = UUID.randomUUID();
-		UNKNOWN_ID = UUID.randomUUID();
-		PSEUDO_ID  = UUID.randomUUID();
+		USER_ID    = this.config.idGenerator().generate();
+		SYSTEM_ID  = this.config.idGenerator().generate();
+		UNKNOWN_ID = this.config.idGenerator().generate();
+		PSEUDO_ID  = this.config.idGenerator().generate();
 		
 		resetCells();
 	}
@@ -156,12 +152,7 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 	protected void reset() {
 		messagingEnabled.set(false);
 		
-		cells.clear();
-		aliases.clear();
-		hasAliases.clear();
-		resourceCells.clear();
-		pseudoCells.clear();
-		redirector.clear();
+		routingTable.clear();
 		
 		bufferQueue.clear();
 	
@@ -263,7 +254,7 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 	public boolean setConfig(ActorSystemConfig config) {
 		boolean result = false;
 		
-		if (!executorService.isStarted() && config!=null) {
+		if (!executorService.isStarted() && config!=null && !isAddressingChanged(config)) {
 			this.config = config;
 			resetCountdownLatch();
 			result = true;
@@ -276,7 +267,7 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 	public boolean setConfig(ActorServiceConfig config) {
 		boolean result = false;
 		
-		if (!executorService.isStarted() && config!=null) {
+		if (!executorService.isStarted() && config!=null && !isAddressingChanged(config)) {
 			this.config = config;
 			resetCountdownLatch();
 			result = true;
@@ -285,6 +276,14 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 		return result;
 	}
 	
+	/*
+	 * The routing table and the ids of the system actors are created with the addressing of the initial config, so a change
+	 * of compactAddresses or idGenerator is rejected.
+	 */
+	protected boolean isAddressingChanged(ActorSystemConfig config) {
+		return config.compactAddresses()!=this.config.compactAddresses() || config.idGenerator()!=this.config.idGenerator();
+	}
+	
 	protected abstract ActorExecutorService createActorExecutorService();
 
 	@Override
@@ -312,24 +311,29 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 		return pseudoActorCellFactory;
 	}
 
+	@Override
+	public ActorRoutingTable getRoutingTable() {
+		return routingTable;
+	}
+
 	@Override
 	public Map<UUID, InternalActorCell> getCells() {
-		return cells;
+		return routingTable.getCells();
 	}
 	
 	@Override
 	public Map<UUID, InternalActorCell> getPseudoCells() {
-		return pseudoCells;
+		return routingTable.getPseudoCells();
 	}
 	
 	@Override
 	public Map<UUID, Boolean> getResourceCells() {
-		return resourceCells;
+		return routingTable.getResourceCells();
 	}
 	
 	@Override
 	public Map<UUID, Boolean> getPodCells() {
-		return podCells;
+		return routingTable.getPodCells();
 	}
 
 	@Override
@@ -339,12 +343,12 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 
 	@Override
 	public Map<String, Queue<UUID>> getAliases() {
-		return aliases;
+		return routingTable.getAliases();
 	}
 	
 	@Override
 	public Map<UUID, UUID> getRedirector() {
-		return redirector;
+		return routingTable.getRedirector();
 	}
 
 	@Override
@@ -367,6 +371,16 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 		return bufferQueue;
 	}
 	
+	@Override
+	public LongAdder getUndeliveredCounter() {
+		return undeliveredCounter;
+	}
+	
+	@Override
+	public LongAdder getUnhandledCounter() {
+		return unhandledCounter;
+	}
+	
 	@Override
 	public ActorExecutorService getExecutorService() {
 		return executorService;
@@ -376,14 +390,10 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 	public UUID internal_addCell(InternalActorCell cell) {
 		Actor actor = cell.getActor();
 		if (actor instanceof PseudoActor)
-			pseudoCells.put(cell.getId(), cell);
+			routingTable.register(cell);
 		else {
 			actor.setCell(cell);
-			cells.put(cell.getId(), cell);
-			if (actor instanceof ResourceActor)
-				resourceCells.put(cell.getId(), false);
-			else if (actor instanceof PodActor)
-				podCells.put(cell.getId(), false);
+			routingTable.register(cell);
 			if (executorService.isStarted()) {
 				/* if (!(actor instanceof ResourceActor)) @See: ActorMessageDispatcher */
 					messageDispatcher.registerCell(cell);
@@ -406,20 +416,20 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 
 	protected UUID user_addCell(InternalActorCell cell) {
 		cell.setParent(USER_ID);
-		cells.get(USER_ID).getChildren().add(cell.getId());
+		routingTable.getCell(USER_ID).getChildren().add(cell.getId());
 		return internal_addCell(cell);
 	}
 	
 	protected UUID system_addCell(InternalActorCell cell) {
 		cell.setParent(SYSTEM_ID);
-		cells.get(SYSTEM_ID).getChildren().add(cell.getId());
+		routingTable.getCell(SYSTEM_ID).getChildren().add(cell.getId());
 		return internal_addCell(cell);
 	}
 	
 	@Override
 	public UUID pseudo_addCell(InternalActorCell cell) {
 		cell.setParent(PSEUDO_ID);
-		cells.get(PSEUDO_ID).getChildren().add(cell.getId());
+		routingTable.getCell(PSEUDO_ID).getChildren().add(cell.getId());
 		return internal_addCell(cell);
 	}
 	
@@ -503,7 +513,7 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 		Queue<UUID> queue = podDomains.get(domain);
 		
 		return queue.stream().filter(id -> {
-				PodActorCell cell = ((PodActorCell)cells.get(id));
+				PodActorCell cell = ((PodActorCell)routingTable.getCell(id));
 				return cell.getContext().primaryReplica();
 			}).findFirst().isPresent();
 	}
@@ -543,21 +553,9 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 	
 	@Override
 	public void removeActor(UUID id) {	
-		cells.remove(id);
-		resourceCells.remove(id);
-		podCells.remove(id);
-		pseudoCells.remove(id);
+		routingTable.unregister(id);
 		
 		container.unregister(id);
-		
-		String alias = null;
-		if ((alias=hasAliases.get(id))!=null) {
-			hasAliases.remove(id);
-			Queue<UUID> queue = aliases.get(alias);
-			queue.remove(id);
-			if (queue.isEmpty())
-				aliases.remove(alias);
-		}
 	}
 	
 	@Override
@@ -569,24 +567,13 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 		catch (IllegalArgumentException e) {
 			return false;
 		}
-		return cells.containsKey(key);
+		return routingTable.getCells().containsKey(key);
 	}		
 	
 	@Override
 	public ActorSystemImpl setAlias(UUID id, String alias) {
-		if (id!=null && alias!=null && !alias.isEmpty()) {
-			Queue<UUID> queue = null;
-			if ((queue=aliases.get(alias))==null) {
-				queue = new ConcurrentLinkedQueue<>();
-				queue.add(id);
-				aliases.put(alias, queue);
-				hasAliases.put(id, alias);
-			}	
-			else {
-				queue.add(id);
-				hasAliases.put(id, alias);
-			}
-		}
+		if (id!=null && alias!=null && !alias.isEmpty())
+			routingTable.setAlias(id, alias);
 		
 		return this;
 	}
@@ -610,7 +597,7 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 	public List<UUID> getActorsFromAlias(String alias) {
 		List<UUID> result = new LinkedList<>();
 		
-		Queue<UUID> queue = aliases.get(alias);
+		Queue<UUID> queue = routingTable.getAliases().get(alias);
 		if (queue!=null)
 			queue.forEach((id) -> result.add(id));
 		
@@ -619,21 +606,7 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 	
 	@Override
 	public String getAliasFromActor(UUID id) {
-		String result = null;
-		
-		Iterator<Entry<String, Queue<UUID>>> iteratorAliases = aliases.entrySet().iterator();
-		outer: while (iteratorAliases.hasNext()) {
-			Entry<String, Queue<UUID>> entry = iteratorAliases.next();
-			Iterator<UUID> iteratorQueue = entry.getValue().iterator();
-			while (iteratorQueue.hasNext()) {
-				if (id.equals(iteratorQueue.next())) {
-					result = entry.getKey();
-					break outer;
-				}
-			}
-		}
-			
-		return result;
+		return routingTable.getAlias(id);
 	}
 	
 	@Override
@@ -645,12 +618,12 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 				result = "/";
 			else {
 				StringBuffer buffer = new StringBuffer();
-				InternalActorCell cell = cells.get(uuid);
+				InternalActorCell cell = routingTable.getCell(uuid);
 				if (cell.getActor()!=null)
 					buffer.append("/" + (cell.getActor().getName()!=null ? cell.getActor().getName():cell.getActor().getId().toString()));
 				UUID parent = null;
 				while ((parent=cell.getParent())!=null && !parent.equals(USER_ID)) {
-					cell = cells.get(parent);
+					cell = routingTable.getCell(parent);
 					buffer.insert(0, "/" + (cell.getActor().getName()!=null ? cell.getActor().getName():cell.getActor().getId().toString()));
 				}
 				
@@ -666,7 +639,7 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 		InternalActorCell result = null;
 		
 		if (path!=null) {
-			InternalActorCell parent = cells.get(USER_ID);
+			InternalActorCell parent = routingTable.getCell(USER_ID);
 			
 			if (path.isEmpty() || path.equals("/"))
 				result = parent;
@@ -679,7 +652,7 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 					Iterator<UUID> iterator = parent.getChildren().iterator();
 					result  = null;
 					while (iterator.hasNext()) {
-						InternalActorCell child = cells.get(iterator.next());
+						InternalActorCell child = routingTable.getCell(iterator.next());
 						if (child!=null  && (token.equals(child.getActor().getName()) || token.equals(child.getId().toString()))) {
 							result = child;
 							break;
@@ -705,6 +678,18 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 		return this;
 	}
 	
+	@Override
+	public ActorSystemImpl send(Collection<ActorMessage<?>> messages) {
+		if (!messagingEnabled.get()) {
+			for (ActorMessage<?> message : messages)
+				bufferQueue.offer(message.copy());
+		}
+		else
+			messageDispatcher.postOuter(messages);
+		
+		return this;
+	}
+	
 	@Override
 	public ActorSystemImpl sendViaPath(ActorMessage<?> message, String path) {
 		UUID dest = getActorFromPath(path);
@@ -756,7 +741,7 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 	@Override
 	public ActorSystemImpl sendWhenActive(ActorMessage<?> message) {
 		if (executorService.isStarted() && messagingEnabled.get() && message!=null && message.dest()!=null)  {
-			InternalActorCell cell = cells.get(message.dest());
+			InternalActorCell cell = routingTable.getCell(message.dest());
 			if (cell.isActive())
 				messageDispatcher.postOuter(message);
 			else
@@ -802,26 +787,26 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 	
 	@Override
 	public UUID getRedirectionDestination(UUID source) {
-		return redirector.get(source);
+		return routingTable.getRedirect(source);
 	}
 	
 	@Override
 	public ActorSystemImpl addRedirection(UUID source, UUID dest) {
-		redirector.put(source, dest);
+		routingTable.setRedirect(source, dest);
 		
 		return this;
 	}
 	
 	@Override
 	public ActorSystemImpl removeRedirection(UUID source) {
-		redirector.remove(source);
+		routingTable.setRedirect(source, null);
 		
 		return this;
 	}
 	
 	@Override
 	public ActorSystemImpl clearRedirections() {
-		redirector.clear();
+		routingTable.clearRedirects();
 		
 		return this;
 	}
@@ -850,7 +835,7 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 				@Override
 				public void run() {
 					/* preStart */
-					Iterator<Entry<UUID, InternalActorCell>> iterator = cells.entrySet().iterator();
+					Iterator<Entry<UUID, InternalActorCell>> iterator = routingTable.getCells().entrySet().iterator();
 					while (iterator.hasNext()) {
 						InternalActorCell cell = iterator.next().getValue();
 						if (cell.isRootInUser() || cell.isRootInSystem() )
@@ -904,7 +889,7 @@ public abstract class ActorSystemImpl implements InternalActorRuntimeSystem {
 							Thread.currentThread().interrupt();
 						}
 					}
-					messageDispatcher.unregisterCell(cells.get(PSEUDO_ID));
+					messageDispatcher.unregisterCell(routingTable.getCell(PSEUDO_ID));
 					removeActor(PSEUDO_ID);
 					
 					executorService.shutdown(await);
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+/*
+ * State of an actor thread after the last health check of the watchdog (see DefaultWatchdogRunnable).
+ */
+public enum ActorThreadHealth {
+	HEALTHY,		// answered within the degraded threshold
+	DEGRADED,		// answered within the timeout, but slower than the degraded threshold
+	UNRESPONSIVE	// not answered within the timeout
+}
@@ -89,6 +89,13 @@ public class ActorTimerExecutorService implements ActorTimer {
 	public ActorTimerExecutorService(InternalActorSystem system, int corePoolSize) {
 		this(system, corePoolSize, "actor4j-timer-thread");
 	}
+	
+	/*
+	 * Returns the number of scheduled (and not yet started) tasks.
+	 */
+	public int getQueueSize() {
+		return timerExecutorService instanceof ScheduledThreadPoolExecutor executor ? executor.getQueue().size() : 0;
+	}
 		
 	public ScheduledFuture<?> scheduleOnce(Runnable command, long delay, TimeUnit unit) {
 		return !timerExecutorService.isShutdown() ? timerExecutorService.schedule(command, delay, unit) : CanceledScheduledFuture.create();
@@ -19,6 +19,7 @@ package io.actor4j.core.runtime;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -34,6 +35,7 @@ import java.util.function.Function;
 
 import io.actor4j.core.ActorSystem;
 import io.actor4j.core.actors.Actor;
+import io.actor4j.core.actors.OverflowPolicy;
 import io.actor4j.core.actors.PersistenceId;
 import io.actor4j.core.actors.PersistentActor;
 import io.actor4j.core.exceptions.ActorInitializationException;
@@ -42,12 +44,14 @@ import io.actor4j.core.immutable.ImmutableList;
 import io.actor4j.core.json.JsonObject;
 import io.actor4j.core.messages.ActorMessage;
 import io.actor4j.core.persistence.ActorPersistenceDTO;
+import io.actor4j.core.runtime.jfr.ActorLifecycleEvent;
 import io.actor4j.core.runtime.persistence.actor.PersistenceServiceActor;
 import io.actor4j.core.runtime.protocols.RecoverProtocol;
 import io.actor4j.core.runtime.protocols.RestartProtocol;
 import io.actor4j.core.runtime.protocols.StopProtocol;
 import io.actor4j.core.supervisor.SupervisorStrategy;
 import io.actor4j.core.utils.ActorFactory;
+import io.actor4j.core.utils.LatencyHistogram;
 
 import static io.actor4j.core.actors.Actor.*;
 import static io.actor4j.core.logging.ActorLogger.*;
@@ -82,12 +86,15 @@ public class BaseActorCell implements InternalActorCell {
 	protected final Queue<PersistenceTuple> persistenceTuples;
 	
 	protected final AtomicLong requestRate;
-	protected final Queue<Long> processingTimeStatistics;
+	protected final LatencyHistogram processingTimeStatistics;
 	
 	protected SupervisorStrategy parentSupervisorStrategy;
 	
+	protected volatile ActorCellMailbox mailbox; // only with ActorDispatcherMode.CELL_MAILBOXES
+	protected /*quasi final*/ ActorCellDispatch dispatch;
+	
 	public BaseActorCell(InternalActorSystem system, Actor actor) {
-		this(system, actor, UUID.randomUUID());
+		this(system, actor, system.getRoutingTable().createId()); // compact address
 	}
 			
 	public BaseActorCell(InternalActorSystem system, Actor actor, UUID id) {
@@ -97,7 +104,12 @@ public class BaseActorCell implements InternalActorCell {
 		this.actor  = actor;
 		
 		UUID persistenceId = persistenceId();
-		this.id = (persistenceId!=null)? persistenceId : id;
+		if (persistenceId!=null) {
+			system.getRoutingTable().release(id); // unused compact address
+			this.id = persistenceId;
+		}
+		else
+			this.id = id;
 		
 		children = new ConcurrentLinkedQueue<>();
 		
@@ -111,6 +123,8 @@ public class BaseActorCell implements InternalActorCell {
 		
 		deathWatcher =  new ConcurrentLinkedQueue<>();
 		
+		dispatch = createDispatch(actor);
+		
 		processedDirective = new Function<ActorMessage<?>, Boolean>() {
 			@Override
 			public Boolean apply(ActorMessage<?> message) {
@@ -129,8 +143,10 @@ public class BaseActorCell implements InternalActorCell {
 					}
 					else if (message.tag()==INTERNAL_STOP)
 						stop();
-					else if (message.tag()==INTERNAL_KILL) 
+					else if (message.tag()==INTERNAL_KILL) {
+						ActorLifecycleEvent.commit(BaseActorCell.this, ActorLifecycleEvent.KILL);
 						throw new ActorKilledException();
+					}
 					else if (message.tag()==INTERNAL_HEALTH_CHECK)
 						send(ActorMessage.create(null, UP, id, message.source()));
 					else if (message.tag()==INTERNAL_ACTIVATE)
@@ -163,7 +179,7 @@ public class BaseActorCell implements InternalActorCell {
 		persistenceTuples = new LinkedList<>();
 		
 		requestRate = new AtomicLong(0);
-		processingTimeStatistics = new ConcurrentLinkedQueue<>();
+		processingTimeStatistics = new LatencyHistogram(false); // count and sum (e.g., rebalancing)
 	}
 	
 	@Override
@@ -178,8 +194,14 @@ public class BaseActorCell implements InternalActorCell {
 	
 	@Override
 	public void setActor(Actor actor) {
+		if (this.actor==null) // instantiated after the cell (e.g., by class), not yet registered
+			dispatch = createDispatch(actor);
 		this.actor = actor;
 	}
+	
+	protected ActorCellDispatch createDispatch(Actor actor) {
+		return new ActorCellDispatch(ActorCellKind.of(actor), actor instanceof OverflowPolicy policy ? policy.overflowPolicy() : null);
+	}
 
 	@Override
 	public UUID getId() {
@@ -277,6 +299,15 @@ public class BaseActorCell implements InternalActorCell {
 			system.getBufferQueue().offer(message.copy());
 	}
 	
+	@Override
+	public void send(Collection<ActorMessage<?>> messages) {
+		if (system.getMessagingEnabled().get())
+			system.getMessageDispatcher().post(messages, id);
+		else
+			for (ActorMessage<?> message : messages)
+				system.getBufferQueue().offer(message.copy());
+	}
+	
 	@Override
 	public void send(ActorMessage<?> message, String alias) {
 		if (system.getMessagingEnabled().get())
@@ -329,12 +360,18 @@ public class BaseActorCell implements InternalActorCell {
 	
 	@Override
 	public void priority(ActorMessage<?> message) {
+		priority(message, system.getConfig().defaultPriorityLevel());
+	}
+	
+	@Override
+	public void priority(ActorMessage<?> message, int level) {
 		if (system.getMessagingEnabled().get())
-			system.getMessageDispatcher().postPriority(message);
+			system.getMessageDispatcher().postPriority(message, level);
 	}
 	
 	@Override
 	public void unhandled(ActorMessage<?> message) {
+		system.getUnhandledCounter().increment();
 		if (system.getConfig().debugUnhandled()) {
 			Actor sourceActor = system.getCells().get(message.source()).getActor();
 			if (sourceActor!=null)
@@ -510,9 +547,14 @@ public class BaseActorCell implements InternalActorCell {
 	}
 
 	@Override
-	public Queue<Long> getProcessingTimeStatistics() {
+	public LatencyHistogram getProcessingTimeStatistics() {
 		return processingTimeStatistics;
 	}
+	
+	@Override
+	public ActorCellDispatch getDispatch() {
+		return dispatch;
+	}
 
 	@Override
 	public SupervisorStrategy getParentSupervisorStrategy() {
@@ -523,4 +565,12 @@ public class BaseActorCell implements InternalActorCell {
 	public void setParentSupervisorStrategy(SupervisorStrategy parentSupervisorStrategy) {
 		this.parentSupervisorStrategy = parentSupervisorStrategy;
 	}
+	
+	public ActorCellMailbox getMailbox() {
+		return mailbox;
+	}
+	
+	public void setMailbox(ActorCellMailbox mailbox) {
+		this.mailbox = mailbox;
+	}
 }
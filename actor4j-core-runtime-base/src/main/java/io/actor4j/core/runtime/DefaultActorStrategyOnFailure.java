@@ -24,6 +24,7 @@ import java.util.Iterator;
 import java.util.UUID;
 
 import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.jfr.ActorSupervisorEvent;
 import io.actor4j.core.supervisor.OneForAllSupervisorStrategy;
 import io.actor4j.core.supervisor.OneForOneSupervisorStrategy;
 import io.actor4j.core.supervisor.SupervisorStrategy;
@@ -37,7 +38,7 @@ public class DefaultActorStrategyOnFailure implements ActorStrategyOnFailure {
 	}
 	
 	protected void oneForOne_directive_resume(InternalActorCell cell) {
-		systemLogger().log(INFO, String.format("[LIFECYCLE] actor (%s) resumed", actorLabel(cell.getActor())));
+		systemLogger().log(INFO, "[LIFECYCLE] actor ({0}) resumed", actorLabel(cell.getActor()));
 	}
 	
 	protected void oneForOne_directive_restart(InternalActorCell cell, Exception reason) {
@@ -102,6 +103,8 @@ public class DefaultActorStrategyOnFailure implements ActorStrategyOnFailure {
 			directive = supervisorStrategy.handle(e);
 		}
 		
+		ActorSupervisorEvent.commit(cell, supervisorStrategy, directive, e);
+		
 		if (supervisorStrategy instanceof OneForOneSupervisorStrategy) { 
 			if (directive==RESUME)
 				oneForOne_directive_resume(cell);
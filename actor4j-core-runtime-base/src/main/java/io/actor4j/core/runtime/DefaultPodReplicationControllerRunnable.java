@@ -28,6 +28,6 @@ public class DefaultPodReplicationControllerRunnable extends PodReplicationContr
 	}
 	
 	public void horizontalPodAutoscaler() {
-		systemLogger().log(DEBUG, String.format("[REPLICATION][AUTOSCALER] sync"));
+		systemLogger().log(DEBUG, "[REPLICATION][AUTOSCALER] sync");
 	}
 }
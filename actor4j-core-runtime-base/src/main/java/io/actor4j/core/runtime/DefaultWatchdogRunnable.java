@@ -17,10 +17,16 @@ package io.actor4j.core.runtime;
 
 import static io.actor4j.core.logging.ActorLogger.*;
 import static io.actor4j.core.runtime.protocols.ActorProtocolTag.*;
+import static io.actor4j.core.utils.ActorUtils.actorLabel;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -33,37 +39,74 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
 import io.actor4j.core.actors.ResourceActor;
 import io.actor4j.core.immutable.ImmutableList;
 import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.jfr.ActorWatchdogEvent;
+import io.actor4j.core.utils.LatencyHistogram;
+import io.actor4j.core.utils.LatencyWindow;
 
+/*
+ * Sends a health check to every actor thread (via its watchdog actor) and measures the round trip times (including 
+ * the mediator). A thread is DEGRADED, if its last round trip or the 90th percentile of its rolling window 
+ * (watchdogWindowSize) exceeds watchdogDegradedThreshold, and UNRESPONSIVE, if it does not answer within watchdogTimeout.
+ */
 public class DefaultWatchdogRunnable extends WatchdogRunnable {
+	protected static final double DEGRADED_PERCENTILE = 90;
+	
 	protected final UUID mediator;
 	protected final AtomicReferenceArray<Boolean> upArray;
 	protected final AtomicInteger downCount;
 	
+	protected final AtomicReferenceArray<ActorThreadHealth> healthArray;
+	protected final LatencyWindow[] roundTripTimeWindows;
+	protected final LatencyHistogram[] roundTripTimeStatistics;
+	
 	public DefaultWatchdogRunnable(InternalActorSystem system, List<UUID> watchdogActors) {
 		super(system, watchdogActors);
 		
 		upArray = new AtomicReferenceArray<>(watchdogActors.size());
-		for (int i=0; i<watchdogActors.size(); i++)
+		healthArray = new AtomicReferenceArray<>(watchdogActors.size());
+		roundTripTimeWindows = new LatencyWindow[watchdogActors.size()];
+		roundTripTimeStatistics = new LatencyHistogram[watchdogActors.size()];
+		for (int i=0; i<watchdogActors.size(); i++) {
 			upArray.getAndSet(i, true);
+			healthArray.getAndSet(i, ActorThreadHealth.HEALTHY);
+			roundTripTimeWindows[i] = new LatencyWindow(system.getConfig().watchdogWindowSize());
+			roundTripTimeStatistics[i] = new LatencyHistogram();
+		}
 		
 		downCount = new AtomicInteger(0);
 		
 		mediator = system.addSystemActor(() -> new ResourceActor("watchdog-controller", true, false) {
 			List<CompletableFuture<Void>> futures;
+			List<Queue<Long>> sendTimes; // of the outstanding health checks per watchdog actor
 			
 			@SuppressWarnings("unchecked")
 			@Override
 			public void receive(ActorMessage<?> message) {
 				if (message.value()!=null && message.value() instanceof ImmutableList) {
 					futures = ((ImmutableList<CompletableFuture<Void>>)message.value()).get();
-					for (UUID dest : watchdogActors)
-						tell(null, INTERNAL_HEALTH_CHECK, dest);
+					if (sendTimes==null) {
+						sendTimes = new ArrayList<>(watchdogActors.size());
+						for (int i=0; i<watchdogActors.size(); i++)
+							sendTimes.add(new ArrayDeque<>());
+					}
+					for (int i=0; i<watchdogActors.size(); i++) {
+						sendTimes.get(i).offer(System.nanoTime());
+						tell(null, INTERNAL_HEALTH_CHECK, watchdogActors.get(i));
+					}
 				}
 				else if (message.tag()==UP && watchdogActors.contains(message.source())) {
 					int index = watchdogActors.indexOf(message.source());
-					upArray.getAndSet(index, true);
-					
-					futures.get(index).complete(null);
+					/* answers arrive in order, a late answer of a previous check is measured, but not counted as up */
+					Long sendTime = sendTimes.get(index).poll();
+					if (sendTime!=null) {
+						long roundTripTime = System.nanoTime()-sendTime;
+						roundTripTimeWindows[index].record(roundTripTime);
+						roundTripTimeStatistics[index].record(roundTripTime);
+					}
+					if (sendTimes.get(index).isEmpty()) {
+						upArray.getAndSet(index, true);
+						futures.get(index).complete(null);
+					}
 				}
 			}
 		});
@@ -76,7 +119,7 @@ public class DefaultWatchdogRunnable extends WatchdogRunnable {
 	
 	@SuppressWarnings("unchecked")
 	public void watchdog() {
-		systemLogger().log(DEBUG, String.format("[WATCHDOG] sync"));
+		systemLogger().log(DEBUG, "[WATCHDOG] sync");
 		
 		for (int i=0; i<upArray.length(); i++)
 			upArray.getAndSet(i, false);
@@ -95,10 +138,40 @@ public class DefaultWatchdogRunnable extends WatchdogRunnable {
 			for (int i=0; i<upArray.length(); i++)
 				if (!upArray.get(i))
 					count++;
+			ActorWatchdogEvent.commit(count, system.getConfig().watchdogTimeout());
 			systemLogger().log(WARN, String.format("[WATCHDOG] Responsiveness reduced (%d %s)", count, count>1 ? "threads" : "thread"));
+			if (((InternalActorExecutorService<?>)system.getExecutorService()).getActorProcessPool().getActorProcessPoolHandler() instanceof DefaultActorProcessPoolHandler<?> poolHandler)
+				for (int i=0; i<upArray.length(); i++)
+					if (!upArray.get(i)) {
+						Long processId = poolHandler.getCellsMap().get(watchdogActors.get(i));
+						ActorProcess process = processId!=null ? poolHandler.getProcessMap().get(processId) : null;
+						InternalActorCell cell = process!=null ? process.getCurrentCell() : null;
+						if (cell!=null)
+							systemLogger().log(WARN, String.format("[WATCHDOG] Thread %d not responsive (in receive: %s)", processId, actorLabel(cell.getActor())));
+					}
 			// e.printStackTrace();
 		}
 		downCount.getAndSet(count);
+		
+		long threshold = system.getConfig().watchdogDegradedThreshold()*1_000_000;
+		for (int i=0; i<upArray.length(); i++) {
+			ActorThreadHealth health = ActorThreadHealth.HEALTHY;
+			if (!upArray.get(i))
+				health = ActorThreadHealth.UNRESPONSIVE;
+			else if (threshold>0 && (roundTripTimeWindows[i].getLast()>threshold || roundTripTimeWindows[i].getValueAtPercentile(DEGRADED_PERCENTILE)>threshold)) {
+				health = ActorThreadHealth.DEGRADED;
+				systemLogger().log(WARN, String.format("[WATCHDOG] Thread %s degraded (round trip: %d ms, p%.0f: %d ms)", threadId(i), 
+					roundTripTimeWindows[i].getLast()/1_000_000, DEGRADED_PERCENTILE, roundTripTimeWindows[i].getValueAtPercentile(DEGRADED_PERCENTILE)/1_000_000));
+			}
+			healthArray.getAndSet(i, health);
+		}
+	}
+	
+	protected Long threadId(int index) {
+		if (((InternalActorExecutorService<?>)system.getExecutorService()).getActorProcessPool().getActorProcessPoolHandler() instanceof DefaultActorProcessPoolHandler<?> poolHandler)
+			return poolHandler.getCellsMap().get(watchdogActors.get(index));
+		else
+			return null;
 	}
 
 	@Override
@@ -122,4 +195,41 @@ public class DefaultWatchdogRunnable extends WatchdogRunnable {
 	public int nonResponsiveThreadsCount() {
 		return downCount.get();
 	}
+	
+	public ActorThreadHealth getThreadHealth(int index) {
+		return healthArray.get(index);
+	}
+	
+	/*
+	 * Returns the health of the actor threads (ProcessID -> ActorThreadHealth).
+	 */
+	public Map<Long, ActorThreadHealth> threadHealth() {
+		Map<Long, ActorThreadHealth> result = new HashMap<>();
+		
+		for (int i=0; i<healthArray.length(); i++) {
+			Long threadId = threadId(i);
+			if (threadId!=null)
+				result.put(threadId, healthArray.get(i));
+		}
+		
+		return result;
+	}
+	
+	public Set<Long> degradedThreads() {
+		Set<Long> result = new HashSet<>();
+		
+		for (Map.Entry<Long, ActorThreadHealth> entry : threadHealth().entrySet())
+			if (entry.getValue()==ActorThreadHealth.DEGRADED)
+				result.add(entry.getKey());
+		
+		return result;
+	}
+	
+	public LatencyWindow getRoundTripTimeWindow(int index) {
+		return roundTripTimeWindows[index];
+	}
+	
+	public LatencyHistogram getRoundTripTimeStatistics(int index) {
+		return roundTripTimeStatistics[index];
+	}
 }
@@ -43,7 +43,7 @@ public class PodActorCell extends BaseActorCell implements InternalPodActorCell
 	
 	@Override
 	public void preStart() {
-		systemLogger().log(INFO, String.format("[REPLICATION] PodActor (%s, %s) starting", getContext().domain(), id));
+		systemLogger().log(INFO, "[REPLICATION] PodActor ({0}, {1}) starting", new Object[] { getContext().domain(), id });
 		super.preStart();
 	}
 }
@@ -17,6 +17,7 @@ package io.actor4j.core.runtime;
 
 import static io.actor4j.core.utils.ActorUtils.*;
 
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
@@ -70,6 +71,11 @@ public class PseudoActorCell extends BaseActorCell implements InternalPseudoActo
 		system.send(message);
 	}
 	
+	@Override
+	public void send(Collection<ActorMessage<?>> messages) {
+		system.send(messages);
+	}
+	
 	@Override
 	public void send(ActorMessage<?> message, String alias) {
 		if (alias!=null) {
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import io.actor4j.core.messages.ActorMessage;
+
+@Name("io.actor4j.MessageDequeue")
+@Label("Message Dequeue")
+@Category({"Actor4j", "Dispatch"})
+@Description("Sampled message, that was taken from a queue of an actor thread for processing")
+public class ActorMessageDequeueEvent extends Event {
+	@Label("Source")
+	String source;
+	@Label("Destination")
+	String dest;
+	@Label("Tag")
+	int tag;
+	@Label("Queue")
+	String queue;
+	@Label("Sojourn Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long sojournTime;
+	
+	public static void commit(ActorMessage<?> message, String queue, long sojournTime) {
+		ActorMessageDequeueEvent event = new ActorMessageDequeueEvent();
+		if (event.shouldCommit()) {
+			event.source = message.source()!=null ? message.source().toString() : null;
+			event.dest = message.dest()!=null ? message.dest().toString() : null;
+			event.tag = message.tag();
+			event.queue = queue;
+			event.sojournTime = sojournTime;
+			event.commit();
+		}
+	}
+}
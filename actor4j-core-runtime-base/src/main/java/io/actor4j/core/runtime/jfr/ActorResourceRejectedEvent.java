@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime.jfr;
+
+import static io.actor4j.core.utils.ActorUtils.actorLabel;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.InternalActorCell;
+
+@Name("io.actor4j.ResourceRejected")
+@Label("Resource Actor Rejection")
+@Category({"Actor4j", "Fault Tolerance"})
+@Description("Message to a resource actor, that was rejected by the resource pool")
+public class ActorResourceRejectedEvent extends Event {
+	@Label("Actor")
+	String actor;
+	@Label("Source")
+	String source;
+	@Label("Tag")
+	int tag;
+	
+	public static void commit(InternalActorCell cell, ActorMessage<?> message) {
+		ActorResourceRejectedEvent event = new ActorResourceRejectedEvent();
+		if (event.shouldCommit()) {
+			event.actor = actorLabel(cell.getActor());
+			event.source = message.source()!=null ? message.source().toString() : null;
+			event.tag = message.tag();
+			event.commit();
+		}
+	}
+}
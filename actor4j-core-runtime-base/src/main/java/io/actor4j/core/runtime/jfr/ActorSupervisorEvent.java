@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime.jfr;
+
+import static io.actor4j.core.utils.ActorUtils.actorLabel;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import io.actor4j.core.runtime.InternalActorCell;
+import io.actor4j.core.supervisor.SupervisorStrategy;
+import io.actor4j.core.supervisor.SupervisorStrategyDirective;
+
+@Name("io.actor4j.Supervisor")
+@Label("Supervisor Decision")
+@Category({"Actor4j", "Fault Tolerance"})
+@Description("Directive of the supervisor strategy for a failed actor")
+public class ActorSupervisorEvent extends Event {
+	@Label("Actor")
+	String actor;
+	@Label("Strategy")
+	Class<?> strategy;
+	@Label("Directive")
+	String directive;
+	@Label("Exception")
+	Class<?> exception;
+	@Label("Message")
+	String message;
+	
+	public static void commit(InternalActorCell cell, SupervisorStrategy strategy, SupervisorStrategyDirective directive, Exception e) {
+		ActorSupervisorEvent event = new ActorSupervisorEvent();
+		if (event.shouldCommit()) {
+			event.actor = actorLabel(cell.getActor());
+			event.strategy = strategy!=null ? strategy.getClass() : null;
+			event.directive = directive!=null ? directive.name() : null;
+			event.exception = e!=null ? e.getClass() : null;
+			event.message = e!=null ? e.getMessage() : null;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime.jfr;
+
+import java.util.UUID;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import io.actor4j.core.messages.ActorMessage;
+
+@Name("io.actor4j.Undelivered")
+@Label("Undelivered Message")
+@Category({"Actor4j", "Dispatch"})
+@Description("Message to an unavailable actor")
+public class ActorUndeliveredEvent extends Event {
+	@Label("Source")
+	String source;
+	@Label("Destination")
+	String dest;
+	@Label("Tag")
+	int tag;
+	
+	public static void commit(ActorMessage<?> message, UUID source, UUID dest) {
+		ActorUndeliveredEvent event = new ActorUndeliveredEvent();
+		if (event.shouldCommit()) {
+			event.source = source!=null ? source.toString() : null;
+			event.dest = dest!=null ? dest.toString() : null;
+			event.tag = message.tag();
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("io.actor4j.WatchdogTimeout")
+@Label("Watchdog Timeout")
+@Category({"Actor4j", "Fault Tolerance"})
+@Description("Actor threads, that did not answer the health check of the watchdog in time")
+public class ActorWatchdogEvent extends Event {
+	@Label("Non-Responsive Threads")
+	int nonResponsiveThreads;
+	@Label("Timeout")
+	@Timespan(Timespan.MILLISECONDS)
+	long timeout;
+	
+	public static void commit(int nonResponsiveThreads, long timeout) {
+		ActorWatchdogEvent event = new ActorWatchdogEvent();
+		if (event.shouldCommit()) {
+			event.nonResponsiveThreads = nonResponsiveThreads;
+			event.timeout = timeout;
+			event.commit();
+		}
+	}
+}
@@ -84,7 +84,7 @@ public class DefaultPodReplicationController implements PodReplicationController
 		
 		if (podReplicationTuple!=null) {
 			if (podReplicationTuple.podConfiguration().shardCount()==1) {
-				systemLogger().log(INFO, String.format("[REPLICATION] Pod (%s) undeploying", domain));
+				systemLogger().log(INFO, "[REPLICATION] Pod ({0}) undeploying", domain);
 				
 				Queue<UUID> queue = system.getPodDomains().get(domain);
 				Iterator<UUID> iterator = queue.iterator();
@@ -93,7 +93,7 @@ public class DefaultPodReplicationController implements PodReplicationController
 					UUID id = iterator.next();
 					InternalPodActorCell cell = ((InternalPodActorCell)system.getCells().get(id));
 					if (!cell.getContext().primaryReplica()) { // does not remove primary replica
-						systemLogger().log(INFO, String.format("[REPLICATION] PodActor (%s, %s) stopping", domain, id));
+						systemLogger().log(INFO, "[REPLICATION] PodActor ({0}, {1}) stopping", new Object[] { domain, id });
 						system.send(ActorMessage.create(null, STOP, system.SYSTEM_ID(), id));
 						iterator.remove();
 						count++;
@@ -105,7 +105,7 @@ public class DefaultPodReplicationController implements PodReplicationController
 				podReplicationMap.put(domain, new PodReplicationTuple(podReplicationTuple.podConfiguration(), podSystemConfiguration));
 			}
 			else {
-				systemLogger().log(INFO, String.format("[REPLICATION] Pod-Shard (%s, SECONDARY, %s) undeploying", domain, shardId));
+				systemLogger().log(INFO, "[REPLICATION] Pod-Shard ({0}, SECONDARY, {1}) undeploying", new Object[] { domain, shardId });
 				
 				Queue<UUID> queue = system.getPodDomains().get(domain);
 				Iterator<UUID> iterator = queue.iterator();
@@ -114,7 +114,7 @@ public class DefaultPodReplicationController implements PodReplicationController
 					UUID id = iterator.next();
 					InternalPodActorCell cell = ((InternalPodActorCell)system.getCells().get(id));
 					if (!cell.getContext().primaryReplica() && cell.getContext().shardId().equalsIgnoreCase(shardId)) { // does not remove primary replica && same shardId
-						systemLogger().log(INFO, String.format("[REPLICATION] PodActor (%s, %s) stopping", domain, id));
+						systemLogger().log(INFO, "[REPLICATION] PodActor ({0}, {1}) stopping", new Object[] { domain, id });
 						system.send(ActorMessage.create(null, STOP, system.SYSTEM_ID(), id));
 						iterator.remove();
 						count++;
@@ -135,13 +135,13 @@ public class DefaultPodReplicationController implements PodReplicationController
 	
 	@Override
 	public void undeployPods(String domain) {
-		systemLogger().log(INFO, String.format("[REPLICATION] Domain '%s' undeploying", domain));
+		systemLogger().log(INFO, "[REPLICATION] Domain ''{0}'' undeploying", domain);
 		
 		Queue<UUID> queue = system.getPodDomains().get(domain);
 		Iterator<UUID> iterator = queue.iterator();
 		while (iterator.hasNext()) {
 			UUID id = iterator.next();
-			systemLogger().log(INFO, String.format("[REPLICATION] PodActor (%s, %s) stopping", domain, id));
+			systemLogger().log(INFO, "[REPLICATION] PodActor ({0}, {1}) stopping", new Object[] { domain, id });
 			system.send(ActorMessage.create(null, STOP, system.SYSTEM_ID(), id));
 			iterator.remove();
 		}
@@ -160,7 +160,7 @@ public class DefaultPodReplicationController implements PodReplicationController
 	}
 	
 	protected void updatePods(String domain, Procedure deployPods) {
-		systemLogger().log(INFO, String.format("[REPLICATION] Domain '%s' updating", domain));
+		systemLogger().log(INFO, "[REPLICATION] Domain ''{0}'' updating", domain);
 		
 		ActorGroup oldPods = new ActorGroupSet();
 		Queue<UUID> queue = system.getPodDomains().get(domain);
@@ -176,7 +176,7 @@ public class DefaultPodReplicationController implements PodReplicationController
 			deployPods.apply();
 		
 		if (oldPods.size()>0) {
-			systemLogger().log(INFO, String.format("[REPLICATION] Outdated PodActor(s) (%s, %s) stopping", domain, oldPods));
+			systemLogger().log(INFO, "[REPLICATION] Outdated PodActor(s) ({0}, {1}) stopping", new Object[] { domain, oldPods });
 			system.broadcast(ActorMessage.create(null, STOP, system.SYSTEM_ID(), null), oldPods);
 		}
 	}
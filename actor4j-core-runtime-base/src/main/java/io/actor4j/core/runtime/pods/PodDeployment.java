@@ -29,7 +29,7 @@ import io.actor4j.core.pods.PodFactory;
 
 public class PodDeployment {
 	public static void deployPods(PodFactory factory, PodConfiguration podConfiguration, PodSystemConfiguration podSystemConfiguration, ActorPodService service, Function<String, Boolean> hasPrimaryReplica) {
-		systemLogger().log(INFO, String.format("[REPLICATION] Domain '%s' deploying", podConfiguration.domain()));
+		systemLogger().log(INFO, "[REPLICATION] Domain ''{0}'' deploying", podConfiguration.domain());
 		
 		if (podSystemConfiguration.currentShardCount()==1)
 			deployPods(factory, podSystemConfiguration.currentReplicaCount(), podConfiguration.domain(), service, hasPrimaryReplica);
@@ -52,13 +52,13 @@ public class PodDeployment {
 						));
 				if (i==0)
 					primaryReplica = false;
-				systemLogger().log(INFO, String.format("[REPLICATION] Pod (%s, %s) deployed", domain, pod.getClass().getName()));
+				systemLogger().log(INFO, "[REPLICATION] Pod ({0}, {1}) deployed", new Object[] { domain, pod.getClass().getName() });
 			}			
 		}
 	}
 	
 	public static void increasePods(PodFactory factory, PodConfiguration podConfiguration, PodSystemConfiguration podSystemConfiguration, int instances, String shardId, ActorPodService service, Function<String, Boolean> hasPrimaryReplica) {
-		systemLogger().log(INFO, String.format("[REPLICATION] Domain '%s' deploying", podConfiguration.domain()));
+		systemLogger().log(INFO, "[REPLICATION] Domain ''{0}'' deploying", podConfiguration.domain());
 		
 		if (podSystemConfiguration.currentShardCount()==1)
 			increasePods(factory, instances, podConfiguration.domain(), service, hasPrimaryReplica);
@@ -78,7 +78,7 @@ public class PodDeployment {
 							false,
 							hasPrimaryReplica
 						));
-				systemLogger().log(INFO, String.format("[REPLICATION] Pod (%s, %s) deployed", domain, pod.getClass().getName()));
+				systemLogger().log(INFO, "[REPLICATION] Pod ({0}, {1}) deployed", new Object[] { domain, pod.getClass().getName() });
 			}			
 		}
 	}
@@ -95,7 +95,7 @@ public class PodDeployment {
 							false,
 							hasPrimaryReplica
 						));
-				systemLogger().log(INFO, String.format("[REPLICATION] Pod-Shard (%s, %s, SECONDARY, %s) deployed", domain, pod.getClass().getName(), shardId));
+				systemLogger().log(INFO, "[REPLICATION] Pod-Shard ({0}, {1}, SECONDARY, {2}) deployed", new Object[] { domain, pod.getClass().getName(), shardId });
 			}			
 		}
 	}
@@ -114,7 +114,7 @@ public class PodDeployment {
 								true,
 								hasPrimaryReplica
 							));
-					systemLogger().log(INFO, String.format("[SHARDING] Pod-Shard (%s, %s, PRIMARY, %s) deployed", podConfiguration.domain(), pod.getClass().getName(), primaryShardIds.get(i)));
+					systemLogger().log(INFO, "[SHARDING] Pod-Shard ({0}, {1}, PRIMARY, {2}) deployed", new Object[] { podConfiguration.domain(), pod.getClass().getName(), primaryShardIds.get(i) });
 				}
 			List<String> secondaryShardIds = podSystemConfiguration.secondaryShardIds();
 			if (secondaryShardIds!=null)
@@ -131,7 +131,7 @@ public class PodDeployment {
 										false,
 										hasPrimaryReplica
 									));
-							systemLogger().log(INFO, String.format("[REPLICATION] Pod-Shard (%s, %s, SECONDARY, %s) deployed", podConfiguration.domain(), pod.getClass().getName(), secondaryShardIds.get(i)));
+							systemLogger().log(INFO, "[REPLICATION] Pod-Shard ({0}, {1}, SECONDARY, {2}) deployed", new Object[] { podConfiguration.domain(), pod.getClass().getName(), secondaryShardIds.get(i) });
 						}
 				}
 		}	
@@ -31,6 +31,7 @@ import io.actor4j.core.messages.ActorMessage;
 import io.actor4j.core.runtime.InternalActorCell;
 import io.actor4j.core.runtime.InternalActorRuntimeSystem;
 import io.actor4j.core.runtime.InternalActorSystem;
+import io.actor4j.core.runtime.jfr.ActorLifecycleEvent;
 
 public class RestartProtocol {
 	protected final InternalActorCell cell;
@@ -42,7 +43,8 @@ public class RestartProtocol {
 	protected void postStop() {
 		cell.postStop();
 		cell.internal_stop();
-		systemLogger().log(INFO, String.format("[LIFECYCLE] actor (%s) stopped", actorLabel(cell.getActor())));
+		ActorLifecycleEvent.commit(cell, ActorLifecycleEvent.STOP);
+		systemLogger().log(INFO, "[LIFECYCLE] actor ({0}) stopped", actorLabel(cell.getActor()));
 	}
 	
 	protected void postRestart(Exception reason) {
@@ -52,7 +54,8 @@ public class RestartProtocol {
 			newActor.setCell(cell);
 			cell.setActor(newActor);
 			cell.postRestart(reason);
-			systemLogger().log(INFO, String.format("[LIFECYCLE] actor (%s) restarted", actorLabel(cell.getActor()))); 
+			ActorLifecycleEvent.commit(cell, ActorLifecycleEvent.RESTART);
+			systemLogger().log(INFO, "[LIFECYCLE] actor ({0}) restarted", actorLabel(cell.getActor())); 
 		} catch (Exception e) {
 			e.printStackTrace();
 			throw new ActorInitializationException(); // never must occur
@@ -28,6 +28,7 @@ import java.util.function.Consumer;
 import io.actor4j.core.messages.ActorMessage;
 import io.actor4j.core.runtime.InternalActorCell;
 import io.actor4j.core.runtime.InternalActorSystem;
+import io.actor4j.core.runtime.jfr.ActorLifecycleEvent;
 
 public class StopProtocol {
 	protected final InternalActorCell cell;
@@ -39,7 +40,8 @@ public class StopProtocol {
 	protected void postStop() {
 		cell.postStop();
 		cell.internal_stop();
-		systemLogger().log(INFO, String.format("[LIFECYCLE] actor (%s) stopped", actorLabel(cell.getActor())));
+		ActorLifecycleEvent.commit(cell, ActorLifecycleEvent.STOP);
+		systemLogger().log(INFO, "[LIFECYCLE] actor ({0}) stopped", actorLabel(cell.getActor()));
 	}
 	
 	public void apply() {
@@ -16,12 +16,14 @@
 package io.actor4j.core.runtime.extended;
 
 import java.util.ArrayDeque;
-import java.util.concurrent.PriorityBlockingQueue;
 
 import org.apache.commons.collections4.queue.CircularFifoQueue;
+import org.jctools.queues.MpmcArrayQueue;
 import org.jctools.queues.MpscArrayQueue;
 import org.jctools.queues.MpscLinkedQueue;
 
+import io.actor4j.core.runtime.ActorOverflowPolicy;
+import io.actor4j.core.runtime.ActorPriorityQueue;
 import io.actor4j.core.runtime.DefaultActorThread;
 import io.actor4j.core.runtime.InternalActorSystem;
 
@@ -33,14 +35,19 @@ public class BoundedActorThread extends DefaultActorThread {
 	@Override
 	public void configQueues() {
 		directiveQueue = new MpscLinkedQueue<>(); /* unbounded */
-		priorityQueue  = new PriorityBlockingQueue<>(system.getConfig().queueSize()); /* unbounded */
+		priorityQueue  = new ActorPriorityQueue(system.getConfig().priorityLevels(), system.getConfig().defaultPriorityLevel(), MpscLinkedQueue::new); /* unbounded */
 		
-		serverQueueL2  = new MpscArrayQueue<>(system.getConfig().queueSize()); /* bounded */
+		/* producers may only remove the head of a multi-consumer queue */
+		multiConsumer = system.getConfig().overflowPolicy()==ActorOverflowPolicy.DROP_OLDEST;
+		
+		serverQueueL2  = multiConsumer ? new MpmcArrayQueue<>(system.getConfig().queueSize()) : new MpscArrayQueue<>(system.getConfig().queueSize()); /* bounded */
 		serverQueueL1  = new ArrayDeque<>(system.getConfig().bufferQueueSize()); /* unbounded */
 		
-		outerQueueL2   = new MpscArrayQueue<>(system.getConfig().queueSize()); /* bounded */
+		outerQueueL2   = multiConsumer ? new MpmcArrayQueue<>(system.getConfig().queueSize()) : new MpscArrayQueue<>(system.getConfig().queueSize()); /* bounded */
 		outerQueueL1   = new ArrayDeque<>(system.getConfig().bufferQueueSize()); /* unbounded */
 		
 		innerQueue     = new CircularFifoQueue<>(system.getConfig().queueSize()); /* bounded */
+		
+		capacity = system.getConfig().queueSize();
 	}
 }
@@ -17,10 +17,10 @@ package io.actor4j.core.runtime.extended;
 
 import java.util.ArrayDeque;
 import java.util.LinkedList;
-import java.util.concurrent.PriorityBlockingQueue;
 
 import org.jctools.queues.MpscLinkedQueue;
 
+import io.actor4j.core.runtime.ActorPriorityQueue;
 import io.actor4j.core.runtime.DefaultActorThread;
 import io.actor4j.core.runtime.InternalActorSystem;
 
@@ -32,7 +32,7 @@ public class UnboundedActorThread extends DefaultActorThread {
 	@Override
 	public void configQueues() {
 		directiveQueue = new MpscLinkedQueue<>(); /* unbounded */
-		priorityQueue  = new PriorityBlockingQueue<>(system.getConfig().queueSize()); /* unbounded */
+		priorityQueue  = new ActorPriorityQueue(system.getConfig().priorityLevels(), system.getConfig().defaultPriorityLevel(), MpscLinkedQueue::new); /* unbounded */
 		
 		serverQueueL2  = new MpscLinkedQueue<>(); /* unbounded */
 		serverQueueL1  = new ArrayDeque<>(system.getConfig().bufferQueueSize()); /* unbounded */
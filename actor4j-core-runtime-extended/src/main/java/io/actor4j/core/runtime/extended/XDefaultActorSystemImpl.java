@@ -27,7 +27,6 @@ import io.actor4j.core.config.XActorServiceConfig;
 import io.actor4j.core.config.XActorSystemConfig;
 import io.actor4j.core.exceptions.ActorInitializationException;
 import io.actor4j.core.runtime.ActorSystemError;
-import io.actor4j.core.runtime.DefaultActorMessageDispatcher;
 import io.actor4j.core.runtime.DefaultActorSystemImpl;
 import io.actor4j.core.runtime.InternalActorCell;
 import io.actor4j.core.runtime.extended.di.DefaultDIContainer;
@@ -43,8 +42,6 @@ public class XDefaultActorSystemImpl extends DefaultActorSystemImpl implements X
 		container = DefaultDIContainer.create(); // override
 //		podReplicationController = new XPodReplicationController(this); // override
 		
-		messageDispatcher = new DefaultActorMessageDispatcher(this);
-		
 		setActorThread(config.unbounded());
 	}
 	
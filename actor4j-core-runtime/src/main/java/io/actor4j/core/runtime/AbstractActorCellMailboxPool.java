@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.utils.LatencyHistogram;
+
+public abstract class AbstractActorCellMailboxPool<M extends ActorCellMailbox> extends AbstractActorProcessPool<M> {
+	protected final ExecutorService executorService;
+	
+	public AbstractActorCellMailboxPool(InternalActorRuntimeSystem system, AbstractActorCellMailboxPoolHandler<M> actorCellMailboxPoolHandler, ExecutorService executorService) {
+		super(system, actorCellMailboxPoolHandler);
+		
+		this.executorService = executorService;
+		
+		actorCellMailboxPoolHandler.beforeStart(executorService);
+	}
+	
+	public void shutdown(Runnable onTermination, boolean await) {
+		executorService.shutdownNow();
+		
+		if (onTermination!=null || await) {
+			Thread waitOnTermination = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						executorService.awaitTermination(system.getConfig().awaitTerminationTimeout(), TimeUnit.MILLISECONDS);
+					} catch (InterruptedException e) {
+						e.printStackTrace();
+					}
+					
+					if (onTermination!=null)
+						onTermination.run();
+				}
+			});
+			
+			waitOnTermination.start();
+			if (await)
+				try {
+					waitOnTermination.join();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	public AbstractActorCellMailboxPoolHandler<M> getActorCellMailboxPoolHandler() {
+		return (AbstractActorCellMailboxPoolHandler<M>)actorProcessPoolHandler;
+	}
+	
+	public boolean postOuter(ActorMessage<?> message) {
+		return getActorCellMailboxPoolHandler().postOuter(message);
+	}
+	
+	public boolean postOuter(ActorMessage<?> message, UUID dest) {
+		return getActorCellMailboxPoolHandler().postOuter(message, dest);
+	}
+	
+	public boolean postQueue(ActorMessage<?> message, BiConsumer<ActorCellMailbox, ActorMessage<?>> biconsumer) {
+		return getActorCellMailboxPoolHandler().postQueue(message, biconsumer);
+	}
+	
+	public void postPersistence(ActorMessage<?> message) {
+		getActorCellMailboxPoolHandler().postPersistence(message);
+	}
+	
+	/*
+	 * The mailboxes are created and removed together with the actor cells (see AbstractActorCellMailboxPoolHandler).
+	 */
+	@Override
+	public List<M> getActorProcessList() {
+		return new ArrayList<>(getActorCellMailboxPoolHandler().getMailboxes());
+	}
+	
+	@Override
+	public List<Boolean> getProcessLoads() {
+		List<Boolean> list = new ArrayList<>();
+		for (M m : getActorCellMailboxPoolHandler().getMailboxes())
+			list.add(m.getLoad().get());
+		return list;
+	}
+	
+	@Override
+	public List<LatencyHistogram> getProcessingTimeStatistics() {
+		List<LatencyHistogram> list = new ArrayList<>();
+		for (M m : getActorCellMailboxPoolHandler().getMailboxes())
+			list.add(m.getProcessingTimeStatistics());
+		return list;
+	}
+	
+	@Override
+	public long getCount() {
+		long sum = 0;
+		for (M m : getActorCellMailboxPoolHandler().getMailboxes())
+			sum += m.getCount();
+		
+		return sum;
+	}
+	
+	@Override
+	public List<Long> getCounts() {
+		List<Long> list = new ArrayList<>();
+		for (M m : getActorCellMailboxPoolHandler().getMailboxes())
+			list.add(m.getCount());
+		return list;
+	}
+	
+	public List<Integer> getOuterQueueSizes() {
+		List<Integer> list = new ArrayList<>();
+		for (M m : getActorCellMailboxPoolHandler().getMailboxes())
+			list.add(m.getOuterQueue().size());
+		return list;
+	}
+}
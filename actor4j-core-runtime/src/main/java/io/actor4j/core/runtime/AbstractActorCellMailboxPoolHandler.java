@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+import io.actor4j.core.actors.ResourceActor;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.persistence.ActorPersistenceServiceImpl;
+
+public abstract class AbstractActorCellMailboxPoolHandler<M extends ActorCellMailbox> implements ActorProcessPoolHandler<M> {
+	protected final InternalActorSystem system;
+	
+	protected /*quasi final*/ Executor executor;
+	
+	public AbstractActorCellMailboxPoolHandler(InternalActorSystem system) {
+		super();
+		
+		this.system = system;
+	}
+	
+	public abstract M getMailbox(UUID id);
+	
+	public abstract Collection<M> getMailboxes();
+	
+	public void beforeStart(Executor executor) {
+		this.executor = executor;
+		
+		for (InternalActorCell cell : system.getCells().values())
+			if (!(cell.getActor() instanceof ResourceActor))
+				registerCell(cell);
+	}
+	
+	@Override
+	public void postPersistence(ActorMessage<?> message) {
+		int index = Math.floorMod(message.source().hashCode(), system.getConfig().parallelism()*system.getConfig().parallelismFactor()); // message.source matches original actor
+		UUID dest = system.getExecutorService().getPersistenceService().getService().getActorFromAlias(ActorPersistenceServiceImpl.getAlias(index));
+		system.getExecutorService().getPersistenceService().getService().send(message.copy(dest));
+	}
+	
+	public boolean postOuter(ActorMessage<?> message) {
+		M mailbox = getMailbox(message.dest());
+		if (mailbox!=null) {
+			mailbox.outerQueue(message.copy());
+			mailbox.newMessage();
+		}
+		
+		return mailbox!=null;
+	}
+	
+	public boolean postOuter(ActorMessage<?> message, UUID dest) {
+		M mailbox = getMailbox(dest);
+		if (mailbox!=null) {
+			mailbox.outerQueue(message.copy(dest));
+			mailbox.newMessage();
+		}
+		
+		return mailbox!=null;
+	}
+	
+	public boolean postServer(ActorMessage<?> message) {
+		M mailbox = getMailbox(message.dest());
+		if (mailbox!=null) {
+			mailbox.serverQueue(message.copy());
+			mailbox.newMessage();
+		}
+		
+		return mailbox!=null;
+	}
+	
+	public boolean postServer(ActorMessage<?> message, UUID dest) {
+		M mailbox = getMailbox(dest);
+		if (mailbox!=null) {
+			mailbox.serverQueue(message.copy(dest));
+			mailbox.newMessage();
+		}
+		
+		return mailbox!=null;
+	}
+	
+	public boolean postQueue(ActorMessage<?> message, BiConsumer<ActorCellMailbox, ActorMessage<?>> biconsumer) {
+		M mailbox = getMailbox(message.dest());
+		if (mailbox!=null) {
+			biconsumer.accept(mailbox, message.copy());
+			mailbox.newMessage();
+		}
+		
+		return mailbox!=null;
+	}
+	
+	public boolean postQueue(ActorMessage<?> message, UUID dest, BiConsumer<ActorCellMailbox, ActorMessage<?>> biconsumer) {
+		M mailbox = getMailbox(dest);
+		if (mailbox!=null) {
+			biconsumer.accept(mailbox, message.copy(dest));
+			mailbox.newMessage();
+		}
+		
+		return mailbox!=null;
+	}
+}
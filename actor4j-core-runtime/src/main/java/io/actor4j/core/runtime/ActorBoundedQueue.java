@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * Lock-free bounded queue (multiple producers, multiple consumers), an array of slots with a sequence per slot. An offer
+ * fails, when the queue is full. The iterator is weakly consistent and read-only.
+ */
+public class ActorBoundedQueue<E> extends AbstractQueue<E> {
+	protected final AtomicReferenceArray<E> buffer;
+	protected final AtomicLongArray sequences; // per slot, the position, that may be written (or read, if +1)
+	protected final int capacity;
+	protected final AtomicLong tail; // next position to write
+	protected final AtomicLong head; // next position to read
+	
+	public ActorBoundedQueue(int capacity) {
+		super();
+		
+		this.capacity = Math.max(1, capacity);
+		buffer = new AtomicReferenceArray<>(this.capacity);
+		sequences = new AtomicLongArray(this.capacity);
+		for (int i=0; i<this.capacity; i++)
+			sequences.set(i, i);
+		tail = new AtomicLong(0);
+		head = new AtomicLong(0);
+	}
+	
+	public int capacity() {
+		return capacity;
+	}
+	
+	@Override
+	public boolean offer(E e) {
+		if (e==null)
+			throw new NullPointerException();
+		
+		for (;;) {
+			long position = tail.get();
+			int index = (int)(position%capacity);
+			long difference = sequences.get(index)-position;
+			if (difference==0) {
+				if (tail.compareAndSet(position, position+1)) {
+					buffer.lazySet(index, e);
+					sequences.set(index, position+1);
+					return true;
+				}
+			}
+			else if (difference<0)
+				return false; // full
+		}
+	}
+	
+	@Override
+	public E poll() {
+		for (;;) {
+			long position = head.get();
+			int index = (int)(position%capacity);
+			long difference = sequences.get(index)-(position+1);
+			if (difference==0) {
+				if (head.compareAndSet(position, position+1)) {
+					E result = buffer.get(index);
+					buffer.lazySet(index, null);
+					sequences.set(index, position+capacity);
+					return result;
+				}
+			}
+			else if (difference<0)
+				return null; // empty (or not yet written)
+		}
+	}
+	
+	@Override
+	public E peek() {
+		for (;;) {
+			long position = head.get();
+			int index = (int)(position%capacity);
+			long difference = sequences.get(index)-(position+1);
+			if (difference==0) {
+				E result = buffer.get(index);
+				if (result!=null && head.get()==position)
+					return result;
+			}
+			else if (difference<0)
+				return null;
+		}
+	}
+	
+	@Override
+	public int size() {
+		long head = this.head.get();
+		long size = tail.get()-head;
+		
+		return (int)Math.max(0, Math.min(capacity, size));
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		return size()==0;
+	}
+	
+	@Override
+	public void clear() {
+		while (poll()!=null);
+	}
+	
+	@Override
+	public Iterator<E> iterator() {
+		List<E> result = new ArrayList<>();
+		
+		long last = tail.get();
+		for (long position=head.get(); position<last; position++) {
+			int index = (int)(position%capacity);
+			E e = buffer.get(index);
+			if (e!=null && sequences.get(index)==position+1)
+				result.add(e);
+		}
+		
+		return Collections.unmodifiableList(result).iterator();
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * The mailboxes are scheduled on a fixed number of threads (asynchronous mode, FIFO order of the scheduled mailboxes).
+ */
+public class ActorCellMailboxPool extends AbstractActorCellMailboxPool<ActorCellMailbox> {
+	public ActorCellMailboxPool(InternalActorRuntimeSystem system) {
+		super(system, new ActorCellMailboxPoolHandler(system), createForkJoinPool(system));
+	}
+	
+	protected static ForkJoinPool createForkJoinPool(InternalActorRuntimeSystem system) {
+		final AtomicInteger index = new AtomicInteger(0);
+		
+		return new ForkJoinPool(system.getConfig().parallelism()*system.getConfig().parallelismFactor(), (pool) -> {
+			ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			t.setName(system.getConfig().name()+"-mailbox-thread-"+index.getAndIncrement());
+			return t;
+		}, null, true);
+	}
+	
+	public ActorCellMailboxPoolHandler getActorCellMailboxPoolHandler() {
+		return (ActorCellMailboxPoolHandler)actorProcessPoolHandler;
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * The mailboxes are owned by the actor cells (no additional lookup per message).
+ */
+public class ActorCellMailboxPoolHandler extends AbstractActorCellMailboxPoolHandler<ActorCellMailbox> {
+	public ActorCellMailboxPoolHandler(InternalActorSystem system) {
+		super(system);
+	}
+	
+	@Override
+	public ActorCellMailbox getMailbox(UUID id) {
+		InternalActorCell cell = system.getCells().get(id);
+		
+		return cell instanceof BaseActorCell baseCell ? baseCell.getMailbox() : null;
+	}
+	
+	@Override
+	public Collection<ActorCellMailbox> getMailboxes() {
+		List<ActorCellMailbox> result = new ArrayList<>();
+		for (InternalActorCell cell : system.getCells().values())
+			if (cell instanceof BaseActorCell baseCell && baseCell.getMailbox()!=null)
+				result.add(baseCell.getMailbox());
+		
+		return result;
+	}
+	
+	@Override
+	public void registerCell(InternalActorCell cell) {
+		if (cell instanceof BaseActorCell baseCell)
+			baseCell.setMailbox(new ActorCellMailbox(system, cell, executor, system.getConfig().mailboxThroughput()));
+	}
+	
+	@Override
+	public void unregisterCell(InternalActorCell cell) {
+		if (cell instanceof BaseActorCell baseCell && baseCell.getMailbox()!=null) {
+			baseCell.getMailbox().unregister();
+			baseCell.setMailbox(null);
+		}
+	}
+	
+	@Override
+	public boolean isRegisteredCell(InternalActorCell cell) {
+		return cell instanceof BaseActorCell baseCell && baseCell.getMailbox()!=null;
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import io.actor4j.core.actors.ActorDistributedGroupMember;
+import io.actor4j.core.actors.ActorGroupMember;
+import io.actor4j.core.actors.PersistentActor;
+import io.actor4j.core.actors.PseudoActor;
+import io.actor4j.core.actors.ResourceActor;
+import io.actor4j.core.messages.ActorMessage;
+
+/*
+ * Moves actor cells (with their pending messages) from the source to the target thread:
+ * 1. target holds the cells (messages for them are buffered), cellsMap is remapped to the target
+ * 2. source waits, until all producers, that could have read the old mapping, have finished dispatching
+ * 3. source extracts the pending messages and hands them over to the target
+ * 4. target processes the handed over messages, then the buffered messages and releases the cells
+ */
+public class ActorCellMigration {
+	protected final DefaultActorThread source;
+	protected final DefaultActorThread target;
+	
+	protected final Set<UUID> cells;
+	protected final UUID groupId; // the group is moved as a whole (ActorGroupMember)
+	protected final List<ActorMessage<?>> messages;
+	
+	protected /*quasi final*/ Map<ActorDispatchEpoch, Long> epochs;
+	
+	public ActorCellMigration(DefaultActorThread source, DefaultActorThread target) {
+		this(source, target, new HashSet<>());
+	}
+	
+	public ActorCellMigration(DefaultActorThread source, DefaultActorThread target, Set<UUID> cells) {
+		this(source, target, cells, null);
+	}
+	
+	public ActorCellMigration(DefaultActorThread source, DefaultActorThread target, Set<UUID> cells, UUID groupId) {
+		super();
+		
+		this.source = source;
+		this.target = target;
+		this.cells = cells;
+		this.groupId = groupId;
+		
+		messages = new ArrayList<>();
+	}
+	
+	public DefaultActorThread getSource() {
+		return source;
+	}
+	
+	public DefaultActorThread getTarget() {
+		return target;
+	}
+	
+	public Set<UUID> getCells() {
+		return cells;
+	}
+	
+	public UUID getGroupId() {
+		return groupId;
+	}
+	
+	public List<ActorMessage<?>> getMessages() {
+		return messages;
+	}
+	
+	public static boolean isMigratable(InternalActorCell cell) {
+		return cell!=null 
+			&& !(cell.getActor() instanceof ActorGroupMember)
+			&& !(cell.getActor() instanceof ActorDistributedGroupMember)
+			&& !(cell.getActor() instanceof PersistentActor)
+			&& !(cell.getActor() instanceof ResourceActor)
+			&& !(cell.getActor() instanceof PseudoActor);
+	}
+	
+	public static boolean isMigratable(InternalActorCell cell, UUID groupId) {
+		if (groupId==null)
+			return isMigratable(cell);
+		else
+			return cell!=null
+				&& cell.getActor() instanceof ActorGroupMember member && groupId.equals(member.getGroupId())
+				&& !(cell.getActor() instanceof ActorDistributedGroupMember)
+				&& !(cell.getActor() instanceof PersistentActor)
+				&& !(cell.getActor() instanceof ResourceActor)
+				&& !(cell.getActor() instanceof PseudoActor);
+	}
+	
+	/*
+	 * Called by the source thread. Only the source thread remaps its cells, cells that are still
+	 * held by the source thread (unfinished migration to the source thread) are skipped.
+	 */
+	public boolean begin(InternalActorSystem system, ActorThreadPoolHandler handler) {
+		Map<UUID, Long> cellsMap = handler.getCellsMap();
+		Long sourceId = source.getId();
+		Long targetId = target.getId();
+		
+		if (groupId!=null) // following group members are registered at the target thread
+			handler.groupsMap.replace(groupId, sourceId, targetId);
+		
+		Iterator<UUID> iterator = cells.iterator();
+		while (iterator.hasNext()) {
+			UUID id = iterator.next();
+			InternalActorCell cell = system.getCells().get(id);
+			if (isMigratable(cell, groupId) && sourceId.equals(cellsMap.get(id)) && !source.heldCells.contains(id)) {
+				target.heldCells.add(id);
+				if (!cellsMap.replace(id, sourceId, targetId)) { // cell was unregistered meanwhile
+					target.heldCells.remove(id);
+					iterator.remove();
+				}
+				else
+					handler.updateDispatch(cell);
+			}
+			else
+				iterator.remove();
+		}
+		
+		if (!cells.isEmpty())
+			epochs = handler.getDispatchEpochs().snapshot();
+		
+		return !cells.isEmpty();
+	}
+	
+	/*
+	 * Called by the source thread.
+	 */
+	public boolean isGracePeriodOver(ActorDispatchEpochs dispatchEpochs) {
+		return dispatchEpochs.isGracePeriodOver(epochs);
+	}
+	
+	/*
+	 * Called by the source thread.
+	 */
+	public void handover() {
+		target.migrationHandovers.offer(this);
+		target.newMessage();
+	}
+	
+	/*
+	 * Called by the source thread.
+	 */
+	public void reject() {
+		target.stealing.set(false);
+	}
+}
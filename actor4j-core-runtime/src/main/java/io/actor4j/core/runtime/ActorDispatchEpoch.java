@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+/*
+ * Per producer thread. The epoch is odd, while the thread is dispatching a message (lookup of the
+ * destination thread and enqueuing). Only the owning thread modifies the epoch.
+ */
+public class ActorDispatchEpoch {
+	protected volatile long epoch;
+	protected int depth; // nested dispatches (e.g. undelivered)
+	
+	public ActorDispatchEpoch() {
+		super();
+		
+		epoch = 0;
+		depth = 0;
+	}
+	
+	public void enter() {
+		if (depth++==0)
+			epoch = epoch+1;
+	}
+	
+	public void exit() {
+		if (--depth==0)
+			epoch = epoch+1;
+	}
+	
+	public long get() {
+		return epoch;
+	}
+	
+	public boolean isDispatching() {
+		return (epoch & 1)==1;
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class ActorDispatchEpochs {
+	protected final InternalActorSystem system;
+	
+	/* 
+	 * Weakly referenced, an epoch is only reachable by its thread (thread local or field), so the epochs of terminated 
+	 * threads are collected and then pruned by snapshot. 
+	 */
+	protected final Queue<WeakReference<ActorDispatchEpoch>> epochs;
+	protected final ThreadLocal<ActorDispatchEpoch> threadLocalEpoch; // for non actor threads
+	
+	public ActorDispatchEpochs(InternalActorSystem system) {
+		super();
+		
+		this.system = system;
+		
+		epochs = new ConcurrentLinkedQueue<>();
+		threadLocalEpoch = ThreadLocal.withInitial(() -> register(new ActorDispatchEpoch()));
+	}
+	
+	public ActorDispatchEpoch register(ActorDispatchEpoch epoch) {
+		epochs.add(new WeakReference<>(epoch));
+		
+		return epoch;
+	}
+	
+	public ActorDispatchEpoch get() {
+		if (Thread.currentThread() instanceof ActorThread t && t.system==system)
+			return t.getDispatchEpoch();
+		else
+			return threadLocalEpoch.get();
+	}
+	
+	/* registered epochs (including those not yet pruned) */
+	public int size() {
+		return epochs.size();
+	}
+	
+	/*
+	 * Captures all producers, that are currently dispatching. A producer, that enters later,
+	 * sees the already updated cellsMap.
+	 */
+	public Map<ActorDispatchEpoch, Long> snapshot() {
+		Map<ActorDispatchEpoch, Long> result = new HashMap<>();
+		for (Iterator<WeakReference<ActorDispatchEpoch>> iterator = epochs.iterator(); iterator.hasNext();) {
+			ActorDispatchEpoch epoch = iterator.next().get();
+			if (epoch==null) {
+				iterator.remove(); // thread terminated
+				continue;
+			}
+			
+			long value = epoch.get();
+			if ((value & 1)==1)
+				result.put(epoch, value);
+		}
+		
+		return result;
+	}
+	
+	public boolean isGracePeriodOver(Map<ActorDispatchEpoch, Long> snapshot) {
+		for (Map.Entry<ActorDispatchEpoch, Long> entry : snapshot.entrySet())
+			if (entry.getKey().get()==entry.getValue())
+				return false;
+		
+		return true;
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import static io.actor4j.core.logging.ActorLogger.*;
+import static io.actor4j.core.utils.ActorUtils.actorLabel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+import io.actor4j.core.runtime.fault.tolerance.FaultTolerance;
+import io.actor4j.core.runtime.fault.tolerance.FaultToleranceMethod;
+
+/*
+ * Periodically ranks the cells by request rate, processing time and backlog (since the last run) and warns about
+ * receives, that are still in process and exceed the budget (receiveBudget). The backlog of a cell is estimated by
+ * the pending messages of its thread in proportion to the requests of the cell.
+ */
+public class ActorHotspotDetector implements Runnable {
+	protected final UUID uuid; // for failsafe
+	
+	protected final InternalActorSystem system;
+	protected final ActorThreadPool actorThreadPool;
+	
+	protected Map<UUID, Long> requestRates; // ActorCellID -> last request rate
+	protected Map<UUID, Long> processingTimes; // ActorCellID -> last sum of the processing times
+	protected long lastTime;
+	
+	protected volatile ActorHotspotReport report;
+	
+	public ActorHotspotDetector(InternalActorSystem system, ActorThreadPool actorThreadPool) {
+		super();
+		
+		this.system = system;
+		this.actorThreadPool = actorThreadPool;
+		uuid = system.getConfig().idGenerator().generate();
+		
+		requestRates = new HashMap<>();
+		processingTimes = new HashMap<>();
+		lastTime = System.currentTimeMillis();
+		
+		for (ActorThread t : actorThreadPool.getActorProcessList())
+			t.getCellsProcessingTimeEnabled().set(true);
+	}
+	
+	@Override
+	public void run() {
+		FaultTolerance.runAndCatchThrowable(system.getExecutorService().getFaultToleranceManager(), ActorSystemError.HOTSPOT_DETECTION, new FaultToleranceMethod() {
+			@Override
+			public void run(UUID uuid) {
+				detect();
+			}
+			
+			@Override
+			public void error(Throwable t) {
+				t.printStackTrace();
+			}
+			
+			@Override
+			public void postRun() {
+			}
+		}, uuid);
+	}
+	
+	public UUID getUUID() {
+		return uuid;
+	}
+	
+	public ActorHotspotReport getReport() {
+		return report;
+	}
+	
+	public synchronized ActorHotspotReport detect() {
+		ActorThreadPoolHandler handler = actorThreadPool.getActorThreadPoolHandler();
+		long time = System.currentTimeMillis();
+		
+		/* in process receives of the threads */
+		Map<Long, Long> receiveTimes = new HashMap<>(); // ProcessID -> elapsed time
+		Map<Long, Long> backlogs = new HashMap<>();
+		for (ActorThread t : actorThreadPool.getActorProcessList()) {
+			receiveTimes.put(t.getId(), t.getCurrentReceiveTime());
+			backlogs.put(t.getId(), (long)t.getPriorityQueue().size()+t.getServerQueue().size()+t.getOuterQueue().size()+t.getInnerQueue().size());
+		}
+		
+		/* requests and processing times of the cells since the last run */
+		Map<UUID, long[]> deltas = new HashMap<>(); // ActorCellID -> requests, processing time
+		Map<Long, Long> threadRequests = new HashMap<>();
+		Map<UUID, Long> requestRates = new HashMap<>();
+		Map<UUID, Long> processingTimes = new HashMap<>();
+		for (Map.Entry<UUID, Long> entry : handler.getCellsMap().entrySet()) {
+			InternalActorCell cell = system.getCells().get(entry.getKey());
+			if (cell==null)
+				continue;
+			
+			long requestRate = cell.getRequestRate().get();
+			long processingTime = cell.getProcessingTimeStatistics().getSum();
+			requestRates.put(cell.getId(), requestRate);
+			processingTimes.put(cell.getId(), processingTime);
+			
+			long[] delta = new long[] { 
+				requestRate-this.requestRates.getOrDefault(cell.getId(), 0L), 
+				processingTime-this.processingTimes.getOrDefault(cell.getId(), 0L) };
+			deltas.put(cell.getId(), delta);
+			threadRequests.merge(entry.getValue(), delta[0], Long::sum);
+		}
+		this.requestRates = requestRates;
+		this.processingTimes = processingTimes;
+		
+		List<ActorHotspotReport.Entry> entries = new ArrayList<>();
+		List<ActorHotspotReport.Entry> overBudget = new ArrayList<>();
+		for (Map.Entry<UUID, long[]> entry : deltas.entrySet()) {
+			InternalActorCell cell = system.getCells().get(entry.getKey());
+			Long threadId = handler.getCellsMap().get(entry.getKey());
+			ActorThread t = threadId!=null ? handler.getProcessMap().get(threadId) : null;
+			if (cell==null || t==null)
+				continue;
+			
+			long requests = entry.getValue()[0];
+			long threadRequestCount = threadRequests.getOrDefault(threadId, 0L);
+			long backlog = threadRequestCount>0 ? backlogs.getOrDefault(threadId, 0L)*requests/threadRequestCount : 0;
+			long receiveTime = t.getCurrentCell()==cell ? receiveTimes.getOrDefault(threadId, -1L) : -1;
+			
+			ActorHotspotReport.Entry result = new ActorHotspotReport.Entry(cell.getId(), actorLabel(cell.getActor()), t.getName(), 
+				requests, entry.getValue()[1], backlog, receiveTime);
+			entries.add(result);
+			
+			if (receiveTime>=0 && system.getConfig().receiveBudget()>0 && receiveTime>system.getConfig().receiveBudget()*1_000_000) {
+				overBudget.add(result);
+				systemLogger().log(WARN, "[HOTSPOT] Actor {0} in receive for {1,number,#} ms ({2})", 
+					new Object[] { result.actor(), receiveTime/1_000_000, result.thread() });
+			}
+		}
+		
+		int n = system.getConfig().hotspotReportSize();
+		ActorHotspotReport result = new ActorHotspotReport(time, time-lastTime, 
+			top(entries, ActorHotspotReport.Entry::requests, n),
+			top(entries, ActorHotspotReport.Entry::processingTime, n),
+			top(entries, ActorHotspotReport.Entry::backlog, n),
+			overBudget);
+		lastTime = time;
+		report = result;
+		
+		systemLogger().log(DEBUG, "{0}", result); // formatted only when published
+		
+		return result;
+	}
+	
+	protected List<ActorHotspotReport.Entry> top(List<ActorHotspotReport.Entry> entries, ToLongFunction<ActorHotspotReport.Entry> key, int n) {
+		List<ActorHotspotReport.Entry> result = new ArrayList<>();
+		for (ActorHotspotReport.Entry entry : entries)
+			if (key.applyAsLong(entry)>0)
+				result.add(entry);
+		result.sort(Comparator.comparingLong(key).reversed());
+		
+		return result.size()>n ? new ArrayList<>(result.subList(0, n)) : result;
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * Top-N cells of an interval (in ms) ranked by request rate, processing time and (estimated) backlog, together with 
+ * the cells, that are in a receive exceeding the budget at the time of the report.
+ */
+public record ActorHotspotReport(long timestamp, long interval, List<Entry> byRequestRate, List<Entry> byProcessingTime, List<Entry> byBacklog, List<Entry> overBudget) {
+	/*
+	 * The processing time is the sum of the receive times (in ns) within the interval, the receive time is the elapsed 
+	 * time (in ns) of a receive in process (-1, if none).
+	 */
+	public record Entry(UUID id, String actor, String thread, long requests, long processingTime, long backlog, long receiveTime) {
+		public double requestRate(long interval) {
+			return interval>0 ? requests*1000d/interval : 0;
+		}
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append(String.format("[HOTSPOT] report (interval: %d ms)%n", interval));
+		append(builder, "request rate", byRequestRate);
+		append(builder, "processing time", byProcessingTime);
+		append(builder, "backlog", byBacklog);
+		append(builder, "over budget", overBudget);
+		
+		return builder.toString();
+	}
+	
+	protected void append(StringBuilder builder, String title, List<Entry> entries) {
+		builder.append(String.format("  by %s:%n", title));
+		for (Entry entry : entries)
+			builder.append(String.format("    %s [%s] %.1f msg/s, %d ms processing, ~%d backlog%s%n", 
+				entry.actor(), entry.thread(), entry.requestRate(interval), entry.processingTime()/1_000_000, entry.backlog(), 
+				entry.receiveTime()>=0 ? String.format(", in receive for %d ms", entry.receiveTime()/1_000_000) : ""));
+	}
+}
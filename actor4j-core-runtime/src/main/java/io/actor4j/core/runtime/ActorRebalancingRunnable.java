@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import static io.actor4j.core.logging.ActorLogger.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import io.actor4j.core.actors.ActorGroupMember;
+import io.actor4j.core.runtime.fault.tolerance.FaultTolerance;
+import io.actor4j.core.runtime.fault.tolerance.FaultToleranceMethod;
+
+/*
+ * Periodically estimates the utilization of the actor threads (request rate x average processing time
+ * of their cells) and migrates cells from the busiest to the least busy thread. Groups (ActorGroupMember)
+ * are moved as a whole, distributed groups are never moved.
+ */
+public class ActorRebalancingRunnable implements Runnable {
+	protected final UUID uuid; // for failsafe
+	
+	protected final InternalActorSystem system;
+	protected final ActorThreadPool actorThreadPool;
+	
+	protected Map<UUID, Long> requestRates; // ActorCellID -> last request rate
+	protected Map<UUID, long[]> processingTimeStatistics; // ActorCellID -> last count and sum of the processing times
+	
+	protected static class Unit {
+		protected final Set<UUID> cells = new HashSet<>();
+		protected final UUID groupId;
+		protected double cost;
+		
+		public Unit(UUID groupId) {
+			this.groupId = groupId;
+		}
+	}
+	
+	public ActorRebalancingRunnable(InternalActorSystem system, ActorThreadPool actorThreadPool) {
+		super();
+		
+		this.system = system;
+		this.actorThreadPool = actorThreadPool;
+		uuid = system.getConfig().idGenerator().generate();
+		
+		requestRates = new HashMap<>();
+		processingTimeStatistics = new HashMap<>();
+		
+		for (ActorThread t : actorThreadPool.getActorProcessList())
+			t.getCellsProcessingTimeEnabled().set(true);
+	}
+	
+	@Override
+	public void run() {
+		FaultTolerance.runAndCatchThrowable(system.getExecutorService().getFaultToleranceManager(), ActorSystemError.REBALANCING, new FaultToleranceMethod() {
+			@Override
+			public void run(UUID uuid) {
+				rebalance();
+			}
+			
+			@Override
+			public void error(Throwable t) {
+				t.printStackTrace();
+			}
+			
+			@Override
+			public void postRun() {
+			}
+		}, uuid);
+	}
+	
+	public UUID getUUID() {
+		return uuid;
+	}
+	
+	public void rebalance() {
+		systemLogger().log(DEBUG, "[REBALANCING] sync");
+		
+		ActorThreadPoolHandler handler = actorThreadPool.getActorThreadPoolHandler();
+		
+		Map<Long, Double> threadCosts = new HashMap<>();
+		Map<Long, Map<UUID, Unit>> threadUnits = new HashMap<>();
+		for (Long id : handler.getProcessList()) {
+			threadCosts.put(id, 0d);
+			threadUnits.put(id, new HashMap<>());
+		}
+		
+		/* estimates the costs of the cells since the last run */
+		Map<UUID, Long> requests = new HashMap<>();
+		Map<UUID, Double> processingTimes = new HashMap<>();
+		double processingTimeSum = 0;
+		int processingTimeCount = 0;
+		Map<UUID, Long> requestRates = new HashMap<>();
+		Map<UUID, long[]> processingTimeStatistics = new HashMap<>();
+		for (UUID id : handler.getCellsMap().keySet()) {
+			InternalActorCell cell = system.getCells().get(id);
+			if (cell==null)
+				continue;
+			
+			long requestRate = cell.getRequestRate().get();
+			requests.put(id, requestRate-this.requestRates.getOrDefault(id, 0L));
+			requestRates.put(id, requestRate);
+			
+			long[] statistics = new long[] { cell.getProcessingTimeStatistics().getCount(), cell.getProcessingTimeStatistics().getSum() };
+			processingTimeStatistics.put(id, statistics);
+			long[] last = this.processingTimeStatistics.getOrDefault(id, new long[2]);
+			long count = statistics[0]-last[0];
+			if (count>0) {
+				double processingTime = (double)(statistics[1]-last[1])/count;
+				processingTimes.put(id, processingTime);
+				processingTimeSum += processingTime;
+				processingTimeCount++;
+			}
+		}
+		this.requestRates = requestRates;
+		this.processingTimeStatistics = processingTimeStatistics;
+		
+		double processingTimeAverage = processingTimeCount>0 ? processingTimeSum/processingTimeCount : 1;
+		
+		/* assigns the cells to their units (single cell, group) */
+		List<ActorCellMigration> migrations = new ArrayList<>();
+		Map<UUID, Map<Long, Set<UUID>>> strays = new HashMap<>(); // GroupID -> (ProcessID -> ActorCellIDs)
+		for (Map.Entry<UUID, Long> entry : requests.entrySet()) {
+			UUID id = entry.getKey();
+			Long threadId = handler.getCellsMap().get(id);
+			InternalActorCell cell = system.getCells().get(id);
+			if (threadId==null || cell==null || !threadCosts.containsKey(threadId))
+				continue;
+			
+			double cost = entry.getValue()*processingTimes.getOrDefault(id, processingTimeAverage);
+			threadCosts.merge(threadId, cost, Double::sum);
+			
+			if (ActorCellMigration.isMigratable(cell)) {
+				Unit unit = new Unit(null);
+				unit.cells.add(id);
+				unit.cost = cost;
+				threadUnits.get(threadId).put(id, unit);
+			}
+			else if (cell.getActor() instanceof ActorGroupMember member && ActorCellMigration.isMigratable(cell, member.getGroupId())) {
+				Long groupThreadId = handler.groupsMap.get(member.getGroupId());
+				if (Objects.equals(groupThreadId, threadId)) {
+					Unit unit = threadUnits.get(threadId).computeIfAbsent(member.getGroupId(), (key) -> new Unit(key));
+					unit.cells.add(id);
+					unit.cost += cost;
+				}
+				else if (groupThreadId!=null) // not colocated (registered during a previous migration)
+					strays.computeIfAbsent(member.getGroupId(), (key) -> new HashMap<>()).computeIfAbsent(threadId, (key) -> new HashSet<>()).add(id);
+			}
+		}
+		
+		/* restores the colocation of the groups */
+		for (Map.Entry<UUID, Map<Long, Set<UUID>>> entry : strays.entrySet()) {
+			ActorThread target = handler.getProcessMap().get(handler.groupsMap.get(entry.getKey()));
+			for (Map.Entry<Long, Set<UUID>> stray : entry.getValue().entrySet())
+				if (handler.getProcessMap().get(stray.getKey()) instanceof DefaultActorThread source && target instanceof DefaultActorThread)
+					migrations.add(new ActorCellMigration(source, (DefaultActorThread)target, stray.getValue(), entry.getKey()));
+		}
+		
+		/* moves units from the busiest to the least busy thread, as long as the spread is reduced */
+		double mean = threadCosts.values().stream().mapToDouble(Double::doubleValue).average().orElse(0);
+		Map<String, ActorCellMigration> moves = new HashMap<>();
+		for (int i=0; i<threadCosts.size() && mean>0; i++) {
+			Long max = null, min = null;
+			for (Map.Entry<Long, Double> entry : threadCosts.entrySet()) {
+				if (max==null || entry.getValue()>threadCosts.get(max))
+					max = entry.getKey();
+				if (min==null || entry.getValue()<threadCosts.get(min))
+					min = entry.getKey();
+			}
+			double spread = threadCosts.get(max)-threadCosts.get(min);
+			if (threadCosts.get(max)-mean<=system.getConfig().rebalancingThreshold()*mean)
+				break;
+			
+			Unit result = null;
+			for (Unit unit : threadUnits.get(max).values())
+				if (unit.cost>0 && unit.cost<spread && (result==null || Math.abs(spread/2-unit.cost)<Math.abs(spread/2-result.cost)))
+					result = unit;
+			if (result==null)
+				break;
+			
+			if (handler.getProcessMap().get(max) instanceof DefaultActorThread source && handler.getProcessMap().get(min) instanceof DefaultActorThread target) {
+				if (result.groupId!=null)
+					migrations.add(new ActorCellMigration(source, target, result.cells, result.groupId));
+				else
+					moves.computeIfAbsent(max+"->"+min, (key) -> new ActorCellMigration(source, target)).getCells().addAll(result.cells);
+			}
+			threadUnits.get(max).values().remove(result);
+			threadCosts.merge(max, -result.cost, Double::sum);
+			threadCosts.merge(min, result.cost, Double::sum);
+		}
+		migrations.addAll(moves.values());
+		
+		for (ActorCellMigration migration : migrations) {
+			systemLogger().log(DEBUG, "[REBALANCING] {0} {1} from {2} to {3}", new Object[] {
+				migration.getCells().size(), migration.getCells().size()>1 ? "cells" : "cell", migration.getSource().getName(), migration.getTarget().getName() });
+			migration.getSource().migrationRequest(migration);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.UUID;
+
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.tracing.ActorTraceContext;
+
+/*
+ * Carries the enqueue timestamp (and the trace context, if traced) of a sampled message through the queues of an 
+ * actor thread. It is unwrapped before the message is processed, so it is never visible to the actor.
+ */
+public record ActorSojournMessage<T>(ActorMessage<T> message, long enqueueTime, ActorQueueKind queue, ActorTraceContext trace) implements ActorMessage<T> {
+	@Override
+	public T value() {
+		return message.value();
+	}
+	
+	@Override
+	public int valueAsInt() {
+		return message.valueAsInt();
+	}
+	
+	@Override
+	public long valueAsLong() {
+		return message.valueAsLong();
+	}
+	
+	@Override
+	public double valueAsDouble() {
+		return message.valueAsDouble();
+	}
+	
+	@Override
+	public int tag() {
+		return message.tag();
+	}
+	
+	@Override
+	public UUID source() {
+		return message.source();
+	}
+	
+	@Override
+	public UUID dest() {
+		return message.dest();
+	}
+	
+	@Override
+	public UUID interaction() {
+		return message.interaction();
+	}
+	
+	@Override
+	public String protocol() {
+		return message.protocol();
+	}
+	
+	@Override
+	public String domain() {
+		return message.domain();
+	}
+	
+	@Override
+	public ActorMessage<T> shallowCopy() {
+		return message.shallowCopy();
+	}
+	
+	@Override
+	public ActorMessage<T> shallowCopy(T value) {
+		return message.shallowCopy(value);
+	}
+	
+	@Override
+	public ActorMessage<T> shallowCopy(int tag) {
+		return message.shallowCopy(tag);
+	}
+	
+	@Override
+	public ActorMessage<T> shallowCopy(T value, int tag) {
+		return message.shallowCopy(value, tag);
+	}
+	
+	@Override
+	public ActorMessage<T> shallowCopy(int tag, String protocol) {
+		return message.shallowCopy(tag, protocol);
+	}
+	
+	@Override
+	public ActorMessage<T> shallowCopy(UUID source, UUID dest) {
+		return message.shallowCopy(source, dest);
+	}
+	
+	@Override
+	public ActorMessage<T> shallowCopy(UUID dest) {
+		return message.shallowCopy(dest);
+	}
+	
+	@Override
+	public ActorMessage<T> shallowCopy(int tag, UUID dest) {
+		return message.shallowCopy(tag, dest);
+	}
+	
+	@Override
+	public ActorMessage<T> copy() {
+		return message.copy();
+	}
+	
+	@Override
+	public ActorMessage<T> copy(UUID dest) {
+		return message.copy(dest);
+	}
+}
@@ -17,17 +17,30 @@ package io.actor4j.core.runtime;
 
 import static io.actor4j.core.logging.ActorLogger.*;
 import static io.actor4j.core.logging.ActorLogger.systemLogger;
+import static io.actor4j.core.utils.ActorUtils.actorLabel;
 
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.actor4j.core.messages.ActorMessage;
 import io.actor4j.core.runtime.fault.tolerance.FaultTolerance;
 import io.actor4j.core.runtime.fault.tolerance.FaultToleranceMethod;
+import io.actor4j.core.runtime.jfr.ActorMessageDequeueEvent;
+import io.actor4j.core.runtime.jfr.ActorMessageEnqueueEvent;
+import io.actor4j.core.runtime.jfr.ActorReceiveEvent;
+import io.actor4j.core.runtime.tracing.ActorTraceContext;
+import io.actor4j.core.runtime.tracing.ActorTracer;
+import io.actor4j.core.utils.LatencyHistogram;
 
 public abstract class ActorThread extends Thread implements ActorProcess {
 	protected final UUID faultToleranceId;
@@ -35,30 +48,52 @@ public abstract class ActorThread extends Thread implements ActorProcess {
 	protected final InternalActorSystem system;
 	
 	protected Runnable onTermination;
+	protected /*quasi final*/ ActorThreadPool actorThreadPool;
 	
 	protected final AtomicLong counter;
 	protected final AtomicBoolean threadLoad;
 	
-	protected final AtomicInteger threadStatisticValuesCounter;
-	protected final Queue<Long> threadProcessingTimeStatistics;
-	
-	protected final AtomicInteger cellsStatisticValuesCounter;
+	protected final LatencyHistogram threadProcessingTimeStatistics;
 	protected final AtomicBoolean cellsProcessingTimeEnabled;
 	
+	protected final AtomicReference<InternalActorCell> currentCell; // in receive (always tracked, e.g. for the watchdog)
+	protected final AtomicLong currentStartTime; // of the receive (only, if the processing time is measured)
+	
+	protected final LatencyHistogram threadSojournTimeStatistics;
+	protected final LatencyHistogram[] queueSojournTimeStatistics; // ActorQueueKind -> LatencyHistogram
+	
+	protected final ActorTracer tracer;
+	protected ActorTraceContext trace; // of the message in process
+	
+	protected final ActorDispatchEpoch dispatchEpoch;
+	protected final Set<UUID> heldCells; // cells, that are migrated to this thread, but not yet handed over
+	protected final Map<UUID, Queue<ActorMessage<?>>> heldMessages;
+	
 	public ActorThread(ThreadGroup group, String name, InternalActorSystem system) {
 		super(group, name);
 		
 		this.system = system;
-		faultToleranceId = UUID.randomUUID();
+		faultToleranceId = system.getConfig().idGenerator().generate();
 		
 		threadLoad = new AtomicBoolean(false);
 		counter = new AtomicLong(0);
 		
-		threadStatisticValuesCounter = new AtomicInteger(0);
-		threadProcessingTimeStatistics = new ConcurrentLinkedQueue<>();
-		
-		cellsStatisticValuesCounter = new AtomicInteger(0);
+		threadProcessingTimeStatistics = new LatencyHistogram();
 		cellsProcessingTimeEnabled = new AtomicBoolean(false);
+		
+		currentCell = new AtomicReference<>();
+		currentStartTime = new AtomicLong(0);
+		
+		threadSojournTimeStatistics = new LatencyHistogram();
+		queueSojournTimeStatistics = new LatencyHistogram[ActorQueueKind.values().length];
+		for (int i=0; i<queueSojournTimeStatistics.length; i++)
+			queueSojournTimeStatistics[i] = new LatencyHistogram();
+		
+		tracer = system instanceof DefaultInternalActorRuntimeSystem runtimeSystem ? runtimeSystem.getTracer() : null;
+		
+		dispatchEpoch = new ActorDispatchEpoch();
+		heldCells = ConcurrentHashMap.newKeySet();
+		heldMessages = new HashMap<>();
 	}
 	
 	@Override
@@ -67,27 +102,30 @@ public abstract class ActorThread extends Thread implements ActorProcess {
 	}
 	
 	protected void faultToleranceMethod(ActorMessage<?> message, InternalActorCell cell) {
+		ActorReceiveEvent event = new ActorReceiveEvent();
+		event.begin();
+		currentCell.lazySet(cell); // single ordered store, no fence
 		try {
 			if (system.getConfig().threadProcessingTimeEnabled().get() || cellsProcessingTimeEnabled.get()) {
-				boolean threadStatisticsEnabled = threadStatisticValuesCounter.get()<system.getConfig().maxStatisticValues();
-				boolean cellsStatisticsEnabled = cellsStatisticValuesCounter.get()<system.getConfig().maxStatisticValues();
-				
-				if (threadStatisticsEnabled || cellsStatisticsEnabled) {
-					long startTime = System.nanoTime();
+				long startTime = System.nanoTime();
+				currentStartTime.lazySet(startTime);
+				try {
 					cell.internal_receive(message);
-					long stopTime = System.nanoTime();
-					
-					if (threadStatisticsEnabled && system.getConfig().threadProcessingTimeEnabled().get()) {
-						threadProcessingTimeStatistics.offer(stopTime-startTime);
-						threadStatisticValuesCounter.incrementAndGet();
-					}
-					if (cellsStatisticsEnabled && cellsProcessingTimeEnabled.get()) {
-						cell.getProcessingTimeStatistics().offer(stopTime-startTime);
-						cellsStatisticValuesCounter.incrementAndGet();
-					}
 				}
-				else
-					cell.internal_receive(message);
+				finally {
+					currentStartTime.lazySet(0);
+				}
+				long stopTime = System.nanoTime();
+				
+				if (system.getConfig().threadProcessingTimeEnabled().get())
+					threadProcessingTimeStatistics.record(stopTime-startTime);
+				if (cellsProcessingTimeEnabled.get()) {
+					cell.getProcessingTimeStatistics().record(stopTime-startTime);
+					if (system.getConfig().hotspotDetectionEnabled() && system.getConfig().receiveBudget()>0 
+						&& stopTime-startTime>system.getConfig().receiveBudget()*1_000_000)
+						systemLogger().log(WARN, "[HOTSPOT] Receive of actor {0} exceeded the budget ({1,number,#} ms, tag: {2,number,#})", 
+							new Object[] { actorLabel(cell.getActor()), (stopTime-startTime)/1_000_000, message.tag() });
+				}
 			}
 			else
 				cell.internal_receive(message);
@@ -95,7 +133,11 @@ public abstract class ActorThread extends Thread implements ActorProcess {
 		catch(Exception e) {
 			system.getExecutorService().getFaultToleranceManager().notifyErrorHandler(e, ActorSystemError.ACTOR, cell.getId());
 			system.getActorStrategyOnFailure().handle(cell, e);
-		}	
+		}
+		finally {
+			currentCell.lazySet(null);
+		}
+		event.end(cell, message);
 	}
 	
 	protected boolean poll(Queue<ActorMessage<?>> queue) {
@@ -103,13 +145,10 @@ public abstract class ActorThread extends Thread implements ActorProcess {
 		
 		ActorMessage<?> message = queue.poll();
 		if (message!=null) {
-			InternalActorCell cell = system.getCells().get(message.dest());
-			if (cell!=null) {
-				cell.getRequestRate().getAndIncrement();
-				faultToleranceMethod(message, cell);
-			}
-			if (system.getConfig().counterEnabled().get())
-				counter.getAndIncrement();
+			if (isHeldCell(message.dest()))
+				heldMessages.computeIfAbsent(message.dest(), (id) -> new ArrayDeque<>()).offer(message);
+			else
+				process(message);
 			
 			result = true;
 		} 
@@ -117,16 +156,89 @@ public abstract class ActorThread extends Thread implements ActorProcess {
 		return result;
 	}
 	
+	protected void process(ActorMessage<?> message) {
+		ActorSojournMessage<?> sojournMessage = null;
+		long sojournTime = 0;
+		if (message instanceof ActorSojournMessage<?> m) {
+			sojournMessage = m;
+			sojournTime = System.nanoTime()-sojournMessage.enqueueTime();
+			threadSojournTimeStatistics.record(sojournTime);
+			queueSojournTimeStatistics[sojournMessage.queue().ordinal()].record(sojournTime);
+			ActorMessageDequeueEvent.commit(sojournMessage, sojournMessage.queue().name(), sojournTime);
+			message = sojournMessage.message();
+		}
+		
+		InternalActorCell cell = system.getCells().get(message.dest());
+		if (cell!=null) {
+			cell.getRequestRate().getAndIncrement();
+			if (sojournMessage!=null && sojournMessage.trace()!=null && tracer!=null) {
+				trace = sojournMessage.trace();
+				long startTime = System.nanoTime();
+				faultToleranceMethod(message, cell);
+				tracer.record(trace, cell, message, sojournMessage.queue(), sojournTime, System.nanoTime()-startTime);
+				trace = null;
+			}
+			else
+				faultToleranceMethod(message, cell);
+		}
+		if (system.getConfig().counterEnabled().get())
+			counter.getAndIncrement();
+	}
+	
+	/*
+	 * Timestamps 1 in N messages on enqueue (N = sojournSampleRate), their waiting time is recorded by this thread 
+	 * before processing. While a flight recording is running, flightRecorderSampleRate is used as fallback.
+	 */
+	protected <T> ActorMessage<T> sample(ActorMessage<T> message, ActorQueueKind queue) {
+		ActorTraceContext trace = tracer!=null ? tracer.next(message) : null;
+		if (trace!=null) {
+			ActorMessageEnqueueEvent.commit(message, queue.name());
+			return new ActorSojournMessage<>(message, System.nanoTime(), queue, trace);
+		}
+		
+		int sampleRate = system.getConfig().sojournSampleRate();
+		if (sampleRate==0 && ActorMessageEnqueueEvent.isRecording())
+			sampleRate = system.getConfig().flightRecorderSampleRate();
+		
+		if (sampleRate>0 && (sampleRate==1 || ThreadLocalRandom.current().nextInt(sampleRate)==0)) {
+			ActorMessageEnqueueEvent.commit(message, queue.name());
+			return new ActorSojournMessage<>(message, System.nanoTime(), queue, null);
+		}
+		else
+			return message;
+	}
+	
+	/*
+	 * Returns true, if enqueued messages may need to be sampled.
+	 */
+	protected boolean isSampling() {
+		return system.getConfig().sojournSampleRate()>0 || system.getConfig().traceSampleRate()>0 || ActorMessageEnqueueEvent.isRecording();
+	}
+	
+	public ActorTraceContext getTrace() {
+		return trace;
+	}
+	
+	public boolean isHeldCell(UUID id) {
+		return !heldCells.isEmpty() && heldCells.contains(id);
+	}
+	
 	public abstract void directiveQueue(ActorMessage<?> message);
 	
 	public abstract void priorityQueue(ActorMessage<?> message);
 	
+	public abstract void priorityQueue(ActorMessage<?> message, int level);
+	
 	public abstract void serverQueue(ActorMessage<?> message);
 	
 	public abstract void outerQueue(ActorMessage<?> message);
 	
+	public abstract void outerQueue(Collection<ActorMessage<?>> messages);
+	
 	public abstract void innerQueue(ActorMessage<?> message);
 	
+	public abstract void innerQueue(Collection<ActorMessage<?>> messages);
+	
 	public abstract void onRun();
 	
 	protected abstract void newMessage();
@@ -183,23 +295,38 @@ public abstract class ActorThread extends Thread implements ActorProcess {
 	}
 	
 	@Override
-	public long getProcessingTimeStatistics() {
-		long sum = 0;
-		int count = 0;
-		for (Long value=null; (value=threadProcessingTimeStatistics.poll())!=null; count++) 
-			sum += value;
-		threadStatisticValuesCounter.set(0);
-		
-		return sum>0 ? sum/count : 0;
+	public LatencyHistogram getProcessingTimeStatistics() {
+		return threadProcessingTimeStatistics;
+	}
+
+	public LatencyHistogram getSojournTimeStatistics() {
+		return threadSojournTimeStatistics;
 	}
 	
-	public AtomicInteger getCellsStatisticValuesCounter() {
-		return cellsStatisticValuesCounter;
+	public LatencyHistogram getSojournTimeStatistics(ActorQueueKind queue) {
+		return queueSojournTimeStatistics[queue.ordinal()];
 	}
 
 	public AtomicBoolean getCellsProcessingTimeEnabled() {
 		return cellsProcessingTimeEnabled;
 	}
+	
+	@Override
+	public InternalActorCell getCurrentCell() {
+		return currentCell.get();
+	}
+	
+	/*
+	 * Returns the elapsed time (in ns) of the current receive, or -1 (if not in receive or not measured).
+	 */
+	public long getCurrentReceiveTime() {
+		long startTime = currentStartTime.get();
+		return currentCell.get()!=null && startTime!=0 ? System.nanoTime()-startTime : -1;
+	}
+	
+	public ActorDispatchEpoch getDispatchEpoch() {
+		return dispatchEpoch;
+	}
 
 	public abstract Queue<ActorMessage<?>> getDirectiveQueue();
 	
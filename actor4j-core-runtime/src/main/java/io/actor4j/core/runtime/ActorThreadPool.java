@@ -19,13 +19,23 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.utils.LatencyHistogram;
 
 public class ActorThreadPool extends AbstractActorProcessPool<ActorThread> {
 	protected final CountDownLatch countDownLatch;
 	
+	protected /*quasi final*/ ScheduledExecutorService rebalancingExecutorService;
+	protected /*quasi final*/ ActorRebalancingRunnable rebalancingRunnable;
+	
+	protected /*quasi final*/ ScheduledExecutorService hotspotDetectionExecutorService;
+	protected /*quasi final*/ ActorHotspotDetector hotspotDetector;
+	
 	public ActorThreadPool(DefaultInternalActorRuntimeSystem system) {
 		super(system, new ActorThreadPoolHandler(system));
 		
@@ -40,7 +50,9 @@ public class ActorThreadPool extends AbstractActorProcessPool<ActorThread> {
 						countDownLatch.countDown();
 					}
 				};
+				t.actorThreadPool = this;
 				actorProcessList.add(t);
+				getActorThreadPoolHandler().getDispatchEpochs().register(t.getDispatchEpoch());
 			}
 			catch (Exception e) {
 				e.printStackTrace();
@@ -50,9 +62,26 @@ public class ActorThreadPool extends AbstractActorProcessPool<ActorThread> {
 		((DefaultActorProcessPoolHandler<ActorThread>)actorProcessPoolHandler).beforeStart(actorProcessList);
 		for (ActorThread t : actorProcessList)
 			t.start();
+		
+		if (system.getConfig().rebalancingEnabled() && actorProcessList.size()>1) {
+			rebalancingExecutorService = new ScheduledThreadPoolExecutor(1, new DefaultThreadFactory("actor4j-rebalancing-thread"));
+			rebalancingRunnable = new ActorRebalancingRunnable(system, this);
+			rebalancingExecutorService.scheduleAtFixedRate(rebalancingRunnable, system.getConfig().rebalancingSyncTime(), system.getConfig().rebalancingSyncTime(), TimeUnit.MILLISECONDS);
+		}
+		
+		if (system.getConfig().hotspotDetectionEnabled()) {
+			hotspotDetectionExecutorService = new ScheduledThreadPoolExecutor(1, new DefaultThreadFactory("actor4j-hotspot-detection-thread"));
+			hotspotDetector = new ActorHotspotDetector(system, this);
+			hotspotDetectionExecutorService.scheduleAtFixedRate(hotspotDetector, system.getConfig().hotspotDetectionSyncTime(), system.getConfig().hotspotDetectionSyncTime(), TimeUnit.MILLISECONDS);
+		}
 	}
 	
 	public void shutdown(Runnable onTermination, boolean await) {
+		if (rebalancingExecutorService!=null)
+			rebalancingExecutorService.shutdownNow();
+		if (hotspotDetectionExecutorService!=null)
+			hotspotDetectionExecutorService.shutdownNow();
+		
 		if (actorProcessList.size()>0) {
 			for (ActorThread t : actorProcessList)
 				t.interrupt();
@@ -89,6 +118,14 @@ public class ActorThreadPool extends AbstractActorProcessPool<ActorThread> {
 		}
 	}
 	
+	public ActorRebalancingRunnable getRebalancingRunnable() {
+		return rebalancingRunnable;
+	}
+	
+	public ActorHotspotDetector getHotspotDetector() {
+		return hotspotDetector;
+	}
+	
 	public ActorThreadPoolHandler getActorThreadPoolHandler() {
 		return (ActorThreadPoolHandler)actorProcessPoolHandler;
 	}
@@ -109,6 +146,13 @@ public class ActorThreadPool extends AbstractActorProcessPool<ActorThread> {
 		getActorThreadPoolHandler().postPersistence(message);
 	}
 	
+	public List<LatencyHistogram> getSojournTimeStatistics() {
+		List<LatencyHistogram> list = new ArrayList<>();
+		for (ActorThread t : actorProcessList)
+			list.add(t.getSojournTimeStatistics());
+		return list;
+	}
+	
 	public List<Integer> getWorkerInnerQueueSizes() {
 		List<Integer> list = new ArrayList<>();
 		for (ActorThread t : actorProcessList)
@@ -15,18 +15,67 @@
  */
 package io.actor4j.core.runtime;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 
 import io.actor4j.core.messages.ActorMessage;
 
 public class ActorThreadPoolHandler extends AbstractActorProcessPoolHandler<ActorThread> {
+	protected final ActorDispatchEpochs dispatchEpochs;
+	
 	public ActorThreadPoolHandler(InternalActorSystem system) {
 		super(system);
+		
+		dispatchEpochs = new ActorDispatchEpochs(system);
+	}
+	
+	public ActorDispatchEpochs getDispatchEpochs() {
+		return dispatchEpochs;
+	}
+	
+	@Override
+	public void beforeStart(List<ActorThread> actorProcessList) {
+		super.beforeStart(actorProcessList);
+		
+		for (InternalActorCell cell : system.getCells().values())
+			updateDispatch(cell);
+	}
+	
+	@Override
+	public void registerCell(InternalActorCell cell) {
+		super.registerCell(cell);
+		updateDispatch(cell);
+	}
+	
+	@Override
+	public void unregisterCell(InternalActorCell cell) {
+		super.unregisterCell(cell);
+		updateDispatch(cell);
+	}
+	
+	/*
+	 * Must be called after each change of the cellsMap entry of the cell.
+	 */
+	public void updateDispatch(InternalActorCell cell) {
+		Long id = cellsMap.get(cell.getId());
+		ActorThread t = id!=null ? processMap.get(id) : null;
+		cell.getDispatch().setProcess(t);
+		if (t instanceof DefaultActorThread defaultActorThread)
+			defaultActorThread.assigned(cell);
 	}
 	
 	public void unsafe_call(ActorMessage<?> message, UUID dest, ActorThread t) {
-		InternalActorCell cell = system.getCells().get(dest);
+		unsafe_call(message, dest, system.getCells().get(dest), t);
+	}
+	
+	public void unsafe_call(ActorMessage<?> message, UUID dest, InternalActorCell cell, ActorThread t) {
+		if (t.isHeldCell(dest)) { // cell is migrated to this thread, but not yet handed over
+			t.innerQueue(message);
+			return;
+		}
+		
 		if (cell!=null) {
 			cell.getRequestRate().getAndIncrement();
 			t.faultToleranceMethod(message, cell);
@@ -35,6 +84,18 @@ public class ActorThreadPoolHandler extends AbstractActorProcessPoolHandler<Acto
 			t.counter.getAndIncrement();
 	}
 	
+	/*
+	 * Fast path for a resolved destination (see ActorCellDispatch), without any map lookup.
+	 */
+	public void unsafe_postInnerOuter(ActorMessage<?> message, InternalActorCell cell, ActorThread t) {
+		if (Thread.currentThread()==t)
+			unsafe_call(message.copy(), cell.getId(), cell, t);
+		else {
+			t.outerQueue(message.copy());
+			t.newMessage();
+		}
+	}
+	
 	public boolean unsafe_postInnerOuter(ActorMessage<?> message, UUID source) {
 		boolean result = false; 
 		
@@ -100,6 +161,17 @@ public class ActorThreadPoolHandler extends AbstractActorProcessPoolHandler<Acto
 		return result;
 	}
 	
+	/*
+	 * Fast path for a resolved destination (see ActorCellDispatch), without any map lookup.
+	 */
+	public void postInnerOuter(ActorMessage<?> message, ActorThread t) {
+		if (Thread.currentThread()==t)
+			t.innerQueue(message.copy());
+		else
+			t.outerQueue(message.copy());
+		t.newMessage();
+	}
+	
 	public boolean postInnerOuter(ActorMessage<?> message, UUID source) {
 		boolean result = false;
 		
@@ -164,6 +236,32 @@ public class ActorThreadPoolHandler extends AbstractActorProcessPoolHandler<Acto
 		return result;
 	}
 	
+	/*
+	 * Each thread receives its batch with one queue operation and at most one wakeup.
+	 */
+	public void postInnerOuter(Map<ActorThread, List<ActorMessage<?>>> batches) {
+		for (Map.Entry<ActorThread, List<ActorMessage<?>>> entry : batches.entrySet()) {
+			ActorThread t = entry.getKey();
+			if (Thread.currentThread()==t)
+				t.innerQueue(entry.getValue());
+			else
+				t.outerQueue(entry.getValue());
+			t.newMessage();
+		}
+	}
+	
+	public void postOuter(Map<ActorThread, List<ActorMessage<?>>> batches) {
+		for (Map.Entry<ActorThread, List<ActorMessage<?>>> entry : batches.entrySet()) {
+			entry.getKey().outerQueue(entry.getValue());
+			entry.getKey().newMessage();
+		}
+	}
+	
+	public void postOuter(ActorMessage<?> message, ActorThread t) {
+		t.outerQueue(message.copy());
+		t.newMessage();
+	}
+	
 	public boolean postOuter(ActorMessage<?> message) {
 		Long id_dest = cellsMap.get(message.dest());
 		if (id_dest!=null) {
@@ -19,7 +19,11 @@ import static io.actor4j.core.logging.ActorLogger.WARN;
 import static io.actor4j.core.logging.ActorLogger.systemLogger;
 import static io.actor4j.core.utils.ActorUtils.*;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiConsumer;
@@ -27,6 +31,7 @@ import java.util.function.Function;
 
 import io.actor4j.core.ActorCell;
 import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.jfr.ActorUndeliveredEvent;
 
 public class DefaultActorMessageDispatcher extends BaseActorMessageDispatcher {
 	protected final Function<ActorMessage<?>, Boolean> consumerPseudo;
@@ -72,11 +77,30 @@ public class DefaultActorMessageDispatcher extends BaseActorMessageDispatcher {
 //		};
 	}
 	
+	/*
+	 * Resolves the thread of an ordinary, not redirected destination with a single lookup (see ActorRoutingTable).
+	 */
+	protected ActorThread resolve(UUID dest) {
+		ActorRoute route = system.getRoutingTable().get(dest);
+		if (route!=null && route.isDirect() && route.cell().getDispatch().getProcess() instanceof ActorThread t)
+			return t;
+		else
+			return null;
+	}
+	
 	@Override
 	public void unsafe_post(ActorMessage<?> message, UUID source, String alias) {
 		if (message==null)
 			throw new NullPointerException();
 		
+		if (alias==null) {
+			ActorRoute route = system.getRoutingTable().get(message.dest());
+			if (route!=null && route.isDirect() && route.cell().getDispatch().getProcess() instanceof ActorThread t) {
+				((DefaultInternalActorExecutorService)system.getExecutorService()).getActorThreadPool().getActorThreadPoolHandler().unsafe_postInnerOuter(message, route.cell(), t);
+				return;
+			}
+		}
+		
 		UUID dest = message.dest();
 		
 		if (alias!=null) {
@@ -109,6 +133,14 @@ public class DefaultActorMessageDispatcher extends BaseActorMessageDispatcher {
 		if (message==null)
 			throw new NullPointerException();
 		
+		if (alias==null) {
+			ActorThread t = resolve(message.dest());
+			if (t!=null) {
+				((DefaultInternalActorExecutorService)system.getExecutorService()).getActorThreadPool().getActorThreadPoolHandler().postInnerOuter(message, t);
+				return;
+			}
+		}
+		
 		UUID dest = message.dest();
 		
 		if (alias!=null) {
@@ -144,13 +176,45 @@ public class DefaultActorMessageDispatcher extends BaseActorMessageDispatcher {
 			((DefaultInternalActorExecutorService)system.getExecutorService()).getActorThreadPool().getActorThreadPoolHandler().postInnerOuter(message, source, dest);
 	}
 	
+	/*
+	 * Messages, that can not be resolved directly (e.g., redirected or addressed to pseudo or resource actors), take the 
+	 * single message path. The batches collected so far are posted before, to retain the order of the messages.
+	 */
+	@Override
+	public void post(Collection<ActorMessage<?>> messages, UUID source) {
+		ActorThreadPoolHandler handler = ((DefaultInternalActorExecutorService)system.getExecutorService()).getActorThreadPool().getActorThreadPoolHandler();
+		
+		Map<ActorThread, List<ActorMessage<?>>> batches = new HashMap<>();
+		for (ActorMessage<?> message : messages) {
+			if (message==null)
+				throw new NullPointerException();
+			
+			ActorThread t = resolve(message.dest());
+			if (t!=null)
+				batches.computeIfAbsent(t, (k) -> new ArrayList<>()).add(message.copy());
+			else {
+				if (!batches.isEmpty()) {
+					handler.postInnerOuter(batches);
+					batches.clear();
+				}
+				post(message, source, null);
+			}
+		}
+		if (!batches.isEmpty())
+			handler.postInnerOuter(batches);
+	}
+	
 	protected void postQueue(ActorMessage<?> message, BiConsumer<ActorThread, ActorMessage<?>> biconsumer) {
+		postQueue(message, true, biconsumer);
+	}
+	
+	protected void postQueue(ActorMessage<?> message, boolean redirectable, BiConsumer<ActorThread, ActorMessage<?>> biconsumer) {
 		if (message==null)
 			throw new NullPointerException();
 		
 		UUID dest = message.dest();
 		
-		UUID redirect = system.getRedirector().get(dest);
+		UUID redirect = redirectable ? system.getRedirector().get(dest) : null;
 		if (redirect!=null) 
 			dest = redirect;
 		
@@ -181,6 +245,12 @@ public class DefaultActorMessageDispatcher extends BaseActorMessageDispatcher {
 		if (message==null)
 			throw new NullPointerException();
 		
+		ActorThread t = resolve(message.dest());
+		if (t!=null) {
+			((DefaultInternalActorExecutorService)system.getExecutorService()).getActorThreadPool().getActorThreadPoolHandler().postOuter(message, t);
+			return;
+		}
+		
 		UUID dest = message.dest();
 		
 		UUID redirect = system.getRedirector().get(dest);
@@ -209,6 +279,30 @@ public class DefaultActorMessageDispatcher extends BaseActorMessageDispatcher {
 		}
 	}
 	
+	@Override
+	public void postOuter(Collection<ActorMessage<?>> messages) {
+		ActorThreadPoolHandler handler = ((DefaultInternalActorExecutorService)system.getExecutorService()).getActorThreadPool().getActorThreadPoolHandler();
+		
+		Map<ActorThread, List<ActorMessage<?>>> batches = new HashMap<>();
+		for (ActorMessage<?> message : messages) {
+			if (message==null)
+				throw new NullPointerException();
+			
+			ActorThread t = resolve(message.dest());
+			if (t!=null)
+				batches.computeIfAbsent(t, (k) -> new ArrayList<>()).add(message.copy());
+			else {
+				if (!batches.isEmpty()) {
+					handler.postOuter(batches);
+					batches.clear();
+				}
+				postOuter(message);
+			}
+		}
+		if (!batches.isEmpty())
+			handler.postOuter(batches);
+	}
+	
 	@Override
 	public void postServer(ActorMessage<?> message) {
 		if (message==null)
@@ -245,22 +339,26 @@ public class DefaultActorMessageDispatcher extends BaseActorMessageDispatcher {
 	/*
 	@Override
 	public void postServer(ActorMessage<?> message) {
-		postQueue(message, (t, msg) -> t.serverQueue(message));
+		postQueue(message, (t, msg) -> t.serverQueue(msg));
 	}
 	*/
 	
 	@Override
-	public void postPriority(ActorMessage<?> message) {
-		postQueue(message, (t, msg) -> t.priorityQueue(message));
+	public void postPriority(ActorMessage<?> message, int level) {
+		postQueue(message, (t, msg) -> t.priorityQueue(msg, level));
 	}
 	
 	@Override
 	public void postDirective(ActorMessage<?> message) {
-		postQueue(message, (t, msg) -> t.directiveQueue(message));
+		postQueue(message, false, (t, msg) -> t.directiveQueue(msg)); // addresses the actor itself, not its redirection
 	}
 	
 	@Override
 	public void undelivered(ActorMessage<?> message, UUID source, UUID dest) {
+		system.getUndeliveredCounter().increment();
+		ActorUndeliveredEvent.commit(message, source, dest);
+		if (system instanceof DefaultInternalActorRuntimeSystem runtimeSystem)
+			runtimeSystem.getDeadLetters().add(message, source, dest);
 		if (system.getConfig().debugUndelivered()) {
 			InternalActorCell cell = system.getCells().get(source);
 		
@@ -15,16 +15,25 @@
  */
 package io.actor4j.core.runtime;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import io.actor4j.core.ActorSystemFactory;
 import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorServiceConfig;
 import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.runtime.deadletters.ActorDeadLetters;
+import io.actor4j.core.runtime.metrics.ActorMetrics;
+import io.actor4j.core.runtime.tracing.ActorTracer;
 
 public class DefaultActorSystemImpl extends ActorSystemImpl implements DefaultInternalActorRuntimeSystem {
 	protected /*quasi final*/ ActorThreadFactory actorThreadFactory;
 	
+	protected final ActorMetrics metrics;
+	protected final ActorTracer tracer;
+	protected final ActorDeadLetters deadLetters;
+	
 	public DefaultActorSystemImpl() {
 		this(null);
 	}
@@ -32,10 +41,30 @@ public class DefaultActorSystemImpl extends ActorSystemImpl implements DefaultIn
 	public DefaultActorSystemImpl(ActorSystemConfig config) {
 		super(config);
 		
-		messageDispatcher = new DefaultActorMessageDispatcher(this);
-		actorThreadFactory  = (group, n, system) -> new DefaultUnboundedActorThread(group, n, system); // TODO -> ActorThreadPool, ActorExecutorService
+		messageDispatcher = createActorMessageDispatcher();
+		// TODO -> ActorThreadPool, ActorExecutorService
+		actorThreadFactory  = (group, n, system) -> isBounded() ? 
+			new DefaultBoundedActorThread(group, n, system) : new DefaultUnboundedActorThread(group, n, system);
+		metrics = new ActorMetrics(this);
+		tracer = new ActorTracer(this);
+		deadLetters = new ActorDeadLetters(this);
 	}
 
+	/*
+	 * Bounded queues, if an overflow policy is set for the system or declared by an actor (OverflowPolicy), that is 
+	 * added before the start. Policies of actors, that are added later, apply only with bounded queues.
+	 */
+	protected boolean isBounded() {
+		if (config.overflowPolicy()!=null)
+			return true;
+		
+		for (InternalActorCell cell : getCells().values())
+			if (cell.getDispatch().getOverflowPolicy()!=null)
+				return true;
+		
+		return false;
+	}
+	
 	@Override
 	public ActorSystemFactory factory() {
 		return (config) -> new DefaultActorSystemImpl(config);
@@ -63,7 +92,52 @@ public class DefaultActorSystemImpl extends ActorSystemImpl implements DefaultIn
 	
 	@Override
 	protected ActorExecutorService createActorExecutorService() {
-		return new DefaultActorExecutorService(this);
+		if (config.dispatcherMode()==ActorDispatcherMode.VIRTUAL_THREADS)
+			return new VirtualActorExecutorService(this);
+		else if (config.dispatcherMode()==ActorDispatcherMode.CELL_MAILBOXES)
+			return new MailboxActorExecutorService(this);
+		else
+			return new DefaultActorExecutorService(this);
+	}
+	
+	protected ActorMessageDispatcher createActorMessageDispatcher() {
+		if (config.dispatcherMode()!=ActorDispatcherMode.THREAD_QUEUES)
+			return new MailboxActorMessageDispatcher(this);
+		else if (config.workStealingMode() || config.rebalancingEnabled())
+			return new MigrationActorMessageDispatcher(this);
+		else
+			return new DefaultActorMessageDispatcher(this);
+	}
+	
+	@Override
+	public boolean setConfig(ActorSystemConfig config) {
+		ActorDispatcherMode dispatcherMode = this.config.dispatcherMode();
+		
+		boolean result = super.setConfig(config);
+		if (result && dispatcherMode!=config.dispatcherMode())
+			setDispatcherMode();
+		else if (result) // e.g., workStealingMode, rebalancingEnabled
+			messageDispatcher = createActorMessageDispatcher();
+		
+		return result;
+	}
+	
+	@Override
+	public boolean setConfig(ActorServiceConfig config) {
+		ActorDispatcherMode dispatcherMode = this.config.dispatcherMode();
+		
+		boolean result = super.setConfig(config);
+		if (result && dispatcherMode!=config.dispatcherMode())
+			setDispatcherMode();
+		else if (result) // e.g., workStealingMode, rebalancingEnabled
+			messageDispatcher = createActorMessageDispatcher();
+		
+		return result;
+	}
+	
+	protected void setDispatcherMode() {
+		executorService = createActorExecutorService();
+		messageDispatcher = createActorMessageDispatcher();
 	}
 	
 	@Override
@@ -75,11 +149,33 @@ public class DefaultActorSystemImpl extends ActorSystemImpl implements DefaultIn
 		this.actorThreadFactory = actorThreadFactory;
 	}
 	
+	public ActorMetrics getMetrics() {
+		return metrics;
+	}
+	
+	@Override
+	public ActorTracer getTracer() {
+		return tracer;
+	}
+	
+	@Override
+	public ActorDeadLetters getDeadLetters() {
+		return deadLetters;
+	}
+	
 	public List<Integer> getWorkerInnerQueueSizes() {
-		return ((DefaultInternalActorExecutorService)executorService).getActorThreadPool().getWorkerInnerQueueSizes();
+		if (executorService instanceof DefaultInternalActorExecutorService defaultExecutorService)
+			return defaultExecutorService.getActorThreadPool().getWorkerInnerQueueSizes();
+		else
+			return new ArrayList<>();
 	}
 
 	public List<Integer> getWorkerOuterQueueSizes() {
-		return ((DefaultInternalActorExecutorService)executorService).getActorThreadPool().getWorkerOuterQueueSizes();
+		if (executorService instanceof DefaultInternalActorExecutorService defaultExecutorService)
+			return defaultExecutorService.getActorThreadPool().getWorkerOuterQueueSizes();
+		else if (((InternalActorExecutorService<?>)executorService).getActorProcessPool() instanceof AbstractActorCellMailboxPool<?> actorCellMailboxPool)
+			return actorCellMailboxPool.getOuterQueueSizes();
+		else
+			return new ArrayList<>();
 	}
 }
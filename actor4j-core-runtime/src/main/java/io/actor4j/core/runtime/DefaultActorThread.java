@@ -15,26 +15,65 @@
  */
 package io.actor4j.core.runtime;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.LockSupport;
 
 import io.actor4j.core.messages.ActorMessage;
 
 public abstract class DefaultActorThread extends ActorThread {
 	protected /*quasi final*/ Queue<ActorMessage<?>> directiveQueue;
-	protected /*quasi final*/ Queue<ActorMessage<?>> priorityQueue;
+	protected /*quasi final*/ ActorPriorityQueue priorityQueue;
 	protected /*quasi final*/ Queue<ActorMessage<?>> innerQueue;
 	protected /*quasi final*/ Queue<ActorMessage<?>> outerQueueL2;
 	protected /*quasi final*/ Queue<ActorMessage<?>> outerQueueL1;
 	protected /*quasi final*/ Queue<ActorMessage<?>> serverQueueL2;
 	protected /*quasi final*/ Queue<ActorMessage<?>> serverQueueL1;
 	
+	protected /*quasi final*/ int capacity;          // of the bounded queues (0, if unbounded)
+	protected /*quasi final*/ boolean multiConsumer; // producers may remove the head of the bounded queues
+	protected final int threshold;                   // of the random early discard
+	protected volatile boolean earlyDiscard;         // a cell of this thread (or the system) applies the random early discard
+	protected final LongAdder overflows;             // discarded or rejected messages
+	
 	protected final Object blocker = new Object();
+	protected volatile boolean parked; // producers unpark only a parked thread
+	protected final LongAdder parks;
+	protected final LongAdder unparks;
+	
+	protected static final long BACKOFF_MIN_PARK_TIME = 10_000; // ns
+	
+	protected final Queue<ActorCellMigration> migrationRequests;  // this thread is the source
+	protected final Queue<ActorCellMigration> migrationHandovers; // this thread is the target
+	protected final List<ActorCellMigration> pendingMigrations;   // waiting for the grace period
+	protected final AtomicBoolean stealing;
 	
 	public DefaultActorThread(ThreadGroup group, String name, InternalActorSystem system) {
 		super(group, name, system);
 		
+		migrationRequests = new ConcurrentLinkedQueue<>();
+		migrationHandovers = new ConcurrentLinkedQueue<>();
+		pendingMigrations = new ArrayList<>();
+		stealing = new AtomicBoolean(false);
+		overflows = new LongAdder();
+		parks = new LongAdder();
+		unparks = new LongAdder();
+		
 		configQueues();
+		threshold = (int)(capacity*system.getConfig().overflowThreshold());
+		earlyDiscard = system.getConfig().overflowPolicy()==ActorOverflowPolicy.RANDOM_EARLY_DISCARD;
 	}
 	
 	
@@ -42,31 +81,156 @@ public abstract class DefaultActorThread extends ActorThread {
 	
 	@Override
 	public void directiveQueue(ActorMessage<?> message) {
-		directiveQueue.offer(message);
+		directiveQueue.offer(sample(message, ActorQueueKind.DIRECTIVE));
 	}
 	
 	@Override
 	public void priorityQueue(ActorMessage<?> message) {
-		priorityQueue.offer(message);
+		priorityQueue.offer(sample(message, ActorQueueKind.PRIORITY));
+	}
+	
+	@Override
+	public void priorityQueue(ActorMessage<?> message, int level) {
+		priorityQueue.offer(sample(message, ActorQueueKind.PRIORITY), level);
 	}
 	
 	@Override
 	public void serverQueue(ActorMessage<?> message) {
-		serverQueueL2.offer(message);
+		offer(serverQueueL2, sample(message, ActorQueueKind.SERVER));
 	}
 	
 	@Override
 	public void outerQueue(ActorMessage<?> message) {
-		outerQueueL2.offer(message);
+		offer(outerQueueL2, sample(message, ActorQueueKind.OUTER));
+	}
+	
+	@Override
+	public void outerQueue(Collection<ActorMessage<?>> messages) {
+		for (ActorMessage<?> message : messages)
+			offer(outerQueueL2, sample(message, ActorQueueKind.OUTER));
 	}
 	
 	@Override
 	public void innerQueue(ActorMessage<?> message) {
-		innerQueue.offer(message);
+		offer(innerQueue, sample(message, ActorQueueKind.INNER));
+	}
+	
+	@Override
+	public void innerQueue(Collection<ActorMessage<?>> messages) {
+		for (ActorMessage<?> message : messages)
+			offer(innerQueue, sample(message, ActorQueueKind.INNER));
+	}
+	
+	/*
+	 * Unbounded queues always accept the message. Bounded queues resolve the overflow policy of the destination, when 
+	 * they are full or filled above the threshold of the random early discard (only, if a cell of this thread or the 
+	 * system applies it). The other policies take effect only when the queue is full.
+	 */
+	protected void offer(Queue<ActorMessage<?>> queue, ActorMessage<?> message) {
+		if ((capacity==0 || queue.size()<(earlyDiscard ? threshold : capacity)) && queue.offer(message))
+			return;
+		
+		overflow(queue, message);
+	}
+	
+	protected void overflow(Queue<ActorMessage<?>> queue, ActorMessage<?> message) {
+		switch (overflowPolicy(message.dest())) {
+			case DROP_NEWEST -> {
+				if (!fits(queue, message))
+					overflows.increment();
+			}
+			case DROP_OLDEST -> {
+				boolean evictable = multiConsumer || Thread.currentThread()==this; // otherwise as DROP_NEWEST
+				while (!fits(queue, message)) {
+					overflows.increment();
+					if (!evictable || queue.poll()==null)
+						break;
+				}
+			}
+			case REJECT -> {
+				if (!fits(queue, message))
+					reject(message);
+			}
+			case BLOCK -> {
+				if (Thread.currentThread()!=this) { // this thread would never free the queue
+					long stopTime = System.nanoTime()+system.getConfig().overflowTimeout()*1_000_000L;
+					for (int i=0; !fits(queue, message); i++) {
+						if (System.nanoTime()>stopTime) {
+							reject(message);
+							break;
+						}
+						newMessage();
+						if (i<system.getConfig().backoffSpins())
+							Thread.onSpinWait();
+						else
+							Thread.yield();
+					}
+				}
+				else if (!fits(queue, message))
+					reject(message);
+			}
+			case RANDOM_EARLY_DISCARD -> {
+				int size = queue.size();
+				if (size>=capacity || ThreadLocalRandom.current().nextInt(capacity-threshold+1)<=size-threshold || !queue.offer(message))
+					overflows.increment();
+			}
+		}
+	}
+	
+	protected boolean fits(Queue<ActorMessage<?>> queue, ActorMessage<?> message) {
+		return queue.size()<capacity && queue.offer(message);
+	}
+	
+	protected void reject(ActorMessage<?> message) {
+		if (message instanceof ActorSojournMessage<?> sojournMessage)
+			message = sojournMessage.message(); // not sampled any longer
+		if (message.dest().equals(system.UNKNOWN_ID()))
+			return; // already rejected, undelivered would retry
+		
+		overflows.increment();
+		system.getMessageDispatcher().undelivered(message, message.source(), message.dest());
+	}
+	
+	protected ActorOverflowPolicy overflowPolicy(UUID dest) {
+		ActorOverflowPolicy result = null;
+		
+		ActorRoute route = system.getRoutingTable().get(dest);
+		if (route!=null && route.cell()!=null)
+			result = route.cell().getDispatch().getOverflowPolicy();
+		if (result==null)
+			result = system.getConfig().overflowPolicy();
+		
+		return result!=null ? result : ActorOverflowPolicy.DROP_NEWEST;
+	}
+	
+	/*
+	 * Called, when a cell is assigned to this thread.
+	 */
+	public void assigned(InternalActorCell cell) {
+		if (!earlyDiscard && cell.getDispatch().getOverflowPolicy()==ActorOverflowPolicy.RANDOM_EARLY_DISCARD)
+			earlyDiscard = true;
+	}
+	
+	public long getOverflowCount() {
+		return overflows.sum();
+	}
+	
+	public long getParkCount() {
+		return parks.sum();
+	}
+	
+	public long getUnparkCount() {
+		return unparks.sum();
+	}
+	
+	public void migrationRequest(ActorCellMigration migration) {
+		migrationRequests.offer(migration);
+		newMessage();
 	}
 	
 	@Override
 	public void onRun() {
+		boolean hasNextMigration;
 		boolean hasNextDirective;
 		boolean hasNextPriority;
 		int hasNextServer;
@@ -74,14 +238,21 @@ public abstract class DefaultActorThread extends ActorThread {
 		int hasNextInner;
 		int idle = 0;
 		int load = 0;
+		int backoff = 0;
 		
 		while (!isInterrupted()) {
+			hasNextMigration = false;
 			hasNextDirective = false;
 			hasNextPriority  = false;
 			hasNextServer    = 0;
 			hasNextOuter     = 0;
 			hasNextInner     = 0;
 			
+			if (!migrationHandovers.isEmpty())
+				hasNextMigration = onMigrationHandover();
+			if (!migrationRequests.isEmpty() || !pendingMigrations.isEmpty())
+				hasNextMigration |= onMigrationRequest();
+			
 			while (poll(directiveQueue)) 
 				hasNextDirective=true;
 			
@@ -110,18 +281,27 @@ public abstract class DefaultActorThread extends ActorThread {
 			
 			for (; hasNextInner<system.getConfig().throughput() && poll(innerQueue); hasNextInner++);
 			
-			if (hasNextInner==0 && hasNextOuter==0 && hasNextServer==0 && !hasNextPriority && !hasNextDirective) {
+			if (hasNextInner==0 && hasNextOuter==0 && hasNextServer==0 && !hasNextPriority && !hasNextDirective && !hasNextMigration) {
 				if (idle>system.getConfig().load()) {
 					load = 0;
 					threadLoad.set(false);
 				}
 				idle++;
-				if (idle>system.getConfig().idle()) {
+				if (system.getConfig().threadMode()==ActorThreadMode.BACKOFF) {
+					if (idle>system.getConfig().idle())
+						idle = system.getConfig().load()+1; // stays marked as idle
+					backoff = backoff(backoff);
+				}
+				else if (idle>system.getConfig().idle()) {
 					idle = 0;
+					if (system.getConfig().workStealingMode())
+						steal();
+					
 					if (system.getConfig().threadMode()==ActorThreadMode.PARK) {
-						LockSupport.park(blocker);
-						if (isInterrupted())
-							interrupt();
+						if (system.getConfig().workStealingMode())
+							park(system.getConfig().sleepTime()*1_000_000L); // retries stealing periodically
+						else
+							park(0);
 					}
 					else if (system.getConfig().threadMode()==ActorThreadMode.SLEEP) {
 						try {
@@ -136,6 +316,7 @@ public abstract class DefaultActorThread extends ActorThread {
 			}
 			else {
 				idle = 0;
+				backoff = 0;
 				if (load>system.getConfig().load())
 					threadLoad.set(true);
 				else
@@ -144,10 +325,196 @@ public abstract class DefaultActorThread extends ActorThread {
 		}		
 	}
 	
+	/*
+	 * Spins first, then yields, then parks with doubling timeouts up to sleepTime.
+	 */
+	protected int backoff(int step) {
+		int spins = system.getConfig().backoffSpins();
+		int yields = system.getConfig().backoffYields();
+		
+		if (step<spins)
+			Thread.onSpinWait();
+		else if (step<spins+yields)
+			Thread.yield();
+		else {
+			if (system.getConfig().workStealingMode())
+				steal();
+			
+			int shift = Math.min(step-spins-yields, 30);
+			park(Math.min(BACKOFF_MIN_PARK_TIME<<shift, system.getConfig().sleepTime()*1_000_000L));
+			
+			return shift<30 ? step+1 : step;
+		}
+		
+		return step+1;
+	}
+	
+	/*
+	 * Announces the parking before the final check of the queues, so that either the producer sees the flag or 
+	 * the message is seen here.
+	 */
+	protected void park(long nanos) {
+		parked = true;
+		if (!hasPendingMessages()) {
+			parks.increment();
+			if (nanos>0)
+				LockSupport.parkNanos(blocker, nanos);
+			else
+				LockSupport.park(blocker);
+		}
+		parked = false;
+		
+		if (isInterrupted())
+			interrupt();
+	}
+	
+	protected boolean hasPendingMessages() {
+		return !directiveQueue.isEmpty() || !priorityQueue.isEmpty() || !serverQueueL2.isEmpty() || !outerQueueL2.isEmpty()
+			|| !migrationRequests.isEmpty() || !migrationHandovers.isEmpty();
+	}
+	
+	protected void steal() {
+		if (stealing.get())
+			return;
+		
+		List<ActorThread> threads = actorThreadPool.getActorProcessList();
+		int offset = ThreadLocalRandom.current().nextInt(threads.size());
+		for (int i=0; i<threads.size(); i++) {
+			ActorThread t = threads.get((offset+i)%threads.size());
+			if (t!=this && t.getLoad().get() && t instanceof DefaultActorThread victim) {
+				stealing.set(true);
+				victim.migrationRequest(new ActorCellMigration(victim, this));
+				break;
+			}
+		}
+	}
+	
+	protected boolean onMigrationHandover() {
+		boolean result = false;
+		
+		ActorCellMigration migration;
+		while ((migration=migrationHandovers.poll())!=null) {
+			for (ActorMessage<?> message : migration.getMessages())
+				process(message);
+			for (UUID id : migration.getCells()) {
+				Queue<ActorMessage<?>> queue = heldMessages.remove(id);
+				if (queue!=null)
+					for (ActorMessage<?> message : queue)
+						process(message);
+				heldCells.remove(id);
+			}
+			stealing.set(false);
+			
+			result = true;
+		}
+		
+		return result;
+	}
+	
+	protected boolean onMigrationRequest() {
+		ActorThreadPoolHandler handler = actorThreadPool.getActorThreadPoolHandler();
+		
+		ActorCellMigration migration;
+		while ((migration=migrationRequests.poll())!=null) {
+			if (migration.getCells().isEmpty()) // steal request, cells are selected by this thread
+				selectCells(migration.getCells(), handler.getCellsMap());
+			
+			if (migration.begin(system, handler))
+				pendingMigrations.add(migration);
+			else
+				migration.reject();
+		}
+		
+		Iterator<ActorCellMigration> iterator = pendingMigrations.iterator();
+		while (iterator.hasNext()) {
+			migration = iterator.next();
+			if (migration.isGracePeriodOver(handler.getDispatchEpochs())) {
+				extract(migration.getCells(), migration.getMessages());
+				migration.handover();
+				iterator.remove();
+			}
+		}
+		
+		return !pendingMigrations.isEmpty();
+	}
+	
+	/*
+	 * Selects the most frequent destination within the head of the queues, as long as another cell stays busy on this thread.
+	 */
+	protected void selectCells(Set<UUID> cells, Map<UUID, Long> cellsMap) {
+		Map<UUID, Integer> frequencies = new HashMap<>();
+		sample(outerQueueL1, frequencies);
+		sample(serverQueueL1, frequencies);
+		sample(innerQueue, frequencies);
+		
+		if (frequencies.size()>1) {
+			UUID result = null;
+			int max = 0;
+			for (Map.Entry<UUID, Integer> entry : frequencies.entrySet())
+				if (entry.getValue()>max && !heldCells.contains(entry.getKey())
+					&& Long.valueOf(getId()).equals(cellsMap.get(entry.getKey()))
+					&& ActorCellMigration.isMigratable(system.getCells().get(entry.getKey()))) {
+					result = entry.getKey();
+					max = entry.getValue();
+				}
+			
+			if (result!=null)
+				cells.add(result);
+		}
+	}
+	
+	protected void sample(Queue<ActorMessage<?>> queue, Map<UUID, Integer> frequencies) {
+		Iterator<ActorMessage<?>> iterator = queue.iterator();
+		for (int i=0; i<system.getConfig().throughput() && iterator.hasNext(); i++)
+			frequencies.merge(iterator.next().dest(), 1, Integer::sum);
+	}
+	
+	/*
+	 * Removes the pending messages of the migrated cells (preserves their order).
+	 */
+	protected void extract(Set<UUID> cells, List<ActorMessage<?>> messages) {
+		extract(directiveQueue, null, cells, messages);
+		extract(priorityQueue, null, cells, messages);
+		extract(serverQueueL1, cells, messages);
+		extract(serverQueueL2, serverQueueL1, cells, messages);
+		extract(outerQueueL1, cells, messages);
+		extract(outerQueueL2, outerQueueL1, cells, messages);
+		extract(innerQueue, cells, messages);
+	}
+	
+	protected void extract(Queue<ActorMessage<?>> queue, Set<UUID> cells, List<ActorMessage<?>> messages) {
+		Iterator<ActorMessage<?>> iterator = queue.iterator();
+		while (iterator.hasNext()) {
+			ActorMessage<?> message = iterator.next();
+			if (cells.contains(message.dest())) {
+				messages.add(message);
+				iterator.remove();
+			}
+		}
+	}
+	
+	/*
+	 * Concurrent queue: the remaining messages are moved to the buffer (or processed, if there is no buffer).
+	 */
+	protected void extract(Queue<ActorMessage<?>> queue, Queue<ActorMessage<?>> buffer, Set<UUID> cells, List<ActorMessage<?>> messages) {
+		ActorMessage<?> message;
+		for (int size=queue.size(); size>0 && (message=queue.poll())!=null; size--)
+			if (cells.contains(message.dest()))
+				messages.add(message);
+			else if (buffer!=null)
+				buffer.offer(message);
+			else if (isHeldCell(message.dest()))
+				heldMessages.computeIfAbsent(message.dest(), (id) -> new ArrayDeque<>()).offer(message);
+			else
+				process(message);
+	}
+	
 	@Override
 	protected void newMessage() {
-		if (system.getConfig().threadMode()==ActorThreadMode.PARK)
-			LockSupport.unpark(this);			
+		if (parked) {
+			unparks.increment();
+			LockSupport.unpark(this);
+		}
 	}
 	
 	@Override
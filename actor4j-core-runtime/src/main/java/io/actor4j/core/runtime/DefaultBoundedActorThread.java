@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class DefaultBoundedActorThread extends DefaultActorThread {
+	public DefaultBoundedActorThread(ThreadGroup group, String name, InternalActorSystem system) {
+		super(group, name, system);
+	}
+	
+	@Override
+	public void configQueues() {
+		directiveQueue = new ConcurrentLinkedQueue<>(); /* unbounded */
+		priorityQueue  = new ActorPriorityQueue(system.getConfig().priorityLevels(), system.getConfig().defaultPriorityLevel()); /* unbounded */
+		
+		serverQueueL2  = new ActorBoundedQueue<>(system.getConfig().queueSize()); /* bounded */
+		serverQueueL1  = new ArrayDeque<>(system.getConfig().bufferQueueSize()); /* unbounded */
+		
+		outerQueueL2   = new ActorBoundedQueue<>(system.getConfig().queueSize()); /* bounded */
+		outerQueueL1   = new ArrayDeque<>(system.getConfig().bufferQueueSize()); /* unbounded */
+		
+		innerQueue     = new ArrayDeque<>(system.getConfig().queueSize()); /* bounded by capacity */
+		
+		capacity = system.getConfig().queueSize();
+		multiConsumer = true;
+	}
+}
@@ -15,6 +15,11 @@
  */
 package io.actor4j.core.runtime;
 
+import io.actor4j.core.runtime.deadletters.ActorDeadLetters;
+import io.actor4j.core.runtime.tracing.ActorTracer;
+
 public interface DefaultInternalActorRuntimeSystem extends InternalActorRuntimeSystem {
 	public ActorThreadFactory getActorThreadFactory();
+	public ActorTracer getTracer();
+	public ActorDeadLetters getDeadLetters();
 }
@@ -16,9 +16,11 @@
 package io.actor4j.core.runtime;
 
 import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.PriorityBlockingQueue;
+
+import io.actor4j.core.messages.ActorMessage;
 
 public class DefaultUnboundedActorThread extends DefaultActorThread {
 	public DefaultUnboundedActorThread(ThreadGroup group, String name, InternalActorSystem system) {
@@ -28,7 +30,7 @@ public class DefaultUnboundedActorThread extends DefaultActorThread {
 	@Override
 	public void configQueues() {
 		directiveQueue = new ConcurrentLinkedQueue<>(); /* unbounded */
-		priorityQueue  = new PriorityBlockingQueue<>(system.getConfig().queueSize()); /* unbounded */
+		priorityQueue  = new ActorPriorityQueue(system.getConfig().priorityLevels(), system.getConfig().defaultPriorityLevel()); /* unbounded */
 		
 		serverQueueL2  = new ConcurrentLinkedQueue<>(); /* unbounded */
 		serverQueueL1  = new ArrayDeque<>(system.getConfig().bufferQueueSize()); /* unbounded */
@@ -38,4 +40,12 @@ public class DefaultUnboundedActorThread extends DefaultActorThread {
 		
 		innerQueue     = new LinkedList<>(); /* unbounded */
 	}
+	
+	@Override
+	public void outerQueue(Collection<ActorMessage<?>> messages) {
+		if (isSampling())
+			super.outerQueue(messages); /* samples each message */
+		else
+			outerQueueL2.addAll(messages); /* links the whole batch with a single CAS */
+	}
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import static io.actor4j.core.logging.ActorLogger.WARN;
+import static io.actor4j.core.logging.ActorLogger.systemLogger;
+import static io.actor4j.core.utils.ActorUtils.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import io.actor4j.core.ActorCell;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.jfr.ActorUndeliveredEvent;
+
+/*
+ * Dispatches directly to the mailbox of the destination actor (ActorDispatcherMode.VIRTUAL_THREADS and CELL_MAILBOXES).
+ */
+public class MailboxActorMessageDispatcher extends BaseActorMessageDispatcher {
+	protected final Function<ActorMessage<?>, Boolean> consumerPseudo;
+	
+	public MailboxActorMessageDispatcher(InternalActorSystem system) {
+		super(system);
+		
+		consumerPseudo = new Function<ActorMessage<?>, Boolean>() {
+			@Override
+			public Boolean apply(ActorMessage<?> msg) {
+				boolean result = false;
+				
+				ActorCell cell = MailboxActorMessageDispatcher.this.system.getPseudoCells().get(msg.dest());
+				if (cell!=null) {
+					((PseudoActorCell)cell).getOuterQueue().offer(msg);
+					result = true;
+				}
+				
+				return result;
+			}
+		};
+	}
+	
+	protected AbstractActorCellMailboxPoolHandler<?> getPoolHandler() {
+		return (AbstractActorCellMailboxPoolHandler<?>)((InternalActorExecutorService<?>)system.getExecutorService()).getActorProcessPool().getActorProcessPoolHandler();
+	}
+	
+	protected UUID resolveAlias(UUID dest, String alias) {
+		if (alias!=null) {
+			List<UUID> destinations = system.getActorsFromAlias(alias);
+			
+			dest = null;
+			if (!destinations.isEmpty()) {
+				if (destinations.size()==1)
+					dest = destinations.get(0);
+				else
+					dest = destinations.get(ThreadLocalRandom.current().nextInt(destinations.size()));
+			}
+			if (dest==null)
+				dest = ALIAS_ID;
+		}
+		
+		return dest;
+	}
+	
+	/*
+	 * There is no calling thread, that owns the destination actor (no inner queue, no direct call).
+	 */
+	@Override
+	public void unsafe_post(ActorMessage<?> message, UUID source, String alias) {
+		if (message==null)
+			throw new NullPointerException();
+		
+		UUID dest = resolveAlias(message.dest(), alias);
+		
+		UUID redirect = system.getRedirector().get(dest);
+		if (redirect!=null)
+			dest = redirect;
+		
+		if (alias==null && redirect==null) {
+			if (!getPoolHandler().postOuter(message))
+				undelivered(message, source, message.dest());
+		}
+		else {
+			if (!getPoolHandler().postOuter(message, dest))
+				undelivered(message, source, dest);
+		}
+	}
+	
+	@Override
+	public void post(ActorMessage<?> message, UUID source, String alias) {
+		if (message==null)
+			throw new NullPointerException();
+		
+		UUID dest = resolveAlias(message.dest(), alias);
+		
+		UUID redirect = system.getRedirector().get(dest);
+		if (redirect!=null)
+			dest = redirect;
+		
+		if (system.getPseudoCells().containsKey(dest)) {
+			consumerPseudo.apply(message.copy(dest));
+			return;
+		}
+		else if (system.getResourceCells().containsKey(dest)) {
+			system.getExecutorService().resource(message.copy(dest));
+			return;
+		}
+		
+		if (alias==null && redirect==null) {
+			if (!getPoolHandler().postOuter(message))
+				undelivered(message, source, message.dest());
+		}
+		else {
+			if (!getPoolHandler().postOuter(message, dest))
+				undelivered(message, source, dest);
+		}
+	}
+	
+	protected void postQueue(ActorMessage<?> message, BiConsumer<ActorCellMailbox, ActorMessage<?>> biconsumer) {
+		postQueue(message, true, biconsumer);
+	}
+	
+	protected void postQueue(ActorMessage<?> message, boolean redirectable, BiConsumer<ActorCellMailbox, ActorMessage<?>> biconsumer) {
+		if (message==null)
+			throw new NullPointerException();
+		
+		UUID dest = message.dest();
+		
+		UUID redirect = redirectable ? system.getRedirector().get(dest) : null;
+		if (redirect!=null)
+			dest = redirect;
+		
+		if (redirect==null) {
+			if (system.getResourceCells().containsKey(dest)) {
+				system.getExecutorService().resource(message.copy());
+				return;
+			}
+			
+			if (!getPoolHandler().postQueue(message, biconsumer))
+				if (!consumerPseudo.apply(message.copy()))
+					undelivered(message, message.source(), message.dest());
+		}
+		else {
+			if (system.getResourceCells().containsKey(dest)) {
+				system.getExecutorService().resource(message.copy(dest));
+				return;
+			}
+			
+			if (!getPoolHandler().postQueue(message, dest, biconsumer))
+				if (!consumerPseudo.apply(message.copy(dest)))
+					undelivered(message, message.source(), dest);
+		}
+	}
+	
+	@Override
+	public void postOuter(ActorMessage<?> message) {
+		postQueue(message, (m, msg) -> m.outerQueue(msg));
+	}
+	
+	@Override
+	public void postServer(ActorMessage<?> message) {
+		postQueue(message, (m, msg) -> m.serverQueue(msg));
+	}
+	
+	@Override
+	public void postPriority(ActorMessage<?> message, int level) {
+		postQueue(message, (m, msg) -> m.priorityQueue(msg, level));
+	}
+	
+	@Override
+	public void postDirective(ActorMessage<?> message) {
+		postQueue(message, false, (m, msg) -> m.directiveQueue(msg)); // addresses the actor itself, not its redirection
+	}
+	
+	@Override
+	public void undelivered(ActorMessage<?> message, UUID source, UUID dest) {
+		system.getUndeliveredCounter().increment();
+		ActorUndeliveredEvent.commit(message, source, dest);
+		if (system instanceof DefaultInternalActorRuntimeSystem runtimeSystem)
+			runtimeSystem.getDeadLetters().add(message, source, dest);
+		if (system.getConfig().debugUndelivered()) {
+			InternalActorCell cell = system.getCells().get(source);
+			
+			getPoolHandler().postOuter(message.shallowCopy(dest), system.UNKNOWN_ID());
+			systemLogger().log(WARN,
+				String.format("[UNDELIVERED] Message (%s) from source (%s) - Unavailable actor (%s)",
+					message.toString(), cell!=null ? actorLabel(cell.getActor()) : source.toString(), dest
+				));
+		}
+	}
+}
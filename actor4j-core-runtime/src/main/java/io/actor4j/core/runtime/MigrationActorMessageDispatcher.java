@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import io.actor4j.core.messages.ActorMessage;
+
+/*
+ * Marks every dispatch with the epoch of the calling thread, so that a migrating thread
+ * can wait for the producers, that may still use the previous cellsMap entry (see ActorCellMigration).
+ */
+public class MigrationActorMessageDispatcher extends DefaultActorMessageDispatcher {
+	public MigrationActorMessageDispatcher(InternalActorSystem system) {
+		super(system);
+	}
+	
+	protected ActorDispatchEpoch getDispatchEpoch() {
+		return ((DefaultInternalActorExecutorService)system.getExecutorService()).getActorThreadPool().getActorThreadPoolHandler().getDispatchEpochs().get();
+	}
+	
+	@Override
+	public void unsafe_post(ActorMessage<?> message, UUID source, String alias) {
+		ActorDispatchEpoch dispatchEpoch = getDispatchEpoch();
+		dispatchEpoch.enter();
+		try {
+			super.unsafe_post(message, source, alias);
+		}
+		finally {
+			dispatchEpoch.exit();
+		}
+	}
+	
+	@Override
+	public void post(ActorMessage<?> message, UUID source, String alias) {
+		ActorDispatchEpoch dispatchEpoch = getDispatchEpoch();
+		dispatchEpoch.enter();
+		try {
+			super.post(message, source, alias);
+		}
+		finally {
+			dispatchEpoch.exit();
+		}
+	}
+	
+	@Override
+	public void post(Collection<ActorMessage<?>> messages, UUID source) {
+		ActorDispatchEpoch dispatchEpoch = getDispatchEpoch();
+		dispatchEpoch.enter();
+		try {
+			super.post(messages, source);
+		}
+		finally {
+			dispatchEpoch.exit();
+		}
+	}
+	
+	@Override
+	protected void postQueue(ActorMessage<?> message, BiConsumer<ActorThread, ActorMessage<?>> biconsumer) {
+		ActorDispatchEpoch dispatchEpoch = getDispatchEpoch();
+		dispatchEpoch.enter();
+		try {
+			super.postQueue(message, biconsumer);
+		}
+		finally {
+			dispatchEpoch.exit();
+		}
+	}
+	
+	@Override
+	public void postOuter(ActorMessage<?> message) {
+		ActorDispatchEpoch dispatchEpoch = getDispatchEpoch();
+		dispatchEpoch.enter();
+		try {
+			super.postOuter(message);
+		}
+		finally {
+			dispatchEpoch.exit();
+		}
+	}
+	
+	@Override
+	public void postOuter(Collection<ActorMessage<?>> messages) {
+		ActorDispatchEpoch dispatchEpoch = getDispatchEpoch();
+		dispatchEpoch.enter();
+		try {
+			super.postOuter(messages);
+		}
+		finally {
+			dispatchEpoch.exit();
+		}
+	}
+	
+	@Override
+	public void postServer(ActorMessage<?> message) {
+		ActorDispatchEpoch dispatchEpoch = getDispatchEpoch();
+		dispatchEpoch.enter();
+		try {
+			super.postServer(message);
+		}
+		finally {
+			dispatchEpoch.exit();
+		}
+	}
+	
+	@Override
+	public void undelivered(ActorMessage<?> message, UUID source, UUID dest) {
+		ActorDispatchEpoch dispatchEpoch = getDispatchEpoch();
+		dispatchEpoch.enter();
+		try {
+			super.undelivered(message, source, dest);
+		}
+		finally {
+			dispatchEpoch.exit();
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class VirtualActorRunnablePoolHandler extends AbstractActorCellMailboxPoolHandler<VirtualActorRunnable> {
+	protected final Map<UUID, VirtualActorRunnable> runnableMap; // ActorCellID -> VirtualActorRunnable
+	
+	public VirtualActorRunnablePoolHandler(InternalActorSystem system) {
+		super(system);
+		
+		runnableMap = new ConcurrentHashMap<>();
+	}
+	
+	public Map<UUID, VirtualActorRunnable> getRunnableMap() {
+		return runnableMap;
+	}
+	
+	@Override
+	public VirtualActorRunnable getMailbox(UUID id) {
+		return runnableMap.get(id);
+	}
+	
+	@Override
+	public Collection<VirtualActorRunnable> getMailboxes() {
+		return runnableMap.values();
+	}
+	
+	@Override
+	public void registerCell(InternalActorCell cell) {
+		runnableMap.put(cell.getId(), new VirtualActorRunnable(system, cell, executor));
+	}
+	
+	@Override
+	public void unregisterCell(InternalActorCell cell) {
+		VirtualActorRunnable runnable = runnableMap.remove(cell.getId());
+		if (runnable!=null)
+			runnable.unregister();
+	}
+	
+	@Override
+	public boolean isRegisteredCell(InternalActorCell cell) {
+		return runnableMap.containsKey(cell.getId());
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime.deadletters;
+
+import static io.actor4j.core.actors.Actor.DEAD_LETTER;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.InternalActorSystem;
+
+/*
+ * Dead letters without per-message logging: lock-free counters by destination and by tag, and a bounded ring buffer
+ * of the recent dead letters (the oldest are overwritten). Optionally, the dead letters are passed to a subscriber 
+ * actor (tag DEAD_LETTER).
+ */
+public class ActorDeadLetters {
+	protected record Entry(long position, ActorDeadLetter deadLetter) { // position, the slot was claimed for
+	}
+	
+	protected static final int MAX_COUNTERS = 4096; // per destination and per tag, further keys are only counted in total
+	
+	protected final InternalActorSystem system;
+	
+	protected final LongAdder count;
+	protected final Map<UUID, LongAdder> countsByDest;
+	protected final Map<Integer, LongAdder> countsByTag;
+	
+	protected final AtomicReferenceArray<Entry> deadLetters;
+	protected final AtomicLong index; // next position to claim
+	protected long readIndex; // next position to drain
+	
+	protected volatile UUID subscriber;
+	
+	public ActorDeadLetters(InternalActorSystem system) {
+		super();
+		
+		this.system = system;
+		
+		count = new LongAdder();
+		countsByDest = new ConcurrentHashMap<>();
+		countsByTag = new ConcurrentHashMap<>();
+		
+		deadLetters = new AtomicReferenceArray<>(Math.max(0, system.getConfig().deadLetterBufferSize()));
+		index = new AtomicLong(0);
+	}
+	
+	public void add(ActorMessage<?> message, UUID source, UUID dest) {
+		count.increment();
+		increment(countsByDest, dest);
+		increment(countsByTag, message.tag());
+		
+		UUID subscriber = this.subscriber;
+		if (deadLetters.length()==0 && subscriber==null)
+			return;
+		
+		ActorDeadLetter deadLetter = new ActorDeadLetter(message, source, dest, System.currentTimeMillis());
+		if (deadLetters.length()>0) {
+			long position = index.getAndIncrement();
+			deadLetters.set((int)(position%deadLetters.length()), new Entry(position, deadLetter));
+		}
+		
+		// dead letters to the subscriber itself are not passed (no loop, if the subscriber is unavailable)
+		if (subscriber!=null && !subscriber.equals(dest) && !(message.value() instanceof ActorDeadLetter))
+			system.send(ActorMessage.create(deadLetter, DEAD_LETTER, system.SYSTEM_ID(), subscriber));
+	}
+	
+	protected <K> void increment(Map<K, LongAdder> counts, K key) {
+		if (key==null)
+			return;
+		
+		LongAdder counter = counts.get(key);
+		if (counter==null) {
+			if (counts.size()>=MAX_COUNTERS)
+				return;
+			counter = counts.computeIfAbsent(key, (k) -> new LongAdder());
+		}
+		counter.increment();
+	}
+	
+	public void subscribe(UUID subscriber) {
+		this.subscriber = subscriber;
+	}
+	
+	public void unsubscribe() {
+		subscriber = null;
+	}
+	
+	public UUID getSubscriber() {
+		return subscriber;
+	}
+	
+	public long getCount() {
+		return count.sum();
+	}
+	
+	public long getCount(UUID dest) {
+		LongAdder counter = countsByDest.get(dest);
+		
+		return counter!=null ? counter.sum() : 0;
+	}
+	
+	public long getCount(int tag) {
+		LongAdder counter = countsByTag.get(tag);
+		
+		return counter!=null ? counter.sum() : 0;
+	}
+	
+	public Map<UUID, Long> getCountsByDest() {
+		Map<UUID, Long> result = new HashMap<>();
+		countsByDest.forEach((dest, counter) -> result.put(dest, counter.sum()));
+		
+		return result;
+	}
+	
+	public Map<Integer, Long> getCountsByTag() {
+		Map<Integer, Long> result = new HashMap<>();
+		countsByTag.forEach((tag, counter) -> result.put(tag, counter.sum()));
+		
+		return result;
+	}
+	
+	/*
+	 * Returns the recent dead letters from the oldest to the newest (without removing them).
+	 */
+	public List<ActorDeadLetter> getDeadLetters() {
+		List<ActorDeadLetter> result = new ArrayList<>();
+		
+		long last = index.get();
+		for (long i=Math.max(0, last-deadLetters.length()); i<last; i++) {
+			Entry entry = deadLetters.get((int)(i%deadLetters.length()));
+			if (entry!=null && entry.position()==i)
+				result.add(entry.deadLetter());
+		}
+		
+		return result;
+	}
+	
+	/*
+	 * Removes and returns up to max recent dead letters from the oldest to the newest. Dead letters, that were overwritten 
+	 * since the last drain, are lost (but counted). Stops at a slot, that is claimed but not yet written (next drain).
+	 */
+	public synchronized List<ActorDeadLetter> drain(int max) {
+		List<ActorDeadLetter> result = new ArrayList<>(Math.min(max, deadLetters.length()));
+		
+		long last = index.get();
+		long i = Math.max(readIndex, last-deadLetters.length());
+		for (; i<last && result.size()<max; i++) {
+			int slot = (int)(i%deadLetters.length());
+			Entry entry = deadLetters.get(slot);
+			if (entry==null || entry.position()<i)
+				break; // not yet written
+			else if (entry.position()==i && deadLetters.compareAndSet(slot, entry, null))
+				result.add(entry.deadLetter());
+			// otherwise overwritten
+		}
+		readIndex = i;
+		
+		return result;
+	}
+	
+	public synchronized void clear() {
+		count.reset();
+		countsByDest.clear();
+		countsByTag.clear();
+		for (int i=0; i<deadLetters.length(); i++)
+			deadLetters.set(i, null);
+		readIndex = index.get();
+	}
+}
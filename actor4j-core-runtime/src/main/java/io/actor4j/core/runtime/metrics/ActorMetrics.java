@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import io.actor4j.core.runtime.ActorExecutorServiceImpl;
+import io.actor4j.core.runtime.ActorThread;
+import io.actor4j.core.runtime.DefaultActorSystemImpl;
+import io.actor4j.core.runtime.DefaultActorThread;
+import io.actor4j.core.runtime.DefaultInternalActorExecutorService;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.InternalActorCell;
+import io.actor4j.core.runtime.persistence.ActorPersistenceService;
+
+/*
+ * Pull-based metrics of an actor system, that are read from the existing counters and queues on demand (nothing is 
+ * collected in the background). Each MXBean attribute reads only its own counters or queues. The thread metrics are 
+ * only available in the THREAD_QUEUES dispatcher mode, in the other modes they are empty arrays (no threads) and
+ * isThreadMetricsAvailable is false. Message throughput requires counterEnabled. Server and outer queue sizes are the 
+ * pending messages (not yet buffered by the thread).
+ */
+public class ActorMetrics implements ActorMetricsMXBean {
+	protected final DefaultActorSystemImpl system;
+	
+	protected /*quasi final*/ ObjectName objectName;
+	
+	public ActorMetrics(DefaultActorSystemImpl system) {
+		super();
+		
+		this.system = system;
+	}
+	
+	public DefaultActorSystemImpl getSystem() {
+		return system;
+	}
+	
+	protected List<ActorThread> threads() {
+		if (system.getExecutorService() instanceof DefaultInternalActorExecutorService executorService && executorService.getActorThreadPool()!=null)
+			return executorService.getActorThreadPool().getActorProcessList();
+		else
+			return Collections.emptyList();
+	}
+	
+	protected long[] threadValues(ToLongFunction<ActorThread> value) {
+		List<ActorThread> threads = threads();
+		long[] result = new long[threads.size()];
+		for (int i=0; i<result.length; i++)
+			result[i] = value.applyAsLong(threads.get(i));
+		
+		return result;
+	}
+	
+	protected long[] defaultThreadValues(ToLongFunction<DefaultActorThread> value) {
+		return threadValues((t) -> t instanceof DefaultActorThread dt ? value.applyAsLong(dt) : 0);
+	}
+	
+	protected int[] queueSizes(Function<ActorThread, Queue<ActorMessage<?>>> queue) {
+		List<ActorThread> threads = threads();
+		int[] result = new int[threads.size()];
+		for (int i=0; i<result.length; i++)
+			result[i] = queue.apply(threads.get(i)).size();
+		
+		return result;
+	}
+	
+	public ActorMetricsSnapshot snapshot() {
+		return snapshot(null);
+	}
+	
+	/*
+	 * Refills the given snapshot, if it matches the number of threads (otherwise a new snapshot is returned).
+	 */
+	public ActorMetricsSnapshot snapshot(ActorMetricsSnapshot snapshot) {
+		List<ActorThread> threads = threads();
+		if (snapshot==null)
+			snapshot = new ActorMetricsSnapshot(threads.size());
+		else if (snapshot.threads()!=threads.size())
+			snapshot.resize(threads.size());
+		
+		snapshot.timestamp = System.currentTimeMillis();
+		for (int i=0; i<threads.size(); i++) {
+			ActorThread t = threads.get(i);
+			snapshot.threadNames[i] = t.getName();
+			snapshot.threadCounts[i] = t.getCount();
+			snapshot.directiveQueueSizes[i] = t.getDirectiveQueue().size();
+			snapshot.priorityQueueSizes[i] = t.getPriorityQueue().size();
+			snapshot.serverQueueSizes[i] = t.getServerQueue().size();
+			snapshot.outerQueueSizes[i] = t.getOuterQueue().size();
+			snapshot.innerQueueSizes[i] = t.getInnerQueue().size();
+			if (t instanceof DefaultActorThread dt) {
+				snapshot.parkCounts[i] = dt.getParkCount();
+				snapshot.unparkCounts[i] = dt.getUnparkCount();
+				snapshot.overflowCounts[i] = dt.getOverflowCount();
+			}
+			else {
+				snapshot.parkCounts[i] = 0;
+				snapshot.unparkCounts[i] = 0;
+				snapshot.overflowCounts[i] = 0;
+			}
+		}
+		snapshot.undeliveredCount = getUndeliveredCount();
+		snapshot.unhandledCount = getUnhandledCount();
+		snapshot.resourceQueueSize = getResourceQueueSize();
+		snapshot.timerQueueSize = getTimerQueueSize();
+		snapshot.persistenceQueueSize = getPersistenceQueueSize();
+		snapshot.cellCount = getCellCount();
+		
+		return snapshot;
+	}
+	
+	@Override
+	public long getCount() {
+		return system.getExecutorService().getCount();
+	}
+	
+	@Override
+	public boolean isThreadMetricsAvailable() {
+		return system.getExecutorService() instanceof DefaultInternalActorExecutorService;
+	}
+	
+	@Override
+	public long[] getThreadCounts() {
+		return threadValues(ActorThread::getCount);
+	}
+	
+	@Override
+	public int[] getDirectiveQueueSizes() {
+		return queueSizes(ActorThread::getDirectiveQueue);
+	}
+	
+	@Override
+	public int[] getPriorityQueueSizes() {
+		return queueSizes(ActorThread::getPriorityQueue);
+	}
+	
+	@Override
+	public int[] getServerQueueSizes() {
+		return queueSizes(ActorThread::getServerQueue);
+	}
+	
+	@Override
+	public int[] getOuterQueueSizes() {
+		return queueSizes(ActorThread::getOuterQueue);
+	}
+	
+	@Override
+	public int[] getInnerQueueSizes() {
+		return queueSizes(ActorThread::getInnerQueue);
+	}
+	
+	@Override
+	public long[] getParkCounts() {
+		return defaultThreadValues(DefaultActorThread::getParkCount);
+	}
+	
+	@Override
+	public long[] getUnparkCounts() {
+		return defaultThreadValues(DefaultActorThread::getUnparkCount);
+	}
+	
+	@Override
+	public long[] getOverflowCounts() {
+		return defaultThreadValues(DefaultActorThread::getOverflowCount);
+	}
+	
+	@Override
+	public long getUndeliveredCount() {
+		return system.getUndeliveredCounter().sum();
+	}
+	
+	@Override
+	public long getUnhandledCount() {
+		return system.getUnhandledCounter().sum();
+	}
+	
+	@Override
+	public int getResourceQueueSize() {
+		return system.getExecutorService() instanceof ActorExecutorServiceImpl<?> executorService ? executorService.getResourceQueueSize() : 0;
+	}
+	
+	@Override
+	public int getTimerQueueSize() {
+		return system.getExecutorService() instanceof ActorExecutorServiceImpl<?> executorService ? executorService.getTimerQueueSize() : 0;
+	}
+	
+	@Override
+	public int getPersistenceQueueSize() {
+		int result = 0;
+		
+		ActorPersistenceService persistenceService = system.getExecutorService().getPersistenceService();
+		if (persistenceService!=null && persistenceService.getService() instanceof DefaultActorSystemImpl service) {
+			for (int size : service.getWorkerOuterQueueSizes())
+				result += size;
+			for (int size : service.getWorkerInnerQueueSizes())
+				result += size;
+		}
+		
+		return result;
+	}
+	
+	@Override
+	public int getCellCount() {
+		return system.getCells().size();
+	}
+	
+	@Override
+	public Map<String, Long> getCellRequestRates() {
+		Map<String, Long> result = new HashMap<>();
+		for (InternalActorCell cell : system.getCells().values())
+			result.put(cell.getId().toString(), cell.getRequestRate().get());
+		
+		return result;
+	}
+	
+	/*
+	 * Registers the metrics as io.actor4j:type=ActorSystem,name=<system name>.
+	 */
+	public synchronized void registerMBean() throws JMException {
+		if (objectName!=null)
+			return;
+		
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName("io.actor4j:type=ActorSystem,name="+ObjectName.quote(system.getConfig().name()));
+		server.registerMBean(this, name);
+		objectName = name;
+	}
+	
+	public synchronized void unregisterMBean() throws JMException {
+		if (objectName==null)
+			return;
+		
+		ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		objectName = null;
+	}
+	
+	public synchronized ObjectName getObjectName() {
+		return objectName;
+	}
+}
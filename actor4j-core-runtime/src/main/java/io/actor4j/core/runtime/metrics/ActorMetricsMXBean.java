@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime.metrics;
+
+import java.util.Map;
+
+public interface ActorMetricsMXBean {
+	public long getCount();
+	
+	public boolean isThreadMetricsAvailable(); // THREAD_QUEUES mode only, otherwise the thread metrics are empty
+	public long[] getThreadCounts();
+	
+	public int[] getDirectiveQueueSizes();
+	public int[] getPriorityQueueSizes();
+	public int[] getServerQueueSizes();
+	public int[] getOuterQueueSizes();
+	public int[] getInnerQueueSizes();
+	
+	public long[] getParkCounts();
+	public long[] getUnparkCounts();
+	public long[] getOverflowCounts();
+	
+	public long getUndeliveredCount();
+	public long getUnhandledCount();
+	
+	public int getResourceQueueSize();
+	public int getTimerQueueSize();
+	public int getPersistenceQueueSize();
+	
+	public int getCellCount();
+	public Map<String, Long> getCellRequestRates(); // ActorCellID -> processed messages
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime.metrics;
+
+/*
+ * Point-in-time view of the runtime metrics, the thread metrics are indexed like the actor threads. A snapshot 
+ * can be refilled by ActorMetrics::snapshot, so that periodic scraping does not allocate. The getters return the 
+ * internal arrays, a snapshot is not thread-safe.
+ */
+public class ActorMetricsSnapshot {
+	protected long timestamp;
+	
+	protected String[] threadNames;
+	protected long[] threadCounts;
+	protected int[] directiveQueueSizes;
+	protected int[] priorityQueueSizes;
+	protected int[] serverQueueSizes;
+	protected int[] outerQueueSizes;
+	protected int[] innerQueueSizes;
+	protected long[] parkCounts;
+	protected long[] unparkCounts;
+	protected long[] overflowCounts;
+	
+	protected long undeliveredCount;
+	protected long unhandledCount;
+	
+	protected int resourceQueueSize;
+	protected int timerQueueSize;
+	protected int persistenceQueueSize;
+	
+	protected int cellCount;
+	
+	public ActorMetricsSnapshot() {
+		this(0);
+	}
+	
+	public ActorMetricsSnapshot(int threads) {
+		super();
+		
+		resize(threads);
+	}
+	
+	protected void resize(int threads) {
+		threadNames = new String[threads];
+		threadCounts = new long[threads];
+		directiveQueueSizes = new int[threads];
+		priorityQueueSizes = new int[threads];
+		serverQueueSizes = new int[threads];
+		outerQueueSizes = new int[threads];
+		innerQueueSizes = new int[threads];
+		parkCounts = new long[threads];
+		unparkCounts = new long[threads];
+		overflowCounts = new long[threads];
+	}
+	
+	public int threads() {
+		return threadNames.length;
+	}
+	
+	public long getTimestamp() {
+		return timestamp;
+	}
+	
+	public long getCount() {
+		long result = 0;
+		for (long count : threadCounts)
+			result += count;
+		return result;
+	}
+	
+	public String[] getThreadNames() {
+		return threadNames;
+	}
+	
+	public long[] getThreadCounts() {
+		return threadCounts;
+	}
+	
+	public int[] getDirectiveQueueSizes() {
+		return directiveQueueSizes;
+	}
+	
+	public int[] getPriorityQueueSizes() {
+		return priorityQueueSizes;
+	}
+	
+	public int[] getServerQueueSizes() {
+		return serverQueueSizes;
+	}
+	
+	public int[] getOuterQueueSizes() {
+		return outerQueueSizes;
+	}
+	
+	public int[] getInnerQueueSizes() {
+		return innerQueueSizes;
+	}
+	
+	public long[] getParkCounts() {
+		return parkCounts;
+	}
+	
+	public long[] getUnparkCounts() {
+		return unparkCounts;
+	}
+	
+	public long[] getOverflowCounts() {
+		return overflowCounts;
+	}
+	
+	public long getUndeliveredCount() {
+		return undeliveredCount;
+	}
+	
+	public long getUnhandledCount() {
+		return unhandledCount;
+	}
+	
+	public int getResourceQueueSize() {
+		return resourceQueueSize;
+	}
+	
+	public int getTimerQueueSize() {
+		return timerQueueSize;
+	}
+	
+	public int getPersistenceQueueSize() {
+		return persistenceQueueSize;
+	}
+	
+	public int getCellCount() {
+		return cellCount;
+	}
+}
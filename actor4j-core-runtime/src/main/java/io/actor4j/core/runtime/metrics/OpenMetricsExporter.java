@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/*
+ * Exposes the metrics of an actor system in the OpenMetrics text format (e.g., for Prometheus) at /metrics, 
+ * using the HTTP server of the JDK. The snapshot and the text buffer are reused between scrapes.
+ */
+public class OpenMetricsExporter {
+	public static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+	
+	protected final ActorMetrics metrics;
+	protected final boolean cellsEnabled; // per cell request rates (one series per actor)
+	
+	protected /*quasi final*/ HttpServer server;
+	
+	protected ActorMetricsSnapshot snapshot;
+	protected final StringBuilder builder;
+	
+	public OpenMetricsExporter(ActorMetrics metrics) {
+		this(metrics, false);
+	}
+	
+	public OpenMetricsExporter(ActorMetrics metrics, boolean cellsEnabled) {
+		super();
+		
+		this.metrics = metrics;
+		this.cellsEnabled = cellsEnabled;
+		
+		builder = new StringBuilder(4096);
+	}
+	
+	public synchronized void start(InetSocketAddress address) throws IOException {
+		if (server!=null)
+			return;
+		
+		server = HttpServer.create(address, 0);
+		server.createContext("/metrics", this::handle);
+		server.start();
+	}
+	
+	public synchronized void stop() {
+		if (server!=null) {
+			server.stop(0);
+			server = null;
+		}
+	}
+	
+	public synchronized InetSocketAddress getAddress() {
+		return server!=null ? server.getAddress() : null;
+	}
+	
+	protected void handle(HttpExchange exchange) throws IOException {
+		byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+		
+		exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(body);
+		}
+	}
+	
+	public synchronized String scrape() {
+		snapshot = metrics.snapshot(snapshot);
+		builder.setLength(0);
+		write(snapshot, builder);
+		
+		return builder.toString();
+	}
+	
+	protected void write(ActorMetricsSnapshot snapshot, StringBuilder builder) {
+		String system = escape(metrics.getSystem().getConfig().name());
+		
+		type(builder, "actor4j_thread_messages", "counter", "Processed messages per actor thread (requires counterEnabled).");
+		for (int i=0; i<snapshot.threads(); i++)
+			thread(builder, "actor4j_thread_messages_total", system, snapshot.threadNames[i], null, snapshot.threadCounts[i]);
+		
+		type(builder, "actor4j_thread_queue_size", "gauge", "Pending messages per actor thread and queue.");
+		for (int i=0; i<snapshot.threads(); i++) {
+			thread(builder, "actor4j_thread_queue_size", system, snapshot.threadNames[i], "directive", snapshot.directiveQueueSizes[i]);
+			thread(builder, "actor4j_thread_queue_size", system, snapshot.threadNames[i], "priority", snapshot.priorityQueueSizes[i]);
+			thread(builder, "actor4j_thread_queue_size", system, snapshot.threadNames[i], "server", snapshot.serverQueueSizes[i]);
+			thread(builder, "actor4j_thread_queue_size", system, snapshot.threadNames[i], "outer", snapshot.outerQueueSizes[i]);
+			thread(builder, "actor4j_thread_queue_size", system, snapshot.threadNames[i], "inner", snapshot.innerQueueSizes[i]);
+		}
+		
+		type(builder, "actor4j_thread_parks", "counter", "Parkings per actor thread.");
+		for (int i=0; i<snapshot.threads(); i++)
+			thread(builder, "actor4j_thread_parks_total", system, snapshot.threadNames[i], null, snapshot.parkCounts[i]);
+		
+		type(builder, "actor4j_thread_unparks", "counter", "Wake-ups of a parked actor thread by producers.");
+		for (int i=0; i<snapshot.threads(); i++)
+			thread(builder, "actor4j_thread_unparks_total", system, snapshot.threadNames[i], null, snapshot.unparkCounts[i]);
+		
+		type(builder, "actor4j_thread_overflows", "counter", "Discarded or rejected messages of the bounded queues.");
+		for (int i=0; i<snapshot.threads(); i++)
+			thread(builder, "actor4j_thread_overflows_total", system, snapshot.threadNames[i], null, snapshot.overflowCounts[i]);
+		
+		system(builder, "actor4j_undelivered_messages", "counter", "Messages to unavailable actors.", system, snapshot.undeliveredCount);
+		system(builder, "actor4j_unhandled_messages", "counter", "Messages not handled by the receiving actor.", system, snapshot.unhandledCount);
+		system(builder, "actor4j_resource_queue_size", "gauge", "Pending tasks of the resource actor pool.", system, snapshot.resourceQueueSize);
+		system(builder, "actor4j_timer_queue_size", "gauge", "Scheduled tasks of the timers.", system, snapshot.timerQueueSize);
+		system(builder, "actor4j_persistence_queue_size", "gauge", "Pending messages of the persistence service.", system, snapshot.persistenceQueueSize);
+		system(builder, "actor4j_cells", "gauge", "Registered actors.", system, snapshot.cellCount);
+		
+		if (cellsEnabled) {
+			type(builder, "actor4j_cell_messages", "counter", "Processed messages per actor.");
+			for (Map.Entry<String, Long> entry : metrics.getCellRequestRates().entrySet())
+				builder.append("actor4j_cell_messages_total{system=\"").append(system).append("\",actor=\"").append(entry.getKey())
+					.append("\"} ").append(entry.getValue()).append('\n');
+		}
+		
+		builder.append("# EOF\n");
+	}
+	
+	protected static void type(StringBuilder builder, String name, String type, String help) {
+		builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+		builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+	}
+	
+	protected static void thread(StringBuilder builder, String name, String system, String thread, String queue, long value) {
+		builder.append(name).append("{system=\"").append(system).append("\",thread=\"").append(escape(thread));
+		if (queue!=null)
+			builder.append("\",queue=\"").append(queue);
+		builder.append("\"} ").append(value).append('\n');
+	}
+	
+	protected static void system(StringBuilder builder, String name, String type, String help, String system, long value) {
+		type(builder, name, type, help);
+		builder.append(name);
+		if (type.equals("counter"))
+			builder.append("_total");
+		builder.append("{system=\"").append(system).append("\"} ").append(value).append('\n');
+	}
+	
+	protected static String escape(String value) {
+		return value!=null ? value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") : "";
+	}
+}
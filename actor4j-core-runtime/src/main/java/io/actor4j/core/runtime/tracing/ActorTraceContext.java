@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * Identifies a span (processing of one message) within a trace, parentSpanId is 0 for the root span.
+ */
+public record ActorTraceContext(long traceId, long spanId, long parentSpanId) {
+	public static ActorTraceContext root() {
+		return new ActorTraceContext(nextId(), nextId(), 0);
+	}
+	
+	public ActorTraceContext child() {
+		return new ActorTraceContext(traceId, nextId(), spanId);
+	}
+	
+	protected static long nextId() {
+		long result;
+		while ((result=ThreadLocalRandom.current().nextLong())==0);
+		
+		return result;
+	}
+	
+	public static String toHex(long id) {
+		String hex = Long.toHexString(id);
+		return "0000000000000000".substring(hex.length())+hex;
+	}
+}
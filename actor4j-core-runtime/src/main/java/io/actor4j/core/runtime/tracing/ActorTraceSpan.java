@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime.tracing;
+
+import java.util.UUID;
+
+import io.actor4j.core.runtime.ActorQueueKind;
+
+/*
+ * One hop of a trace: the time the message waited in the queue and the processing time of the receiving actor (in ns).
+ */
+public record ActorTraceSpan(long traceId, long spanId, long parentSpanId, UUID actorId, String actor, int tag, 
+	ActorQueueKind queue, String thread, long timestamp, long queueTime, long processingTime) {
+	
+	public void toJson(StringBuilder builder) {
+		builder.append("{\"traceId\":\"").append(ActorTraceContext.toHex(traceId))
+			.append("\",\"spanId\":\"").append(ActorTraceContext.toHex(spanId)).append('"');
+		if (parentSpanId!=0)
+			builder.append(",\"parentSpanId\":\"").append(ActorTraceContext.toHex(parentSpanId)).append('"');
+		builder.append(",\"actorId\":\"").append(actorId)
+			.append("\",\"actor\":");
+		string(builder, actor);
+		builder.append(",\"tag\":").append(tag)
+			.append(",\"queue\":\"").append(queue)
+			.append("\",\"thread\":");
+		string(builder, thread);
+		builder.append(",\"timestamp\":").append(timestamp)
+			.append(",\"queueTime\":").append(queueTime)
+			.append(",\"processingTime\":").append(processingTime)
+			.append('}');
+	}
+	
+	protected static void string(StringBuilder builder, String value) {
+		if (value==null) {
+			builder.append("null");
+			return;
+		}
+		
+		builder.append('"');
+		for (int i=0; i<value.length(); i++) {
+			char c = value.charAt(i);
+			if (c=='"' || c=='\\')
+				builder.append('\\').append(c);
+			else if (c<0x20)
+				builder.append(String.format("\\u%04x", (int)c));
+			else
+				builder.append(c);
+		}
+		builder.append('"');
+	}
+}
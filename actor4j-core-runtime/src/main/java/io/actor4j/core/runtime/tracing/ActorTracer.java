@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime.tracing;
+
+import static io.actor4j.core.logging.ActorLogger.*;
+import static io.actor4j.core.utils.ActorUtils.actorLabel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorDispatcherMode;
+import io.actor4j.core.runtime.ActorQueueKind;
+import io.actor4j.core.runtime.ActorThread;
+import io.actor4j.core.runtime.InternalActorCell;
+import io.actor4j.core.runtime.InternalActorSystem;
+
+/*
+ * Sampled message tracing. A message sent while an actor thread processes a traced message becomes a child span
+ * (tell, forward, pods), other messages start a new trace with a probability of 1/traceSampleRate. Across hops outside 
+ * of the actor threads (e.g., replies of remote pods or asks), the trace is continued by the interaction id of the 
+ * last traced message. The spans and links are bounded by traceBufferSize, the oldest ones are dropped first. Only 
+ * the THREAD_QUEUES mode is traced (neither cell mailboxes nor virtual threads).
+ */
+public class ActorTracer {
+	protected final InternalActorSystem system;
+	
+	protected final AtomicReferenceArray<ActorTraceSpan> spans;
+	protected final AtomicLong index;
+	protected final Map<UUID, ActorTraceContext> links; // by interaction id
+	protected final Queue<UUID> linksOrder; // oldest first
+	protected final AtomicInteger linksCount;
+	
+	public ActorTracer(InternalActorSystem system) {
+		super();
+		
+		this.system = system;
+		
+		int capacity = Math.max(1, system.getConfig().traceBufferSize());
+		spans = new AtomicReferenceArray<>(capacity);
+		index = new AtomicLong(0);
+		links = new ConcurrentHashMap<>();
+		linksOrder = new ConcurrentLinkedQueue<>();
+		linksCount = new AtomicInteger(0);
+		
+		if (system.getConfig().traceSampleRate()>0 && system.getConfig().dispatcherMode()!=ActorDispatcherMode.THREAD_QUEUES)
+			systemLogger().log(WARN, "[TRACING] Not supported in {0} mode, no spans will be recorded", system.getConfig().dispatcherMode());
+	}
+	
+	public boolean isEnabled() {
+		return system.getConfig().traceSampleRate()>0;
+	}
+	
+	/*
+	 * Returns the context for a message, that is currently enqueued (null, if the message is not traced).
+	 */
+	public ActorTraceContext next(ActorMessage<?> message) {
+		int sampleRate = system.getConfig().traceSampleRate();
+		if (sampleRate==0)
+			return null;
+		
+		ActorTraceContext parent = Thread.currentThread() instanceof ActorThread t ? t.getTrace() : null;
+		if (parent==null && message.interaction()!=null)
+			parent = links.get(message.interaction());
+		
+		if (parent!=null)
+			return parent.child();
+		else if (sampleRate==1 || ThreadLocalRandom.current().nextInt(sampleRate)==0)
+			return ActorTraceContext.root();
+		else
+			return null;
+	}
+	
+	public void record(ActorTraceContext context, InternalActorCell cell, ActorMessage<?> message, ActorQueueKind queue, long queueTime, long processingTime) {
+		ActorTraceSpan span = new ActorTraceSpan(context.traceId(), context.spanId(), context.parentSpanId(), cell.getId(), 
+			actorLabel(cell.getActor()), message.tag(), queue, Thread.currentThread().getName(), System.currentTimeMillis(), queueTime, processingTime);
+		// links first, a visible span implies that its interaction can be continued
+		if (message.interaction()!=null)
+			link(message.interaction(), context);
+		
+		spans.set((int)(index.getAndIncrement()%spans.length()), span);
+	}
+	
+	protected void link(UUID interaction, ActorTraceContext context) {
+		if (links.put(interaction, context)==null) {
+			linksOrder.offer(interaction);
+			if (linksCount.incrementAndGet()>spans.length()) {
+				UUID oldest = linksOrder.poll();
+				if (oldest!=null) {
+					links.remove(oldest);
+					linksCount.decrementAndGet();
+				}
+			}
+		}
+	}
+	
+	/*
+	 * Returns the recorded spans from the oldest to the newest.
+	 */
+	public List<ActorTraceSpan> getSpans() {
+		List<ActorTraceSpan> result = new ArrayList<>();
+		
+		long last = index.get();
+		for (long i=Math.max(0, last-spans.length()); i<last; i++) {
+			ActorTraceSpan span = spans.get((int)(i%spans.length()));
+			if (span!=null)
+				result.add(span);
+		}
+		
+		return result;
+	}
+	
+	public List<ActorTraceSpan> getSpans(long traceId) {
+		List<ActorTraceSpan> result = new ArrayList<>();
+		for (ActorTraceSpan span : getSpans())
+			if (span.traceId()==traceId)
+				result.add(span);
+		
+		return result;
+	}
+	
+	public void clear() {
+		for (int i=0; i<spans.length(); i++)
+			spans.set(i, null);
+		UUID interaction;
+		while ((interaction=linksOrder.poll())!=null) {
+			links.remove(interaction);
+			linksCount.decrementAndGet();
+		}
+	}
+	
+	public String toJson() {
+		return toJson(getSpans());
+	}
+	
+	public String toJson(long traceId) {
+		return toJson(getSpans(traceId));
+	}
+	
+	public static String toJson(List<ActorTraceSpan> spans) {
+		StringBuilder builder = new StringBuilder(spans.size()*256);
+		builder.append("{\"spans\":[");
+		for (int i=0; i<spans.size(); i++) {
+			if (i>0)
+				builder.append(',');
+			spans.get(i).toJson(builder);
+		}
+		builder.append("]}");
+		
+		return builder.toString();
+	}
+}
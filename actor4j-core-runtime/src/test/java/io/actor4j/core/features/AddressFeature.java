@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorRoutingTable;
+import io.actor4j.core.runtime.InternalActorSystem;
+
+import static org.junit.Assert.*;
+
+public class AddressFeature {
+	@Test(timeout=5000)
+	public void test_routingTable() {
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.compactAddresses(true)
+			.build());
+		ActorRoutingTable routingTable = ((InternalActorSystem)system).getRoutingTable();
+		
+		UUID a = system.addActor(() -> new Actor("a") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+			}
+		});
+		assertTrue(ActorRoutingTable.isCompact(a));
+		assertNotNull(routingTable.getCell(a));
+		assertTrue(((InternalActorSystem)system).getCells().containsKey(a));
+		assertFalse(ActorRoutingTable.isCompact(system.SYSTEM_ID()));
+		assertNotNull(routingTable.getCell(system.SYSTEM_ID()));
+		
+		int address = ActorRoutingTable.address(a);
+		((InternalActorSystem)system).removeActor(a);
+		assertNull(routingTable.get(a));
+		assertFalse(((InternalActorSystem)system).getCells().containsKey(a));
+		
+		UUID b = system.addActor(() -> new Actor("b") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+			}
+		});
+		assertEquals(address, ActorRoutingTable.address(b));
+		assertNotEquals(a, b);
+		assertNull(routingTable.get(a));
+		assertNotNull(routingTable.getCell(b));
+		
+		system.setAlias(b, "alias");
+		assertEquals("alias", system.getAliasFromActor(b));
+		system.addRedirection(b, system.SYSTEM_ID());
+		assertEquals(system.SYSTEM_ID(), ((InternalActorSystem)system).getRedirector().get(b));
+		system.removeRedirection(b);
+		assertNull(routingTable.getRedirect(b));
+	}
+	
+	@Test(timeout=5000)
+	public void test_send() {
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.compactAddresses(false)
+			.build());
+		UUID disabled = system.addActor(() -> new Actor() {
+			@Override
+			public void receive(ActorMessage<?> message) {
+			}
+		});
+		assertFalse(ActorRoutingTable.isCompact(disabled));
+		
+		system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.compactAddresses(true)
+			.build());
+		CountDownLatch testDone = new CountDownLatch(1);
+		UUID pong = system.addActor(() -> new Actor("pong") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				tell(null, 0, message.source());
+			}
+		});
+		UUID ping = system.addActor(() -> new Actor("ping") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.source().equals(pong))
+					testDone.countDown();
+				else
+					tell(null, 0, pong);
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), ping));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		
+		system.shutdownWithActors(true);
+	}
+}
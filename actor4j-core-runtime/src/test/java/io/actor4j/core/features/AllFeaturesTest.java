@@ -59,7 +59,29 @@ import org.junit.runner.RunWith;
 	
 	PodFeature.class,
 	
-	UnsafeFeature.class
+	UnsafeFeature.class,
+	WorkStealingFeature.class,
+	RebalancingFeature.class,
+	BackoffFeature.class,
+	BatchFeature.class,
+	DispatchFeature.class,
+	OverflowFeature.class,
+	PriorityFeature.class,
+	HistogramFeature.class,
+	MetricsFeature.class,
+	FlightRecorderFeature.class,
+	TracingFeature.class,
+	HotspotFeature.class,
+	LoggingFeature.class,
+	DeadLetterFeature.class,
+	TransferFeature.class,
+	CopyStrategyFeature.class,
+	PrimitiveMessageFeature.class,
+	AddressFeature.class,
+	IdGeneratorFeature.class,
+	
+	VirtualThreadsFeature.class,
+	CellMailboxesFeature.class
 })
 public class AllFeaturesTest {
 	@BeforeClass
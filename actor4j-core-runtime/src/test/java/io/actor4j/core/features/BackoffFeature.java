@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorThreadMode;
+
+import static org.junit.Assert.*;
+
+public class BackoffFeature {
+	protected ActorSystem createSystem(ActorSystemConfig.Builder<?> builder) {
+		return ActorSystem.create(AllFeaturesTest.factory(), builder
+			.parallelism(2)
+			.parallelismFactor(1)
+			.idle(1000)
+			.build());
+	}
+	
+	@Test(timeout=5000)
+	public void test_backoffMode() {
+		ActorSystem system = createSystem(ActorSystemConfig.builder().backoffMode(100, 10, 5));
+		assertEquals(ActorThreadMode.BACKOFF, system.getConfig().threadMode());
+		assertEquals(100, system.getConfig().backoffSpins());
+		assertEquals(10, system.getConfig().backoffYields());
+		assertEquals(5, system.getConfig().sleepTime());
+	}
+	
+	@Test(timeout=10000)
+	public void test_backoff_pingPong() {
+		pingPong(createSystem(ActorSystemConfig.builder().backoffMode()));
+	}
+	
+	@Test(timeout=10000)
+	public void test_park_pingPong() {
+		pingPong(createSystem(ActorSystemConfig.builder().parkMode()));
+	}
+	
+	@Test(timeout=10000)
+	public void test_backoff_wakeup() {
+		wakeup(createSystem(ActorSystemConfig.builder().backoffMode(100, 10, 5_000)));
+	}
+	
+	@Test(timeout=10000)
+	public void test_park_wakeup() {
+		wakeup(createSystem(ActorSystemConfig.builder().parkMode()));
+	}
+	
+	protected void pingPong(ActorSystem system) {
+		final int COUNT = 10_000;
+		CountDownLatch testDone = new CountDownLatch(1);
+		
+		UUID pong = system.addActor(() -> new Actor("pong") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				tell(message.valueAsInt(), 0, message.source());
+			}
+		});
+		UUID ping = system.addActor(() -> new Actor("ping") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.valueAsInt()<COUNT)
+					tell(message.valueAsInt()+1, 0, pong);
+				else
+					testDone.countDown();
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(0, 0, system.SYSTEM_ID(), ping));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		
+		system.shutdownWithActors(true);
+	}
+	
+	/*
+	 * The threads are given time to fall asleep before each message, so every message has to wake up its thread.
+	 */
+	protected void wakeup(ActorSystem system) {
+		final int COUNT = 20;
+		CountDownLatch testDone = new CountDownLatch(COUNT);
+		
+		UUID actor = system.addActor(() -> new Actor("actor") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				testDone.countDown();
+			}
+		});
+		
+		system.start();
+		
+		try {
+			for (int i=0; i<COUNT; i++) {
+				Thread.sleep(50);
+				long count = testDone.getCount();
+				system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), actor));
+				assertTrue(awaitCount(testDone, count-1, 1_000));
+			}
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		
+		system.shutdownWithActors(true);
+	}
+	
+	protected boolean awaitCount(CountDownLatch latch, long count, long timeout) throws InterruptedException {
+		long stopTime = System.currentTimeMillis()+timeout;
+		while (latch.getCount()>count) {
+			if (System.currentTimeMillis()>stopTime)
+				return false;
+			TimeUnit.MILLISECONDS.sleep(1);
+		}
+		return true;
+	}
+}
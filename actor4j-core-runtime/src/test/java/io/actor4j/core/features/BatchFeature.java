@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.actors.PseudoActor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+
+import static org.junit.Assert.*;
+
+public class BatchFeature {
+	protected ActorSystem createSystem() {
+		return ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.parallelism(2)
+			.parallelismFactor(1)
+			.build());
+	}
+	
+	protected UUID addReceiver(ActorSystem system, int count, AtomicBoolean failed, CountDownLatch testDone) {
+		return system.addActor(() -> new Actor() {
+			protected int expected = 0;
+			
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.valueAsInt()!=expected)
+					failed.set(true);
+				expected++;
+				if (expected==count)
+					testDone.countDown();
+			}
+		});
+	}
+	
+	@Test(timeout=5000)
+	public void test_send() {
+		final int ACTORS = 4;
+		final int COUNT = 1_000;
+		CountDownLatch testDone = new CountDownLatch(ACTORS);
+		AtomicBoolean failed = new AtomicBoolean(false);
+		
+		ActorSystem system = createSystem();
+		List<UUID> receivers = new ArrayList<>();
+		for (int i=0; i<ACTORS; i++)
+			receivers.add(addReceiver(system, COUNT, failed, testDone));
+		UUID sender = system.addActor(() -> new Actor("sender") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				List<ActorMessage<?>> batch = new ArrayList<>();
+				for (int i=0; i<COUNT; i++)
+					for (UUID receiver : receivers)
+						batch.add(ActorMessage.create(i, 0, self(), receiver));
+				send(batch);
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), sender));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		assertFalse(failed.get());
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_system_send() {
+		final int ACTORS = 4;
+		final int COUNT = 1_000;
+		CountDownLatch testDone = new CountDownLatch(ACTORS+1);
+		AtomicBoolean failed = new AtomicBoolean(false);
+		
+		ActorSystem system = createSystem();
+		List<UUID> receivers = new ArrayList<>();
+		for (int i=0; i<ACTORS; i++)
+			receivers.add(addReceiver(system, COUNT, failed, testDone));
+		PseudoActor pseudo = new PseudoActor(system, false) {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				testDone.countDown();
+			}
+		};
+		
+		system.start();
+		
+		List<ActorMessage<?>> batch = new ArrayList<>();
+		for (int i=0; i<COUNT; i++) {
+			for (UUID receiver : receivers)
+				batch.add(ActorMessage.create(i, 0, system.SYSTEM_ID(), receiver));
+			if (i==COUNT/2)
+				batch.add(ActorMessage.create(i, 0, system.SYSTEM_ID(), pseudo.getId()));
+		}
+		system.send(batch);
+		
+		pseudo.runOnce();
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		assertFalse(failed.get());
+		
+		system.shutdownWithActors(true);
+	}
+}
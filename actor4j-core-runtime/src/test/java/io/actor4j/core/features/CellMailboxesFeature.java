@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorDispatcherMode;
+import io.actor4j.core.runtime.InternalActorSystem;
+import io.actor4j.core.runtime.MailboxInternalActorExecutorService;
+
+import static org.junit.Assert.*;
+
+public class CellMailboxesFeature extends VirtualThreadsFeature {
+	@Override
+	protected ActorSystem createSystem() {
+		return ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.dispatcherMode(ActorDispatcherMode.CELL_MAILBOXES)
+			.build());
+	}
+	
+	@Override
+	@Test(timeout=5000)
+	public void test_dispatcherMode() {
+		ActorSystem system = createSystem();
+		assertTrue(((InternalActorSystem)system).getExecutorService() instanceof MailboxInternalActorExecutorService);
+		
+		system = ActorSystem.create(AllFeaturesTest.factory());
+		assertFalse(((InternalActorSystem)system).getExecutorService() instanceof MailboxInternalActorExecutorService);
+		system.setConfig(ActorSystemConfig.builder().dispatcherMode(ActorDispatcherMode.CELL_MAILBOXES).build());
+		assertTrue(((InternalActorSystem)system).getExecutorService() instanceof MailboxInternalActorExecutorService);
+	}
+	
+	@Test(timeout=5000)
+	public void test_mailboxThroughput() {
+		final int COUNT = 1_000;
+		final int THROUGHPUT = 10;
+		CountDownLatch testDone = new CountDownLatch(1);
+		AtomicInteger counterA = new AtomicInteger(0);
+		AtomicInteger counterAtFirstB = new AtomicInteger(-1);
+		
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.dispatcherMode(ActorDispatcherMode.CELL_MAILBOXES)
+			.mailboxThroughput(THROUGHPUT)
+			.parallelism(1)
+			.parallelismFactor(1)
+			.build());
+		UUID a = system.addActor(() -> new Actor("a") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				counterA.incrementAndGet();
+			}
+		});
+		UUID b = system.addActor(() -> new Actor("b") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				counterAtFirstB.compareAndSet(-1, counterA.get());
+				testDone.countDown();
+			}
+		});
+		UUID sender = system.addActor(() -> new Actor("sender") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				for (int i=0; i<COUNT; i++)
+					tell(i, 0, a);
+				tell(null, 0, b);
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), sender));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		// b is not starved by the backlog of a
+		assertTrue(counterAtFirstB.get()<=THROUGHPUT);
+		
+		system.shutdownWithActors(true);
+	}
+}
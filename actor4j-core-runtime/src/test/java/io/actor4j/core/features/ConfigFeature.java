@@ -21,7 +21,9 @@ import org.junit.Test;
 
 import io.actor4j.core.ActorSystem;
 import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.runtime.ActorDispatcherMode;
 import io.actor4j.core.runtime.ActorThreadMode;
+import io.actor4j.core.utils.ActorIdGenerators;
 
 public class ConfigFeature {
 	@Test
@@ -42,6 +44,20 @@ public class ConfigFeature {
 		assertEquals(ActorThreadMode.PARK, system.getConfig().threadMode());
 		assertEquals(false, system.getConfig().serverMode());
 		assertEquals(25, system.getConfig().sleepTime());
+		assertEquals(1_000, system.getConfig().backoffSpins());
+		assertEquals(100, system.getConfig().backoffYields());
+		assertEquals(ActorDispatcherMode.THREAD_QUEUES, system.getConfig().dispatcherMode());
+		assertFalse(system.getConfig().workStealingMode());
+		assertEquals(10, system.getConfig().mailboxThroughput());
+		assertEquals(4, system.getConfig().priorityLevels());
+		assertEquals(2, system.getConfig().defaultPriorityLevel());
+		assertNull(system.getConfig().overflowPolicy());
+		assertEquals(100, system.getConfig().overflowTimeout());
+		assertEquals(0.75, system.getConfig().overflowThreshold(), 0.0);
+		assertEquals(0, system.getConfig().sojournSampleRate());
+		assertEquals(100, system.getConfig().flightRecorderSampleRate());
+		assertEquals(0, system.getConfig().traceSampleRate());
+		assertEquals(4096, system.getConfig().traceBufferSize());
 		
 		assertEquals(200, system.getConfig().maxResourceThreads());
 		
@@ -55,7 +71,6 @@ public class ConfigFeature {
 		
 		assertEquals(false, system.getConfig().counterEnabled().get());
 		assertEquals(false, system.getConfig().threadProcessingTimeEnabled().get());
-		assertEquals(10_000, system.getConfig().maxStatisticValues());
 		
 		assertEquals(true, system.getConfig().horizontalPodAutoscalerEnabled());
 		assertEquals(15_000, system.getConfig().horizontalPodAutoscalerSyncTime());
@@ -65,6 +80,19 @@ public class ConfigFeature {
 		assertEquals(true, system.getConfig().watchdogEnabled());
 		assertEquals(5_000, system.getConfig().watchdogSyncTime());
 		assertEquals(2_000, system.getConfig().watchdogTimeout());
+		assertEquals(250, system.getConfig().watchdogDegradedThreshold());
+		assertEquals(16, system.getConfig().watchdogWindowSize());
+		
+		assertEquals(false, system.getConfig().rebalancingEnabled());
+		assertEquals(10_000, system.getConfig().rebalancingSyncTime());
+		assertEquals(0.25, system.getConfig().rebalancingThreshold(), 0.0);
+		assertEquals(false, system.getConfig().hotspotDetectionEnabled());
+		assertEquals(10_000, system.getConfig().hotspotDetectionSyncTime());
+		assertEquals(10, system.getConfig().hotspotReportSize());
+		assertEquals(100, system.getConfig().receiveBudget());
+		assertEquals(1024, system.getConfig().deadLetterBufferSize());
+		assertEquals(false, system.getConfig().compactAddresses());
+		assertEquals(ActorIdGenerators.SECURE_RANDOM, system.getConfig().idGenerator());
 	}
 	
 	@Test
@@ -80,7 +108,6 @@ public class ConfigFeature {
 			.sleepMode(100)
 			.horizontalPodAutoscalerSyncTime(30_000)
 			.horizontalPodAutoscalerMeasurementTime(3_000)
-			.maxStatisticValues(12_000)
 			.queueSize(55_000)
 			.bufferQueueSize(13_000)
 			.serverMode()
@@ -99,7 +126,6 @@ public class ConfigFeature {
 		assertEquals(100, system.getConfig().sleepTime());
 		assertEquals(30_000, system.getConfig().horizontalPodAutoscalerSyncTime());
 		assertEquals(3_000, system.getConfig().horizontalPodAutoscalerMeasurementTime());
-		assertEquals(12_000, system.getConfig().maxStatisticValues());
 		assertEquals(55_000, system.getConfig().queueSize());
 		assertEquals(13_000, system.getConfig().bufferQueueSize());
 		assertEquals(false, system.getConfig().persistenceMode());
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import io.actor4j.core.immutable.ImmutableObject;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.messages.ActorMessageCopiers;
+
+import static org.junit.Assert.*;
+
+public class CopyStrategyFeature {
+	/* e.g., a third-party immutable type */
+	public static class Money {
+		protected final long cents;
+		
+		public Money(long cents) {
+			this.cents = cents;
+		}
+	}
+	
+	public static class Euro extends Money {
+		public Euro(long cents) {
+			super(cents);
+		}
+	}
+	
+	protected ActorMessage<?> copy(Object value) {
+		return ActorMessage.create(value, 0, UUID.randomUUID(), UUID.randomUUID()).copy();
+	}
+	
+	@Test
+	public void test_defaults() {
+		assertTrue(ActorMessageCopiers.isIdentity(String.class));
+		assertTrue(ActorMessageCopiers.isIdentity(IllegalStateException.class));
+		assertFalse(ActorMessageCopiers.isCopyable(Money.class));
+		assertThrows(IllegalArgumentException.class, () -> copy(new Money(1)));
+		assertThrows(IllegalArgumentException.class, () -> ImmutableObject.of(new Money(1)));
+	}
+	
+	@Test
+	public void test_identity() {
+		ActorMessageCopiers.registerIdentity(Money.class);
+		try {
+			Euro value = new Euro(100);
+			assertSame(value, copy(value).value()); // subclasses too
+			assertNotNull(ImmutableObject.of(value));
+		}
+		finally {
+			ActorMessageCopiers.unregister(Money.class);
+		}
+		assertFalse(ActorMessageCopiers.isCopyable(Euro.class));
+	}
+	
+	@Test
+	public void test_clone_and_structural() {
+		ActorMessageCopiers.registerClone(Date.class);
+		ActorMessageCopiers.registerClone(int[].class);
+		ActorMessageCopiers.registerStructural(List.class);
+		ActorMessageCopiers.registerStructural(Map.class);
+		try {
+			Date date = new Date();
+			Date dateCopy = (Date)copy(date).value();
+			assertNotSame(date, dateCopy);
+			assertEquals(date, dateCopy);
+			
+			int[] array = { 1, 2, 3 };
+			assertArrayEquals(array, (int[])copy(array).value());
+			assertNotSame(array, copy(array).value());
+			
+			Map<String, List<Date>> map = new HashMap<>();
+			map.put("dates", new ArrayList<>(List.of(date)));
+			@SuppressWarnings("unchecked")
+			Map<String, List<Date>> mapCopy = (Map<String, List<Date>>)copy(map).value();
+			assertTrue(mapCopy instanceof HashMap);
+			assertEquals(map, mapCopy);
+			assertNotSame(map.get("dates"), mapCopy.get("dates"));
+			assertNotSame(date, mapCopy.get("dates").get(0));
+		}
+		finally {
+			ActorMessageCopiers.unregister(Date.class);
+			ActorMessageCopiers.unregister(int[].class);
+			ActorMessageCopiers.unregister(List.class);
+			ActorMessageCopiers.unregister(Map.class);
+		}
+	}
+	
+	/* e.g., a third-party immutable list (like Guava's ImmutableList) */
+	public static abstract class FixedList extends AbstractList<Integer> {
+	}
+	
+	@Test
+	public void test_closest() {
+		ActorMessageCopiers.registerStructural(Collection.class);
+		ActorMessageCopiers.registerIdentity(FixedList.class); // registered later, but closer
+		try {
+			FixedList value = new FixedList() {
+				@Override
+				public Integer get(int index) {
+					return index;
+				}
+				
+				@Override
+				public int size() {
+					return 3;
+				}
+			};
+			assertSame(value, copy(value).value());
+			
+			List<Integer> list = new ArrayList<>(List.of(1, 2, 3));
+			assertNotSame(list, copy(list).value());
+			assertEquals(list, copy(list).value());
+		}
+		finally {
+			ActorMessageCopiers.unregister(Collection.class);
+			ActorMessageCopiers.unregister(FixedList.class);
+		}
+	}
+	
+	@Test
+	public void test_custom() {
+		ActorMessageCopiers.register(Money.class, (value) -> new Money(value.cents));
+		try {
+			Money value = new Money(100);
+			Money copy = (Money)copy(value).value();
+			assertNotSame(value, copy);
+			assertEquals(100, copy.cents);
+		}
+		finally {
+			ActorMessageCopiers.unregister(Money.class);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.DefaultActorSystemImpl;
+import io.actor4j.core.runtime.deadletters.ActorDeadLetter;
+import io.actor4j.core.runtime.deadletters.ActorDeadLetters;
+
+import static org.junit.Assert.*;
+
+public class DeadLetterFeature {
+	protected ActorSystem createSystem(ActorSystemConfig.Builder<?> builder) {
+		return ActorSystem.create(AllFeaturesTest.factory(), builder
+			.parallelism(2)
+			.parallelismFactor(1)
+			.build());
+	}
+	
+	@Test(timeout=5000)
+	public void test_counters_and_drain() {
+		final int COUNT = 10;
+		
+		ActorSystem system = createSystem(ActorSystemConfig.builder().deadLetterBufferSize(8));
+		system.start();
+		
+		UUID dest = UUID.randomUUID();
+		for (int i=0; i<COUNT; i++)
+			system.send(ActorMessage.create(i, i%2, system.SYSTEM_ID(), dest));
+		system.send(ActorMessage.create(null, 2, system.SYSTEM_ID(), UUID.randomUUID()));
+		
+		ActorDeadLetters deadLetters = ((DefaultActorSystemImpl)system).getDeadLetters();
+		assertEquals(COUNT+1, deadLetters.getCount());
+		assertEquals(COUNT, deadLetters.getCount(dest));
+		assertEquals(COUNT/2, deadLetters.getCount(0));
+		assertEquals(COUNT/2, deadLetters.getCount(1));
+		assertEquals(1, deadLetters.getCount(2));
+		assertEquals(2, deadLetters.getCountsByDest().size());
+		
+		/* the ring buffer keeps the recent dead letters */
+		List<ActorDeadLetter> recent = deadLetters.getDeadLetters();
+		assertEquals(8, recent.size());
+		assertEquals(3, recent.get(0).message().valueAsInt());
+		assertEquals(dest, recent.get(0).dest());
+		
+		List<ActorDeadLetter> batch = deadLetters.drain(5);
+		assertEquals(5, batch.size());
+		assertEquals(3, batch.get(0).message().valueAsInt());
+		batch = deadLetters.drain(5);
+		assertEquals(3, batch.size());
+		assertEquals(2, batch.get(2).message().tag());
+		assertTrue(deadLetters.drain(5).isEmpty());
+		assertEquals(COUNT+1, deadLetters.getCount());
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_subscriber() throws InterruptedException {
+		CountDownLatch testDone = new CountDownLatch(1);
+		AtomicReference<ActorDeadLetter> received = new AtomicReference<>();
+		
+		ActorSystem system = createSystem(ActorSystemConfig.builder());
+		UUID subscriber = system.addActor(() -> new Actor("subscriber") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.tag()==DEAD_LETTER && message.value() instanceof ActorDeadLetter deadLetter) {
+					received.set(deadLetter);
+					testDone.countDown();
+				}
+			}
+		});
+		ActorDeadLetters deadLetters = ((DefaultActorSystemImpl)system).getDeadLetters();
+		deadLetters.subscribe(subscriber);
+		
+		system.start();
+		
+		UUID dest = UUID.randomUUID();
+		system.send(ActorMessage.create("lost", 42, system.SYSTEM_ID(), dest));
+		testDone.await();
+		
+		assertEquals(dest, received.get().dest());
+		assertEquals("lost", received.get().message().valueAsString());
+		assertEquals(1, deadLetters.getCount());
+		
+		system.shutdownWithActors(true);
+	}
+}
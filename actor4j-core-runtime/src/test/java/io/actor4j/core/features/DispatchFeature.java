@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.actors.ResourceActor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorCellDispatch;
+import io.actor4j.core.runtime.ActorCellKind;
+import io.actor4j.core.runtime.ActorRoute;
+import io.actor4j.core.runtime.ActorRoutingTable;
+import io.actor4j.core.runtime.ActorThread;
+import io.actor4j.core.runtime.InternalActorCell;
+import io.actor4j.core.runtime.InternalActorSystem;
+
+import static org.junit.Assert.*;
+
+public class DispatchFeature {
+	protected ActorSystem system;
+	
+	@Before
+	public void before() {
+		system = ActorSystem.create(AllFeaturesTest.factory());
+	}
+	
+	@Test(timeout=5000)
+	public void test_descriptor() {
+		UUID actor = system.addActor(() -> new Actor() {
+			@Override
+			public void receive(ActorMessage<?> message) {
+			}
+		});
+		UUID resource = system.addActor(() -> new ResourceActor() {
+			@Override
+			public void receive(ActorMessage<?> message) {
+			}
+		});
+		
+		ActorCellDispatch dispatch = ((InternalActorSystem)system).getCells().get(actor).getDispatch();
+		assertEquals(ActorCellKind.DEFAULT, dispatch.getKind());
+		assertNull(dispatch.getProcess());
+		assertEquals(ActorCellKind.RESOURCE, ((InternalActorSystem)system).getCells().get(resource).getDispatch().getKind());
+		
+		system.start();
+		assertTrue(dispatch.getProcess() instanceof ActorThread);
+		
+		ActorRoutingTable routingTable = ((InternalActorSystem)system).getRoutingTable();
+		assertTrue(routingTable.get(actor).isDirect());
+		assertFalse(routingTable.get(resource).isDirect());
+		
+		system.addRedirection(actor, resource);
+		assertEquals(resource, routingTable.get(actor).redirect());
+		assertFalse(routingTable.get(actor).isDirect());
+		system.removeRedirection(actor);
+		assertTrue(routingTable.get(actor).isDirect());
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_routingTable() {
+		UUID a = system.addActor(() -> new Actor("a") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+			}
+		});
+		UUID b = system.addActor(() -> new Actor("b") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+			}
+		});
+		system.setAlias(a, "alias");
+		system.addRedirection(a, b);
+		
+		ActorRoutingTable routingTable = ((InternalActorSystem)system).getRoutingTable();
+		ActorRoute route = routingTable.get(a);
+		assertNotNull(route.cell());
+		assertEquals(b, route.redirect());
+		assertEquals("alias", route.alias());
+		assertEquals("alias", system.getAliasFromActor(a));
+		assertEquals(1, system.getActorsFromAlias("alias").size());
+		
+		((InternalActorSystem)system).removeActor(a);
+		assertFalse(((InternalActorSystem)system).getCells().containsKey(a));
+		assertTrue(system.getActorsFromAlias("alias").isEmpty());
+		assertEquals(b, ((InternalActorSystem)system).getRedirector().get(a));
+		
+		system.removeRedirection(a);
+		assertNull(routingTable.get(a));
+		assertTrue(((InternalActorSystem)system).getRedirector().isEmpty());
+	}
+	
+	@Test(timeout=5000)
+	public void test_class_based() {
+		InternalActorCell cell = ((InternalActorSystem)system).generateCell(Actor.class);
+		assertEquals(ActorCellKind.DEFAULT, cell.getDispatch().getKind());
+		
+		/* the kind is taken from the actor, when it is instantiated after the cell */
+		cell.setActor(new ResourceActor() {
+			@Override
+			public void receive(ActorMessage<?> message) {
+			}
+		});
+		assertEquals(ActorCellKind.RESOURCE, cell.getDispatch().getKind());
+	}
+	
+	@Test(timeout=5000)
+	public void test_sizes() {
+		test_sizes(system);
+		test_sizes(ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder().compactAddresses(false).build()));
+	}
+	
+	protected void test_sizes(ActorSystem system) {
+		Map<UUID, InternalActorCell> cells = ((InternalActorSystem)system).getCells();
+		Map<UUID, UUID> redirector = ((InternalActorSystem)system).getRedirector();
+		int count = cells.size();
+		assertEquals(count, new ArrayList<>(cells.keySet()).size());
+		
+		UUID a = system.addActor(() -> new Actor("a") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+			}
+		});
+		UUID b = system.addActor(() -> new ResourceActor("b") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+			}
+		});
+		assertEquals(count+2, cells.size());
+		assertEquals(1, ((InternalActorSystem)system).getResourceCells().size());
+		assertTrue(redirector.isEmpty());
+		
+		system.addRedirection(a, b);
+		assertEquals(1, redirector.size());
+		assertEquals(count+2, cells.size());
+		
+		((InternalActorSystem)system).removeActor(a);
+		assertEquals(count+1, cells.size());
+		assertEquals(1, redirector.size());
+		system.removeRedirection(a);
+		assertTrue(redirector.isEmpty());
+		assertEquals(cells.size(), new ArrayList<>(cells.keySet()).size());
+	}
+	
+	@Test(timeout=5000)
+	public void test_redirection() {
+		CountDownLatch testDone = new CountDownLatch(1);
+		AtomicInteger counterA = new AtomicInteger(0);
+		AtomicInteger counterB = new AtomicInteger(0);
+		
+		UUID b = system.addActor(() -> new Actor("b") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				counterB.incrementAndGet();
+				if (message.tag()==1)
+					testDone.countDown();
+			}
+		});
+		UUID a = system.addActor(() -> new Actor("a") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				counterA.incrementAndGet();
+				if (message.tag()==0) {
+					system.addRedirection(self(), b);
+					send(ActorMessage.create(null, 1, self(), self()));
+				}
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), a));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		assertEquals(1, counterA.get());
+		assertEquals(1, counterB.get());
+		
+		system.shutdownWithActors(true);
+	}
+}
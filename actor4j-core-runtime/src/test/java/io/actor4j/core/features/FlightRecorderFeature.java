@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.Assert.*;
+
+public class FlightRecorderFeature {
+	@Test(timeout=10000)
+	public void test_events() throws IOException {
+		CountDownLatch testDone = new CountDownLatch(2);
+		
+		Recording recording = new Recording();
+		for (String name : new String[] { "io.actor4j.MessageEnqueue", "io.actor4j.MessageDequeue", "io.actor4j.Receive", 
+			"io.actor4j.Lifecycle", "io.actor4j.Supervisor", "io.actor4j.Undelivered" })
+			recording.enable(name);
+		recording.start();
+		
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.flightRecorderSampleRate(1)
+			.build());
+		UUID slow = system.addActor(() -> new Actor("slow") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				try {
+					Thread.sleep(20); // above the threshold of 10 ms
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				testDone.countDown();
+			}
+		});
+		UUID victim = system.addActor(() -> new Actor("victim") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+			}
+			
+			@Override
+			public void postStop() {
+				testDone.countDown();
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), slow));
+		system.send(ActorMessage.create(null, Actor.KILL, system.SYSTEM_ID(), victim));
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), UUID.randomUUID()));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		system.shutdownWithActors(true);
+		
+		recording.stop();
+		Path path = Files.createTempFile("actor4j", ".jfr");
+		try {
+			recording.dump(path);
+			
+			Set<String> names = new HashSet<>();
+			Set<String> actions = new HashSet<>();
+			Set<String> slowActors = new HashSet<>();
+			for (RecordedEvent event : RecordingFile.readAllEvents(path)) {
+				names.add(event.getEventType().getName());
+				if (event.getEventType().getName().equals("io.actor4j.Lifecycle") && "victim".equals(event.getString("actor")))
+					actions.add(event.getString("action"));
+				if (event.getEventType().getName().equals("io.actor4j.Receive"))
+					slowActors.add(event.getString("actor"));
+			}
+			assertTrue(names.contains("io.actor4j.MessageEnqueue"));
+			assertTrue(names.contains("io.actor4j.MessageDequeue"));
+			assertTrue(slowActors.contains("slow"));
+			assertTrue(names.contains("io.actor4j.Supervisor"));
+			assertTrue(names.contains("io.actor4j.Undelivered"));
+			assertTrue(actions.contains("kill"));
+			assertTrue(actions.contains("stop"));
+		}
+		finally {
+			recording.close();
+			Files.deleteIfExists(path);
+		}
+	}
+}
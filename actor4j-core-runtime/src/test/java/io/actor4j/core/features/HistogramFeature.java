@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorQueueKind;
+import io.actor4j.core.runtime.ActorSojournMessage;
+import io.actor4j.core.runtime.ActorThread;
+import io.actor4j.core.runtime.ActorThreadPool;
+import io.actor4j.core.runtime.DefaultInternalActorExecutorService;
+import io.actor4j.core.runtime.InternalActorSystem;
+import io.actor4j.core.utils.LatencyHistogram;
+
+import static org.junit.Assert.*;
+
+public class HistogramFeature {
+	@Test
+	public void test_percentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getValueAtPercentile(99));
+		
+		for (long value=1; value<=100_000; value++)
+			histogram.record(value*1_000);
+		
+		assertEquals(100_000, histogram.getCount());
+		assertEquals(100_000_000, histogram.getMax());
+		assertEquals(50_000_500, histogram.getMean(), 1);
+		assertEquals(50_000_000, histogram.getValueAtPercentile(50), 50_000_000*0.0625);
+		assertEquals(99_000_000, histogram.getValueAtPercentile(99), 99_000_000*0.0625);
+		assertEquals(99_900_000, histogram.getValueAtPercentile(99.9), 99_900_000*0.0625);
+		assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+		
+		// reads do not reset
+		assertEquals(100_000, histogram.getCount());
+	}
+	
+	@Test
+	public void test_without_percentiles() {
+		LatencyHistogram histogram = new LatencyHistogram(false);
+		for (long value=1; value<=10; value++)
+			histogram.record(value);
+		assertEquals(10, histogram.getCount());
+		assertEquals(55, histogram.getSum());
+		assertEquals(10, histogram.getMax());
+		
+		/* the buckets are allocated with the first request, only later values are covered */
+		assertEquals(0, histogram.getValueAtPercentile(50));
+		for (long value=100; value<=110; value++)
+			histogram.record(value);
+		assertEquals(100, histogram.getValueAtPercentile(0), 100*0.0625);
+		assertEquals(110, histogram.getValueAtPercentile(100));
+		assertEquals(21, histogram.getCount());
+	}
+	
+	@Test
+	public void test_bounds() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long value=0; value<16; value++)
+			histogram.record(value);
+		assertEquals(0, histogram.getValueAtPercentile(0));
+		assertEquals(7, histogram.getValueAtPercentile(50));
+		assertEquals(15, histogram.getValueAtPercentile(100));
+		
+		histogram.record(-1);
+		histogram.record(Long.MAX_VALUE);
+		assertEquals(18, histogram.getCount());
+		assertEquals(LatencyHistogram.MAX_VALUE, histogram.getMax());
+	}
+	
+	@Test(timeout=5000)
+	public void test_statistics() {
+		final int COUNT = 1_000;
+		CountDownLatch testDone = new CountDownLatch(COUNT);
+		
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.threadProcessingTimeEnabled(true)
+			.build());
+		UUID actor = system.addActor(() -> new Actor() {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				testDone.countDown();
+			}
+		});
+		
+		system.start();
+		
+		for (int i=0; i<COUNT; i++)
+			system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), actor));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		
+		/* the processing time is recorded after receive, so the last values may lag behind */
+		List<LatencyHistogram> statistics = ((DefaultInternalActorExecutorService)((InternalActorSystem)system).getExecutorService())
+			.getActorThreadPool().getProcessingTimeStatistics();
+		try {
+			while (count(statistics)<COUNT)
+				TimeUnit.MILLISECONDS.sleep(1);
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		assertEquals(COUNT, count(statistics));
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_sojournTime() {
+		final int COUNT = 1_000;
+		CountDownLatch testDone = new CountDownLatch(COUNT);
+		AtomicBoolean failed = new AtomicBoolean(false);
+		
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.sojournSampleRate(1)
+			.build());
+		UUID actor = system.addActor(() -> new Actor() {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message instanceof ActorSojournMessage)
+					failed.set(true);
+				testDone.countDown();
+			}
+		});
+		
+		system.start();
+		
+		for (int i=0; i<COUNT; i++)
+			system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), actor));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		assertFalse(failed.get());
+		
+		/* the sojourn time is recorded before receive */
+		ActorThreadPool pool = ((DefaultInternalActorExecutorService)((InternalActorSystem)system).getExecutorService()).getActorThreadPool();
+		assertEquals(COUNT, count(pool.getSojournTimeStatistics()));
+		long outer = 0;
+		for (ActorThread t : pool.getActorProcessList()) {
+			outer += t.getSojournTimeStatistics(ActorQueueKind.OUTER).getCount();
+			assertEquals(0, t.getSojournTimeStatistics(ActorQueueKind.INNER).getCount());
+		}
+		assertEquals(COUNT, outer);
+		
+		system.shutdownWithActors(true);
+	}
+	
+	protected long count(List<LatencyHistogram> statistics) {
+		long result = 0;
+		for (LatencyHistogram histogram : statistics)
+			result += histogram.getCount();
+		return result;
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorHotspotDetector;
+import io.actor4j.core.runtime.ActorHotspotReport;
+import io.actor4j.core.runtime.ActorThread;
+import io.actor4j.core.runtime.DefaultInternalActorExecutorService;
+import io.actor4j.core.runtime.InternalActorSystem;
+
+import static org.junit.Assert.*;
+
+public class HotspotFeature {
+	protected ActorSystem createSystem() {
+		return ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.parallelism(2)
+			.parallelismFactor(1)
+			.hotspotDetectionEnabled(true)
+			.hotspotDetectionSyncTime(60_000)
+			.hotspotReportSize(2)
+			.receiveBudget(20)
+			.build());
+	}
+	
+	protected ActorHotspotDetector detector(ActorSystem system) {
+		return ((DefaultInternalActorExecutorService)((InternalActorSystem)system).getExecutorService()).getActorThreadPool().getHotspotDetector();
+	}
+	
+	@Test(timeout=5000)
+	public void test_report() throws InterruptedException {
+		final int COUNT = 1_000;
+		CountDownLatch testDone = new CountDownLatch(COUNT+2);
+		
+		ActorSystem system = createSystem();
+		UUID hot = system.addActor(() -> new Actor("hot") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				testDone.countDown();
+			}
+		});
+		UUID cold = system.addActor(() -> new Actor("cold") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				testDone.countDown();
+			}
+		});
+		UUID slow = system.addActor(() -> new Actor("slow") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				try {
+					Thread.sleep(30);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				testDone.countDown();
+			}
+		});
+		
+		system.start();
+		
+		ActorHotspotDetector detector = detector(system);
+		assertNotNull(detector);
+		
+		for (int i=0; i<COUNT; i++)
+			system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), hot));
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), cold));
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), slow));
+		testDone.await();
+		TimeUnit.MILLISECONDS.sleep(10); // processing time is recorded after receive
+		
+		ActorHotspotReport report = detector.detect();
+		assertSame(report, detector.getReport());
+		assertEquals(2, report.byRequestRate().size());
+		assertEquals("hot", report.byRequestRate().get(0).actor());
+		assertEquals(COUNT, report.byRequestRate().get(0).requests());
+		assertEquals("slow", report.byProcessingTime().get(0).actor());
+		assertTrue(report.byProcessingTime().get(0).processingTime()>=30_000_000);
+		assertTrue(report.toString().contains("hot"));
+		
+		/* counts only the requests since the last run */
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), cold));
+		TimeUnit.MILLISECONDS.sleep(20);
+		report = detector.detect();
+		assertEquals(1, report.byRequestRate().size());
+		assertEquals("cold", report.byRequestRate().get(0).actor());
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_overBudget() throws InterruptedException {
+		CountDownLatch received = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		
+		ActorSystem system = createSystem();
+		UUID blocked = system.addActor(() -> new Actor("blocked") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				received.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), blocked));
+		received.await();
+		TimeUnit.MILLISECONDS.sleep(50);
+		
+		ActorHotspotReport report = detector(system).detect();
+		assertEquals(1, report.overBudget().size());
+		assertEquals("blocked", report.overBudget().get(0).actor());
+		assertTrue(report.overBudget().get(0).receiveTime()>=50_000_000);
+		
+		release.countDown();
+		TimeUnit.MILLISECONDS.sleep(20);
+		
+		/* the receive is over, no longer reported */
+		for (ActorThread t : ((DefaultInternalActorExecutorService)((InternalActorSystem)system).getExecutorService()).getActorThreadPool().getActorProcessList()) {
+			assertNull(t.getCurrentCell());
+			assertEquals(-1, t.getCurrentReceiveTime());
+		}
+		assertTrue(detector(system).detect().overBudget().isEmpty());
+		
+		system.shutdownWithActors(true);
+	}
+}
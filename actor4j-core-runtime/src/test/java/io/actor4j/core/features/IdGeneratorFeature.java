@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorRoutingTable;
+import io.actor4j.core.utils.ActorIdGenerator;
+import io.actor4j.core.utils.ActorIdGenerators;
+
+import static org.junit.Assert.*;
+
+public class IdGeneratorFeature {
+	@Test(timeout=5000)
+	public void test_generators() throws InterruptedException {
+		UUID id = ActorIdGenerators.RANDOM.generate();
+		assertEquals(4, id.version());
+		assertEquals(2, id.variant());
+		
+		final int THREADS = 4;
+		final int COUNT = 10_000;
+		ActorIdGenerator generator = ActorIdGenerators.timeBased();
+		assertEquals(8, generator.generate().version());
+		assertEquals(2, generator.generate().variant());
+		
+		Set<UUID> ids = ConcurrentHashMap.newKeySet();
+		Thread[] threads = new Thread[THREADS];
+		for (int i=0; i<THREADS; i++) {
+			threads[i] = new Thread(() -> {
+				for (int j=0; j<COUNT; j++)
+					ids.add(generator.generate());
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(THREADS*COUNT, ids.size());
+	}
+	
+	@Test(timeout=5000)
+	public void test_compact() {
+		/* generators created within the same millisecond must not hand out the same compact ids */
+		for (int i=0; i<50; i++) {
+			ActorRoutingTable first = new ActorRoutingTable(true, ActorIdGenerators.timeBased());
+			ActorRoutingTable second = new ActorRoutingTable(true, ActorIdGenerators.timeBased());
+			assertNotEquals(first.createId(), second.createId());
+		}
+	}
+	
+	@Test(timeout=5000)
+	public void test_config() {
+		AtomicInteger counter = new AtomicInteger();
+		ActorIdGenerator generator = () -> new UUID(0x4000L, 0x8000000000000000L | counter.incrementAndGet());
+		
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.idGenerator(generator)
+			.compactAddresses(false)
+			.build());
+		assertEquals(0x4000L, system.SYSTEM_ID().getMostSignificantBits());
+		UUID actor = system.addActor(() -> new Actor() {
+			@Override
+			public void receive(ActorMessage<?> message) {
+			}
+		});
+		assertEquals(0x4000L, actor.getMostSignificantBits());
+		
+		system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.idGenerator(generator)
+			.compactAddresses(true)
+			.build());
+		actor = system.addActor(() -> new Actor() {
+			@Override
+			public void receive(ActorMessage<?> message) {
+			}
+		});
+		assertEquals(0x4000L, actor.getMostSignificantBits());
+		assertTrue(ActorRoutingTable.isCompact(actor));
+	}
+	
+	@Test(timeout=5000)
+	public void test_setConfig() {
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory());
+		/* the addressing is fixed with the initial config */
+		assertFalse(system.setConfig(ActorSystemConfig.builder().compactAddresses(true).build()));
+		assertFalse(system.setConfig(ActorSystemConfig.builder().idGenerator(ActorIdGenerators.RANDOM).build()));
+		assertFalse(system.getConfig().compactAddresses());
+		assertTrue(system.setConfig(ActorSystemConfig.builder().parallelism(2).build()));
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+import io.actor4j.core.logging.AsyncLogHandler;
+
+import static io.actor4j.core.logging.ActorLogger.*;
+import static org.junit.Assert.*;
+
+public class LoggingFeature {
+	protected static class CapturingHandler extends Handler {
+		protected final List<LogRecord> records = new CopyOnWriteArrayList<>();
+		protected final List<String> threadNames = new CopyOnWriteArrayList<>();
+		protected final CountDownLatch blocked;
+		
+		public CapturingHandler(CountDownLatch blocked) {
+			super();
+			this.blocked = blocked;
+			setLevel(Level.ALL);
+			setFormatter(new Formatter() {
+				@Override
+				public String format(LogRecord record) {
+					return formatMessage(record);
+				}
+			});
+		}
+		
+		@Override
+		public void publish(LogRecord record) {
+			try {
+				blocked.await();
+			} catch (InterruptedException e) {
+				e.printStackTrace();
+			}
+			records.add(record);
+			threadNames.add(Thread.currentThread().getName());
+		}
+		
+		@Override
+		public void flush() {
+		}
+		
+		@Override
+		public void close() throws SecurityException {
+		}
+	}
+	
+	protected Logger createLogger(String name, Handler handler) {
+		Logger result = Logger.getLogger(name);
+		result.setUseParentHandlers(false);
+		result.setLevel(INFO);
+		result.addHandler(handler);
+		
+		return result;
+	}
+	
+	@Test(timeout=5000)
+	public void test_async() {
+		CapturingHandler capturingHandler = new CapturingHandler(new CountDownLatch(0));
+		AsyncLogHandler handler = new AsyncLogHandler(capturingHandler);
+		Logger logger = createLogger("TEST-ASYNC", handler);
+		
+		logger.log(DEBUG, "[LIFECYCLE] actor ({0}) stopped", "filtered");
+		logger.log(INFO, "[LIFECYCLE] actor ({0}) stopped", "actor");
+		logger.log(INFO, "[REPLICATION] Domain ''{0}'' deploying ({1})", new Object[] { "domain", "pod" });
+		handler.flush();
+		
+		assertEquals(2, capturingHandler.records.size());
+		assertEquals("[LIFECYCLE] actor (actor) stopped", capturingHandler.getFormatter().format(capturingHandler.records.get(0)));
+		assertEquals("[REPLICATION] Domain 'domain' deploying (pod)", capturingHandler.getFormatter().format(capturingHandler.records.get(1)));
+		assertEquals(LoggingFeature.class.getName(), capturingHandler.records.get(0).getSourceClassName());
+		assertEquals("test_async", capturingHandler.records.get(0).getSourceMethodName());
+		
+		handler.close();
+		logger.removeHandler(handler);
+	}
+	
+	@Test(timeout=5000)
+	public void test_async_dropped() {
+		final int COUNT = 100;
+		CountDownLatch blocked = new CountDownLatch(1);
+		CapturingHandler capturingHandler = new CapturingHandler(blocked);
+		AsyncLogHandler handler = new AsyncLogHandler(capturingHandler, 4);
+		Logger logger = createLogger("TEST-ASYNC-DROPPED", handler);
+		
+		// the output is blocked, the logging thread must not be blocked
+		for (int i=0; i<COUNT; i++)
+			logger.log(INFO, "[TEST] record {0}", String.valueOf(i));
+		assertTrue(handler.getDroppedCount()>0);
+		
+		blocked.countDown();
+		handler.flush();
+		
+		assertTrue(capturingHandler.records.size()<COUNT);
+		LogRecord last = capturingHandler.records.get(capturingHandler.records.size()-1);
+		assertEquals(WARN, last.getLevel());
+		assertTrue(last.getMessage().startsWith("[LOGGING]"));
+		assertEquals(0, handler.getDroppedCount());
+		
+		handler.close();
+		logger.removeHandler(handler);
+	}
+}
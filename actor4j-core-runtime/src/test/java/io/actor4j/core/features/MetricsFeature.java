@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorDispatcherMode;
+import io.actor4j.core.runtime.DefaultActorSystemImpl;
+import io.actor4j.core.runtime.metrics.ActorMetrics;
+import io.actor4j.core.runtime.metrics.ActorMetricsSnapshot;
+import io.actor4j.core.runtime.metrics.OpenMetricsExporter;
+
+import static org.junit.Assert.*;
+
+public class MetricsFeature {
+	protected static final int COUNT = 100;
+	
+	protected ActorSystem createSystem(CountDownLatch testDone) {
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.name("metrics")
+			.parallelism(2)
+			.parallelismFactor(1)
+			.counterEnabled(true)
+			.build());
+		UUID actor = system.addActor(() -> new Actor("actor") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.tag()==1)
+					unhandled(message);
+				testDone.countDown();
+			}
+		});
+		
+		system.start();
+		
+		for (int i=0; i<COUNT; i++)
+			system.send(ActorMessage.create(null, i<COUNT-1 ? 0 : 1, system.SYSTEM_ID(), actor));
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), UUID.randomUUID()));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		
+		return system;
+	}
+	
+	/*
+	 * The thread counter is incremented after receive.
+	 */
+	protected void awaitCount(ActorMetrics metrics, long count) {
+		try {
+			while (metrics.getCount()<count)
+				TimeUnit.MILLISECONDS.sleep(1);
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+	}
+	
+	@Test(timeout=5000)
+	public void test_snapshot() {
+		ActorSystem system = createSystem(new CountDownLatch(COUNT));
+		ActorMetrics metrics = ((DefaultActorSystemImpl)system).getMetrics();
+		awaitCount(metrics, COUNT);
+		
+		ActorMetricsSnapshot snapshot = metrics.snapshot();
+		assertTrue(metrics.isThreadMetricsAvailable());
+		assertEquals(2, snapshot.threads());
+		assertEquals(2, metrics.getInnerQueueSizes().length);
+		assertArrayEquals(snapshot.getThreadCounts(), metrics.getThreadCounts());
+		assertEquals(COUNT, snapshot.getCount());
+		assertEquals(1, snapshot.getUndeliveredCount());
+		assertEquals(1, snapshot.getUnhandledCount());
+		assertTrue(snapshot.getCellCount()>=1);
+		for (int i=0; i<snapshot.threads(); i++) {
+			assertNotNull(snapshot.getThreadNames()[i]);
+			assertEquals(0, snapshot.getOuterQueueSizes()[i]);
+		}
+		assertTrue(metrics.getCellRequestRates().containsValue((long)COUNT));
+		
+		/* reuses the snapshot */
+		assertSame(snapshot, metrics.snapshot(snapshot));
+		assertSame(snapshot.getThreadCounts(), metrics.snapshot(snapshot).getThreadCounts());
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_modes() {
+		for (ActorDispatcherMode mode : new ActorDispatcherMode[] { ActorDispatcherMode.CELL_MAILBOXES, ActorDispatcherMode.VIRTUAL_THREADS }) {
+			CountDownLatch testDone = new CountDownLatch(1);
+			ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+				.dispatcherMode(mode)
+				.counterEnabled(true)
+				.build());
+			UUID actor = system.addActor(() -> new Actor("actor") {
+				@Override
+				public void receive(ActorMessage<?> message) {
+					testDone.countDown();
+				}
+			});
+			
+			system.start();
+			
+			system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), actor));
+			try {
+				testDone.await();
+			} catch (InterruptedException e) {
+				e.printStackTrace();
+			}
+			
+			/* no actor threads, the thread metrics are empty */
+			ActorMetrics metrics = ((DefaultActorSystemImpl)system).getMetrics();
+			assertFalse(metrics.isThreadMetricsAvailable());
+			assertEquals(0, metrics.getThreadCounts().length);
+			assertEquals(0, metrics.getOuterQueueSizes().length);
+			assertEquals(0, metrics.getParkCounts().length);
+			ActorMetricsSnapshot snapshot = metrics.snapshot();
+			assertEquals(0, snapshot.threads());
+			assertEquals(0, snapshot.getCount());
+			assertTrue(snapshot.getCellCount()>=1);
+			
+			system.shutdownWithActors(true);
+		}
+	}
+	
+	@Test(timeout=5000)
+	public void test_mbean() throws Exception {
+		ActorSystem system = createSystem(new CountDownLatch(COUNT));
+		ActorMetrics metrics = ((DefaultActorSystemImpl)system).getMetrics();
+		awaitCount(metrics, COUNT);
+		
+		metrics.registerMBean();
+		try {
+			assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(metrics.getObjectName(), "UndeliveredCount"));
+			assertEquals((long)COUNT, ManagementFactory.getPlatformMBeanServer().getAttribute(metrics.getObjectName(), "Count"));
+			assertEquals(2, ((long[])ManagementFactory.getPlatformMBeanServer().getAttribute(metrics.getObjectName(), "ThreadCounts")).length);
+		}
+		finally {
+			metrics.unregisterMBean();
+		}
+		assertNull(metrics.getObjectName());
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_openMetrics() throws IOException {
+		ActorSystem system = createSystem(new CountDownLatch(COUNT));
+		ActorMetrics metrics = ((DefaultActorSystemImpl)system).getMetrics();
+		awaitCount(metrics, COUNT);
+		
+		OpenMetricsExporter exporter = new OpenMetricsExporter(metrics, true);
+		exporter.start(new InetSocketAddress("localhost", 0));
+		try {
+			HttpURLConnection connection = (HttpURLConnection)URI.create("http://localhost:"+exporter.getAddress().getPort()+"/metrics").toURL().openConnection();
+			assertEquals(200, connection.getResponseCode());
+			assertEquals(OpenMetricsExporter.CONTENT_TYPE, connection.getContentType());
+			
+			String body;
+			try (InputStream input = connection.getInputStream()) {
+				body = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+			}
+			assertTrue(body.endsWith("# EOF\n"));
+			assertTrue(body.contains("# TYPE actor4j_thread_messages counter\n"));
+			assertTrue(body.contains("actor4j_undelivered_messages_total{system=\"metrics\"} 1\n"));
+			assertTrue(body.contains("actor4j_unhandled_messages_total{system=\"metrics\"} 1\n"));
+			assertTrue(body.contains("queue=\"outer\"} 0\n"));
+			assertTrue(body.contains("actor4j_cell_messages_total{system=\"metrics\",actor=\""));
+		}
+		finally {
+			exporter.stop();
+		}
+		
+		system.shutdownWithActors(true);
+	}
+}
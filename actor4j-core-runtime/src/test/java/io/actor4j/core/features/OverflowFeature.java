@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.actors.OverflowPolicy;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorBoundedQueue;
+import io.actor4j.core.runtime.ActorOverflowPolicy;
+import io.actor4j.core.runtime.ActorSojournMessage;
+import io.actor4j.core.runtime.ActorThread;
+import io.actor4j.core.runtime.DefaultActorSystemImpl;
+import io.actor4j.core.runtime.DefaultActorThread;
+import io.actor4j.core.runtime.DefaultInternalActorExecutorService;
+import io.actor4j.core.runtime.InternalActorSystem;
+import io.actor4j.core.runtime.deadletters.ActorDeadLetter;
+
+import static org.junit.Assert.*;
+
+public class OverflowFeature {
+	protected static final int CAPACITY = 10;
+	protected static final int COUNT = 100;
+	
+	protected ActorSystem createSystem(ActorOverflowPolicy overflowPolicy) {
+		return ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.parallelism(1)
+			.parallelismFactor(1)
+			.queueSize(CAPACITY)
+			.overflowPolicy(overflowPolicy)
+			.build());
+	}
+	
+	protected long getOverflowCount(ActorSystem system) {
+		long result = 0;
+		for (ActorThread t : ((DefaultInternalActorExecutorService)((InternalActorSystem)system).getExecutorService()).getActorThreadPool().getActorProcessList())
+			result += ((DefaultActorThread)t).getOverflowCount();
+		
+		return result;
+	}
+	
+	/*
+	 * The only thread is blocked by the blocker, while the queue is filled from outside. Afterwards all messages, 
+	 * that were not discarded, have to arrive.
+	 */
+	protected List<Integer> overflow(ActorSystem system, boolean perActor) {
+		List<Integer> result = new CopyOnWriteArrayList<>();
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		
+		UUID receiver = perActor ? system.addActor(() -> new ReceiverWithOverflowPolicy(result)) : system.addActor(() -> new Receiver(result));
+		UUID blocker = system.addActor(() -> new Actor("blocker") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				blocked.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					e.printStackTrace();
+				}
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), blocker));
+		try {
+			blocked.await();
+			for (int i=0; i<COUNT; i++)
+				system.send(ActorMessage.create(i, 0, system.SYSTEM_ID(), receiver));
+			long expected = COUNT-getOverflowCount(system);
+			release.countDown();
+			while (result.size()<expected)
+				Thread.sleep(1);
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		
+		return result;
+	}
+	
+	@Test(timeout=5000)
+	public void test_drop_newest() {
+		ActorSystem system = createSystem(ActorOverflowPolicy.DROP_NEWEST);
+		List<Integer> result = overflow(system, false);
+		
+		assertEquals(CAPACITY, result.size());
+		for (int i=0; i<CAPACITY; i++)
+			assertEquals(i, result.get(i).intValue());
+		assertEquals(COUNT-CAPACITY, getOverflowCount(system));
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_drop_oldest() {
+		ActorSystem system = createSystem(ActorOverflowPolicy.DROP_OLDEST);
+		List<Integer> result = overflow(system, false);
+		
+		assertEquals(CAPACITY, result.size());
+		for (int i=0; i<CAPACITY; i++)
+			assertEquals(COUNT-CAPACITY+i, result.get(i).intValue());
+		assertEquals(COUNT-CAPACITY, getOverflowCount(system));
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_per_actor() {
+		ActorSystem system = createSystem(ActorOverflowPolicy.REJECT);
+		List<Integer> result = overflow(system, true);
+		
+		assertEquals(CAPACITY, result.size());
+		for (int i=0; i<CAPACITY; i++)
+			assertEquals(COUNT-CAPACITY+i, result.get(i).intValue());
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_per_actor_only() {
+		/* without a policy of the system, the queues are bounded by the policy of the actor */
+		ActorSystem system = createSystem(null);
+		List<Integer> result = overflow(system, true);
+		
+		assertEquals(CAPACITY, result.size());
+		for (int i=0; i<CAPACITY; i++)
+			assertEquals(COUNT-CAPACITY+i, result.get(i).intValue());
+		assertEquals(COUNT-CAPACITY, getOverflowCount(system));
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_reject() {
+		ActorSystem system = createSystem(ActorOverflowPolicy.REJECT);
+		List<Integer> result = overflow(system, false);
+		
+		assertEquals(CAPACITY, result.size());
+		assertEquals(COUNT-CAPACITY, getOverflowCount(system));
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_reject_dead_letters() {
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.parallelism(1)
+			.parallelismFactor(1)
+			.queueSize(CAPACITY)
+			.overflowPolicy(ActorOverflowPolicy.REJECT)
+			.sojournSampleRate(1)
+			.build());
+		overflow(system, false);
+		
+		/* the rejected messages are recorded without the sampling wrapper */
+		List<ActorDeadLetter> deadLetters = ((DefaultActorSystemImpl)system).getDeadLetters().getDeadLetters();
+		assertEquals(COUNT-CAPACITY, deadLetters.size());
+		for (int i=0; i<deadLetters.size(); i++) {
+			assertFalse(deadLetters.get(i).message() instanceof ActorSojournMessage);
+			assertEquals(CAPACITY+i, deadLetters.get(i).message().valueAsInt());
+		}
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_random_early_discard() {
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.parallelism(1)
+			.parallelismFactor(1)
+			.queueSize(CAPACITY)
+			.overflowPolicy(ActorOverflowPolicy.RANDOM_EARLY_DISCARD)
+			.overflowThreshold(0.5)
+			.build());
+		List<Integer> result = overflow(system, false);
+		
+		assertTrue(result.size()>=CAPACITY/2 && result.size()<=CAPACITY);
+		for (int i=1; i<result.size(); i++)
+			assertTrue(result.get(i-1)<result.get(i));
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_block() {
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.parallelism(1)
+			.parallelismFactor(1)
+			.queueSize(CAPACITY)
+			.overflowPolicy(ActorOverflowPolicy.BLOCK)
+			.overflowTimeout(2_000)
+			.build());
+		List<Integer> result = new CopyOnWriteArrayList<>();
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch testDone = new CountDownLatch(COUNT);
+		
+		UUID receiver = system.addActor(() -> new Actor("receiver") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				result.add(message.valueAsInt());
+				testDone.countDown();
+			}
+		});
+		UUID blocker = system.addActor(() -> new Actor("blocker") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				blocked.countDown();
+				try {
+					Thread.sleep(100);
+				} catch (InterruptedException e) {
+					e.printStackTrace();
+				}
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), blocker));
+		try {
+			blocked.await();
+			for (int i=0; i<COUNT; i++)
+				system.send(ActorMessage.create(i, 0, system.SYSTEM_ID(), receiver));
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		
+		for (int i=0; i<COUNT; i++)
+			assertEquals(i, result.get(i).intValue());
+		assertEquals(0, getOverflowCount(system));
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_bounded_queue() throws InterruptedException {
+		final int THREADS = 2;
+		final int ELEMENTS = 1_000;
+		
+		ActorBoundedQueue<Integer> queue = new ActorBoundedQueue<>(CAPACITY);
+		for (int i=0; i<CAPACITY; i++)
+			assertTrue(queue.offer(i));
+		assertFalse(queue.offer(CAPACITY));
+		assertEquals(CAPACITY, queue.size());
+		assertEquals(0, queue.peek().intValue());
+		queue.clear();
+		assertTrue(queue.isEmpty());
+		
+		/* multiple producers and consumers, each element is taken exactly once */
+		Set<Integer> taken = ConcurrentHashMap.newKeySet();
+		AtomicInteger count = new AtomicInteger();
+		Thread[] threads = new Thread[2*THREADS];
+		for (int i=0; i<THREADS; i++) {
+			final int offset = i*ELEMENTS;
+			threads[i] = new Thread(() -> {
+				for (int j=0; j<ELEMENTS; j++)
+					while (!queue.offer(offset+j))
+						Thread.yield();
+			});
+			threads[THREADS+i] = new Thread(() -> {
+				while (count.get()<THREADS*ELEMENTS) {
+					Integer element = queue.poll();
+					if (element!=null) {
+						assertTrue(taken.add(element));
+						count.incrementAndGet();
+					}
+					else
+						Thread.yield();
+				}
+			});
+		}
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(THREADS*ELEMENTS, taken.size());
+		assertTrue(queue.isEmpty());
+	}
+	
+	protected static class Receiver extends Actor {
+		protected final List<Integer> result;
+		
+		public Receiver(List<Integer> result) {
+			super("receiver");
+			
+			this.result = result;
+		}
+		
+		@Override
+		public void receive(ActorMessage<?> message) {
+			result.add(message.valueAsInt());
+		}
+	}
+	
+	protected static class ReceiverWithOverflowPolicy extends Receiver implements OverflowPolicy {
+		public ReceiverWithOverflowPolicy(List<Integer> result) {
+			super(result);
+		}
+		
+		@Override
+		public ActorOverflowPolicy overflowPolicy() {
+			return ActorOverflowPolicy.DROP_OLDEST;
+		}
+	}
+}
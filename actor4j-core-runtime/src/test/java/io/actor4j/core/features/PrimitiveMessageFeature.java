@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.messages.DoubleActorMessage;
+import io.actor4j.core.messages.IntActorMessage;
+import io.actor4j.core.messages.LongPair;
+import io.actor4j.core.messages.LongPairActorMessage;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveMessageFeature {
+	@Test(timeout=5000)
+	public void test_tell() throws InterruptedException {
+		final int COUNT = 1_000;
+		CountDownLatch testDone = new CountDownLatch(1);
+		AtomicBoolean failed = new AtomicBoolean(false);
+		AtomicLong sum = new AtomicLong(0);
+		
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory());
+		UUID pong = system.addActor(() -> new Actor("pong") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (!(message instanceof IntActorMessage))
+					failed.set(true);
+				tellInt(message.valueAsInt(), 0, message.source());
+			}
+		});
+		UUID ping = system.addActor(() -> new Actor("ping") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.tag()==1 && message instanceof LongPairActorMessage pair) {
+					sum.addAndGet(pair.first()+pair.second());
+					testDone.countDown();
+				}
+				else if (message.valueAsInt()<COUNT)
+					tellInt(message.valueAsInt()+1, 0, pong);
+				else
+					tellLongPair(COUNT, 42L, 1, self());
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.createInt(0, 0, system.SYSTEM_ID(), ping));
+		testDone.await();
+		assertFalse(failed.get());
+		assertEquals(COUNT+42L, sum.get());
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test
+	public void test_message() {
+		UUID source = UUID.randomUUID();
+		UUID dest = UUID.randomUUID();
+		
+		ActorMessage<Integer> message = ActorMessage.createInt(7, 1, source, dest);
+		assertEquals(7, message.valueAsInt());
+		assertEquals(Integer.valueOf(7), message.value());
+		assertSame(message, message.copy());
+		assertSame(message, message.copy(dest));
+		assertTrue(message.copy(source) instanceof IntActorMessage);
+		assertEquals(source, message.copy(source).dest());
+		assertEquals(8, message.shallowCopy(Integer.valueOf(8)).valueAsInt());
+		assertNull(message.shallowCopy((Integer)null).value());
+		
+		assertEquals(1.5, ActorMessage.createDouble(1.5, 0, source, dest).valueAsDouble(), 0.0);
+		assertTrue(ActorMessage.createDouble(1.5, 0, source, dest) instanceof DoubleActorMessage);
+		assertEquals(Long.MAX_VALUE, ActorMessage.createLong(Long.MAX_VALUE, 0, source, dest).valueAsLong());
+		assertEquals(new LongPair(1, 2), ActorMessage.createLongPair(1, 2, 0, source, dest).valueAsLongPair());
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorPriorityQueue;
+
+import static org.junit.Assert.*;
+
+public class PriorityFeature {
+	@Test
+	public void test_queue() {
+		ActorPriorityQueue queue = new ActorPriorityQueue(3);
+		assertEquals(3, queue.levels());
+		assertEquals(1, queue.defaultLevel());
+		assertTrue(queue.isEmpty());
+		
+		queue.offer(ActorMessage.create(null, 0, null, null), 2);
+		queue.offer(ActorMessage.create(null, 1, null, null), 1);
+		queue.offer(ActorMessage.create(null, 2, null, null), 2);
+		queue.offer(ActorMessage.create(null, 3, null, null), 0);
+		queue.offer(ActorMessage.create(null, 4, null, null), 5); // lowest level
+		queue.offer(ActorMessage.create(null, 5, null, null));    // default level
+		assertEquals(6, queue.size());
+		
+		List<Integer> tags = new ArrayList<>();
+		queue.forEach((message) -> tags.add(message.tag()));
+		assertEquals(List.of(3, 1, 5, 0, 2, 4), tags);
+		
+		queue.removeIf((message) -> message.tag()==1);
+		assertEquals(3, queue.peek().tag());
+		
+		tags.clear();
+		ActorMessage<?> message;
+		while ((message=queue.poll())!=null)
+			tags.add(message.tag());
+		assertEquals(List.of(3, 5, 0, 2, 4), tags);
+		assertTrue(queue.isEmpty());
+	}
+	
+	@Test(timeout=5000)
+	public void test_levels() {
+		final int COUNT = 100;
+		final int LEVELS = 4;
+		CountDownLatch testDone = new CountDownLatch(1);
+		List<Integer> result = new ArrayList<>();
+		
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.parallelism(1)
+			.parallelismFactor(1)
+			.priorityLevels(LEVELS)
+			.build());
+		UUID receiver = system.addActor(() -> new Actor("receiver") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				result.add(message.valueAsInt());
+				if (result.size()==COUNT*LEVELS)
+					testDone.countDown();
+			}
+		});
+		// the priority messages are queued, until the sender has finished
+		UUID sender = system.addActor(() -> new Actor("sender") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				for (int i=0; i<COUNT; i++)
+					for (int level=LEVELS-1; level>=0; level--)
+						priority(level*COUNT+i, 0, receiver, level);
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), sender));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		for (int i=0; i<COUNT*LEVELS; i++)
+			assertEquals(i, result.get(i).intValue());
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_levels_mixed() {
+		final int COUNT = 100;
+		final int LEVELS = 4;
+		CountDownLatch testDone = new CountDownLatch(1);
+		List<Integer> result = new ArrayList<>();
+		
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.parallelism(1)
+			.parallelismFactor(1)
+			.priorityLevels(LEVELS)
+			.build());
+		assertEquals(2, system.getConfig().defaultPriorityLevel());
+		UUID receiver = system.addActor(() -> new Actor("receiver") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				result.add(message.valueAsInt());
+				if (result.size()==COUNT*LEVELS)
+					testDone.countDown();
+			}
+		});
+		// priority messages without level are placed between the levels 1 and 3
+		UUID sender = system.addActor(() -> new Actor("sender") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				for (int i=0; i<COUNT; i++) {
+					priority(3*COUNT+i, 0, receiver, 3);
+					priority(2*COUNT+i, 0, receiver);
+					priority(1*COUNT+i, 0, receiver, 1);
+					priority(i, 0, receiver, 0);
+				}
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), sender));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		for (int i=0; i<COUNT*LEVELS; i++)
+			assertEquals(i, result.get(i).intValue());
+		
+		system.shutdownWithActors(true);
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.actors.ActorWithGroup;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorThreadPoolHandler;
+import io.actor4j.core.runtime.DefaultInternalActorExecutorService;
+import io.actor4j.core.runtime.InternalActorSystem;
+import io.actor4j.core.utils.ActorGroup;
+import io.actor4j.core.utils.ActorGroupSet;
+
+import static org.junit.Assert.*;
+
+public class RebalancingFeature {
+	protected static final int COUNT = 10_000;
+	
+	protected ActorSystem createSystem() {
+		return ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.parallelism(2)
+			.parallelismFactor(1)
+			.rebalancingEnabled(true)
+			.rebalancingSyncTime(100)
+			.build());
+	}
+	
+	protected Map<UUID, Long> getCellsMap(ActorSystem system) {
+		return ((DefaultInternalActorExecutorService)((InternalActorSystem)system).getExecutorService())
+			.getActorThreadPool().getActorThreadPoolHandler().getCellsMap();
+	}
+	
+	protected void place(ActorSystem system, List<UUID> actors) {
+		ActorThreadPoolHandler handler = ((DefaultInternalActorExecutorService)((InternalActorSystem)system).getExecutorService())
+			.getActorThreadPool().getActorThreadPoolHandler();
+		Long threadId = handler.getCellsMap().get(actors.get(0));
+		for (UUID id : actors) {
+			handler.getCellsMap().put(id, threadId);
+			handler.updateDispatch(((InternalActorSystem)system).getCells().get(id));
+		}
+	}
+	
+	protected static void receive(ActorMessage<?> message, int[] expected, AtomicBoolean failed, CountDownLatch testDone) {
+		if (message.valueAsInt()!=expected[0])
+			failed.set(true);
+		expected[0]++;
+		
+		long stopTime = System.nanoTime()+20_000;
+		while (System.nanoTime()<stopTime);
+		
+		if (expected[0]==COUNT)
+			testDone.countDown();
+	}
+	
+	protected void flood(ActorSystem system, List<UUID> actors, CountDownLatch testDone) {
+		for (int i=0; i<COUNT; i++)
+			for (UUID id : actors)
+				system.send(ActorMessage.create(i, 0, system.SYSTEM_ID(), id));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+	}
+	
+	@Test(timeout=10000)
+	public void test_rebalancing() {
+		final int ACTORS = 4;
+		CountDownLatch testDone = new CountDownLatch(ACTORS);
+		AtomicBoolean failed = new AtomicBoolean(false);
+		
+		ActorSystem system = createSystem();
+		List<UUID> actors = new ArrayList<>();
+		for (int i=0; i<ACTORS; i++)
+			actors.add(system.addActor(() -> new Actor() {
+				protected int[] expected = new int[1];
+				
+				@Override
+				public void receive(ActorMessage<?> message) {
+					RebalancingFeature.receive(message, expected, failed, testDone);
+				}
+			}));
+		
+		system.start();
+		
+		// all actors are placed on the same thread
+		Map<UUID, Long> cellsMap = getCellsMap(system);
+		Long threadId = cellsMap.get(actors.get(0));
+		place(system, actors);
+		
+		flood(system, actors, testDone);
+		assertFalse(failed.get());
+		
+		boolean migrated = false;
+		for (UUID id : actors)
+			migrated |= !threadId.equals(cellsMap.get(id));
+		assertTrue(migrated);
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=10000)
+	public void test_rebalancing_group() {
+		final int ACTORS = 4;
+		CountDownLatch testDone = new CountDownLatch(ACTORS);
+		AtomicBoolean failed = new AtomicBoolean(false);
+		
+		ActorSystem system = createSystem();
+		ActorGroup group = new ActorGroupSet();
+		List<UUID> actors = new ArrayList<>();
+		for (int i=0; i<ACTORS; i++)
+			if (i<2)
+				actors.add(system.addActor(() -> new ActorWithGroup(group) {
+					protected int[] expected = new int[1];
+					
+					@Override
+					public void receive(ActorMessage<?> message) {
+						RebalancingFeature.receive(message, expected, failed, testDone);
+					}
+				}));
+			else
+				actors.add(system.addActor(() -> new Actor() {
+					protected int[] expected = new int[1];
+					
+					@Override
+					public void receive(ActorMessage<?> message) {
+						RebalancingFeature.receive(message, expected, failed, testDone);
+					}
+				}));
+		
+		system.start();
+		
+		// all actors are placed on the thread of the group
+		Map<UUID, Long> cellsMap = getCellsMap(system);
+		Long threadId = cellsMap.get(actors.get(0));
+		place(system, actors);
+		
+		flood(system, actors, testDone);
+		assertFalse(failed.get());
+		
+		// group members stay colocated
+		assertEquals(cellsMap.get(actors.get(0)), cellsMap.get(actors.get(1)));
+		
+		system.shutdownWithActors(true);
+	}
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.features.pod.ExampleReplicationWithActorPod;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.pods.PodConfiguration;
+import io.actor4j.core.runtime.DefaultActorSystemImpl;
+import io.actor4j.core.runtime.tracing.ActorTraceContext;
+import io.actor4j.core.runtime.tracing.ActorTraceSpan;
+import io.actor4j.core.runtime.tracing.ActorTracer;
+import io.actor4j.core.utils.AskPattern;
+
+import static org.junit.Assert.*;
+
+public class TracingFeature {
+	protected ActorSystem createSystem(ActorSystemConfig.Builder<?> builder) {
+		return ActorSystem.create(AllFeaturesTest.factory(), builder
+			.parallelism(2)
+			.parallelismFactor(1)
+			.build());
+	}
+	
+	protected List<ActorTraceSpan> awaitSpans(ActorTracer tracer, int count) throws InterruptedException {
+		while (tracer.getSpans().size()<count)
+			TimeUnit.MILLISECONDS.sleep(1);
+		
+		return tracer.getSpans();
+	}
+	
+	/*
+	 * Spans of system actors (e.g., health checks of the watchdog) may be recorded as well.
+	 */
+	protected ActorTraceSpan awaitSpan(ActorTracer tracer, String actor) throws InterruptedException {
+		ActorTraceSpan result;
+		while ((result=span(tracer.getSpans(), actor))==null)
+			TimeUnit.MILLISECONDS.sleep(1);
+		
+		return result;
+	}
+	
+	protected ActorTraceSpan span(List<ActorTraceSpan> spans, String actor) {
+		for (ActorTraceSpan span : spans)
+			if (span.actor().equals(actor))
+				return span;
+		
+		return null;
+	}
+	
+	/*
+	 * The span of a sender is recorded after its receive, so it may follow the span of the receiver.
+	 */
+	protected ActorTraceSpan awaitParent(ActorTracer tracer, ActorTraceSpan span) throws InterruptedException {
+		while (true) {
+			for (ActorTraceSpan result : tracer.getSpans(span.traceId()))
+				if (result.spanId()==span.parentSpanId())
+					return result;
+			TimeUnit.MILLISECONDS.sleep(1);
+		}
+	}
+	
+	@Test(timeout=5000)
+	public void test_chain() throws InterruptedException {
+		CountDownLatch testDone = new CountDownLatch(1);
+		
+		ActorSystem system = createSystem(ActorSystemConfig.builder().traceSampleRate(1));
+		UUID c = system.addActor(() -> new Actor("c") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				testDone.countDown();
+			}
+		});
+		UUID b = system.addActor(() -> new Actor("b") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				forward(message, c);
+			}
+		});
+		UUID a = system.addActor(() -> new Actor("a") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				tell(null, 1, b);
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), a));
+		testDone.await();
+		
+		ActorTracer tracer = ((DefaultActorSystemImpl)system).getTracer();
+		ActorTraceSpan spanC = awaitSpan(tracer, "c");
+		ActorTraceSpan spanA = span(tracer.getSpans(), "a");
+		ActorTraceSpan spanB = span(tracer.getSpans(), "b");
+		assertNotNull(spanA);
+		assertNotNull(spanB);
+		
+		assertEquals(0, spanA.parentSpanId());
+		assertEquals(spanA.traceId(), spanB.traceId());
+		assertEquals(spanA.traceId(), spanC.traceId());
+		assertEquals(spanA.spanId(), spanB.parentSpanId());
+		assertEquals(spanB.spanId(), spanC.parentSpanId());
+		assertEquals(a, spanA.actorId());
+		assertEquals(1, spanC.tag());
+		
+		assertEquals(3, tracer.getSpans(spanA.traceId()).size());
+		assertTrue(tracer.toJson(spanA.traceId()).contains(ActorTraceContext.toHex(spanA.traceId())));
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_interaction() throws InterruptedException {
+		CountDownLatch testDone = new CountDownLatch(2);
+		
+		ActorSystem system = createSystem(ActorSystemConfig.builder().traceSampleRate(1));
+		UUID a = system.addActor(() -> new Actor("a") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				testDone.countDown();
+			}
+		});
+		UUID b = system.addActor(() -> new Actor("b") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				testDone.countDown();
+			}
+		});
+		
+		system.start();
+		
+		ActorTracer tracer = ((DefaultActorSystemImpl)system).getTracer();
+		UUID interaction = UUID.randomUUID();
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), a, interaction));
+		awaitSpan(tracer, "a");
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), b, interaction));
+		testDone.await();
+		
+		ActorTraceSpan spanB = awaitSpan(tracer, "b");
+		ActorTraceSpan spanA = span(tracer.getSpans(), "a");
+		assertEquals(spanA.traceId(), spanB.traceId());
+		assertEquals(spanA.spanId(), spanB.parentSpanId());
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_ask() throws InterruptedException {
+		CountDownLatch testDone = new CountDownLatch(1);
+		
+		ActorSystem system = createSystem(ActorSystemConfig.builder().traceSampleRate(1));
+		UUID a = system.addActor(() -> new Actor("a") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				tell(null, 1, message.source(), message.interaction());
+			}
+		});
+		UUID b = system.addActor(() -> new Actor("b") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				testDone.countDown();
+			}
+		});
+		
+		system.start();
+		
+		// the reply of the ask is continued by its interaction id
+		ActorTracer tracer = ((DefaultActorSystemImpl)system).getTracer();
+		Optional<ActorMessage<?>> reply = AskPattern.ask(ActorMessage.create(null, 0, system.SYSTEM_ID(), a, UUID.randomUUID()), system);
+		assertTrue(reply.isPresent());
+		awaitSpan(tracer, "a");
+		system.send(reply.get().shallowCopy(system.SYSTEM_ID(), b));
+		testDone.await();
+		
+		ActorTraceSpan spanB = awaitSpan(tracer, "b");
+		ActorTraceSpan spanA = span(tracer.getSpans(), "a");
+		assertNotNull(spanA);
+		assertEquals(0, spanA.parentSpanId());
+		assertEquals(spanA.traceId(), spanB.traceId());
+		assertEquals(spanA.spanId(), spanB.parentSpanId());
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_pod() throws InterruptedException {
+		CountDownLatch testDone = new CountDownLatch(1);
+		
+		ActorSystem system = createSystem(ActorSystemConfig.builder().traceSampleRate(1));
+		system.deployPods(
+			() -> new ExampleReplicationWithActorPod(), 
+			new PodConfiguration("ExampleReplicationWithActorPod", ExampleReplicationWithActorPod.class.getName(), 1, 1));
+		UUID client = system.addActor(() -> new Actor("client") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.tag()==42)
+					testDone.countDown();
+			}
+		});
+		UUID starter = system.addActor(() -> new Actor("starter") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				sendViaAlias(ActorMessage.create("Test", 0, client, null), "ExampleReplicationWithActorPod");
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), starter));
+		testDone.await();
+		
+		// client <- pod handler (callback) <- hello <- pod handler <- starter
+		ActorTracer tracer = ((DefaultActorSystemImpl)system).getTracer();
+		ActorTraceSpan span = awaitSpan(tracer, "client");
+		int hops = 0;
+		while (span.parentSpanId()!=0) {
+			span = awaitParent(tracer, span);
+			hops++;
+		}
+		assertEquals("starter", span.actor());
+		assertEquals(starter, span.actorId());
+		assertEquals(4, hops);
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_bufferSize() throws InterruptedException {
+		final int COUNT = 100;
+		CountDownLatch testDone = new CountDownLatch(COUNT);
+		
+		ActorSystem system = createSystem(ActorSystemConfig.builder().traceSampleRate(1).traceBufferSize(8));
+		UUID actor = system.addActor(() -> new Actor("actor") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				testDone.countDown();
+			}
+		});
+		
+		system.start();
+		
+		for (int i=0; i<COUNT; i++)
+			system.send(ActorMessage.create(i, 0, system.SYSTEM_ID(), actor));
+		testDone.await();
+		
+		ActorTracer tracer = ((DefaultActorSystemImpl)system).getTracer();
+		List<ActorTraceSpan> spans = awaitSpans(tracer, 8);
+		assertEquals(8, spans.size());
+		
+		tracer.clear();
+		assertTrue(tracer.getSpans().isEmpty());
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_disabled() throws InterruptedException {
+		CountDownLatch testDone = new CountDownLatch(1);
+		
+		ActorSystem system = createSystem(ActorSystemConfig.builder());
+		UUID actor = system.addActor(() -> new Actor("actor") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				testDone.countDown();
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), actor));
+		testDone.await();
+		
+		ActorTracer tracer = ((DefaultActorSystemImpl)system).getTracer();
+		assertFalse(tracer.isEnabled());
+		assertTrue(tracer.getSpans().isEmpty());
+		
+		system.shutdownWithActors(true);
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.utils.Transfer;
+
+import static org.junit.Assert.*;
+
+public class TransferFeature {
+	@Test(timeout=5000)
+	public void test_transfer() throws InterruptedException {
+		CountDownLatch testDone = new CountDownLatch(1);
+		AtomicReference<List<Integer>> received = new AtomicReference<>();
+		
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory());
+		UUID actor = system.addActor(() -> new Actor("receiver") {
+			@SuppressWarnings("unchecked")
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.value() instanceof Transfer<?> transfer) {
+					received.set((List<Integer>)transfer.take());
+					testDone.countDown();
+				}
+			}
+		});
+		
+		system.start();
+		
+		List<Integer> batch = new ArrayList<>();
+		for (int i=0; i<1_000; i++)
+			batch.add(i);
+		Transfer<List<Integer>> transfer = Transfer.of(batch);
+		system.send(ActorMessage.create(transfer, 0, system.SYSTEM_ID(), actor));
+		
+		/* the sender has lost the ownership */
+		assertFalse(transfer.isValid());
+		assertThrows(IllegalStateException.class, () -> transfer.get());
+		assertThrows(IllegalStateException.class, () -> system.send(ActorMessage.create(transfer, 0, system.SYSTEM_ID(), actor)));
+		
+		testDone.await();
+		assertSame(batch, received.get()); // not copied
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_priority() throws InterruptedException {
+		CountDownLatch testDone = new CountDownLatch(1);
+		AtomicReference<List<Integer>> received = new AtomicReference<>();
+		
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory());
+		UUID receiver = system.addActor(() -> new Actor("receiver") {
+			@SuppressWarnings("unchecked")
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.value() instanceof Transfer<?> transfer && transfer.isValid()) {
+					received.set((List<Integer>)transfer.take());
+					testDone.countDown();
+				}
+			}
+		});
+		List<Integer> batch = new ArrayList<>();
+		UUID sender = system.addActor(() -> new Actor("sender") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				priority(ActorMessage.create(Transfer.of(batch), 0, self(), receiver), 2);
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), sender));
+		testDone.await();
+		assertSame(batch, received.get()); // the receiver gets the valid transfer
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_debug() {
+		Transfer.debug(true);
+		try {
+			Transfer<StringBuilder> transfer = Transfer.of(new StringBuilder("payload"));
+			Transfer<StringBuilder> moved = transfer.deepCopy();
+			assertEquals("payload", moved.get().toString());
+			
+			IllegalStateException exception = assertThrows(IllegalStateException.class, () -> transfer.deepCopy());
+			assertNotNull(exception.getCause()); // refers to the first transfer
+		}
+		finally {
+			Transfer.debug(false);
+		}
+	}
+}
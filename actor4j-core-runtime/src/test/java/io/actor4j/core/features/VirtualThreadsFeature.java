@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorDispatcherMode;
+import io.actor4j.core.runtime.InternalActorSystem;
+import io.actor4j.core.runtime.VirtualInternalActorExecutorService;
+
+import static org.junit.Assert.*;
+
+public class VirtualThreadsFeature {
+	protected ActorSystem createSystem() {
+		return ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.dispatcherMode(ActorDispatcherMode.VIRTUAL_THREADS)
+			.build());
+	}
+	
+	@Test(timeout=5000)
+	public void test_dispatcherMode() {
+		ActorSystem system = createSystem();
+		assertTrue(((InternalActorSystem)system).getExecutorService() instanceof VirtualInternalActorExecutorService);
+		
+		system = ActorSystem.create(AllFeaturesTest.factory());
+		assertFalse(((InternalActorSystem)system).getExecutorService() instanceof VirtualInternalActorExecutorService);
+		system.setConfig(ActorSystemConfig.builder().dispatcherMode(ActorDispatcherMode.VIRTUAL_THREADS).build());
+		assertTrue(((InternalActorSystem)system).getExecutorService() instanceof VirtualInternalActorExecutorService);
+	}
+	
+	@Test(timeout=5000)
+	public void test_preStart_addChild() {
+		CountDownLatch testDone = new CountDownLatch(1);
+		
+		ActorSystem system = createSystem();
+		UUID parent = system.addActor(() -> new Actor("parent") {
+			protected UUID child;
+			
+			@Override
+			public void preStart() {
+				child = addChild(() -> new Actor("child") {
+					@Override
+					public void receive(ActorMessage<?> message) {
+						testDone.countDown();
+					}
+				});
+			}
+			
+			@Override
+			public void receive(ActorMessage<?> message) {
+				tell(null, 0, child);
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), parent));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_order() {
+		final int COUNT = 10_000;
+		CountDownLatch testDone = new CountDownLatch(1);
+		AtomicBoolean failed = new AtomicBoolean(false);
+		
+		ActorSystem system = createSystem();
+		UUID receiver = system.addActor(() -> new Actor("receiver") {
+			protected int expected = 0;
+			
+			@Override
+			public void receive(ActorMessage<?> message) {
+				if (message.valueAsInt()!=expected)
+					failed.set(true);
+				expected++;
+				if (expected==COUNT)
+					testDone.countDown();
+			}
+		});
+		UUID sender = system.addActor(() -> new Actor("sender") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				for (int i=0; i<COUNT; i++)
+					tell(i, 0, receiver);
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), sender));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		assertFalse(failed.get());
+		
+		system.shutdownWithActors(true);
+	}
+	
+	@Test(timeout=5000)
+	public void test_stop() {
+		CountDownLatch testDone = new CountDownLatch(1);
+		AtomicInteger counter = new AtomicInteger(0);
+		
+		ActorSystem system = createSystem();
+		UUID actor = system.addActor(() -> new Actor("actor") {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				counter.incrementAndGet();
+			}
+			
+			@Override
+			public void postStop() {
+				testDone.countDown();
+			}
+		});
+		
+		system.start();
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), actor));
+		system.send(ActorMessage.create(null, Actor.STOP, system.SYSTEM_ID(), actor));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		assertEquals(1, counter.get());
+		
+		system.shutdownWithActors(true);
+	}
+}
@@ -20,6 +20,7 @@ import static org.junit.Assert.*;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.Before;
@@ -29,6 +30,9 @@ import io.actor4j.core.ActorSystem;
 import io.actor4j.core.actors.Actor;
 import io.actor4j.core.config.ActorSystemConfig;
 import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorExecutorServiceImpl;
+import io.actor4j.core.runtime.ActorThreadHealth;
+import io.actor4j.core.runtime.DefaultWatchdogRunnable;
 import io.actor4j.core.runtime.InternalActorSystem;
 import io.actor4j.core.utils.AskPattern;
 
@@ -113,4 +117,53 @@ public class WatchdogFeature {
 		}
 		system.shutdown(true);
 	}
+	
+	@Test(timeout=5000)
+	public void test_health_check_degraded() throws InterruptedException {
+		CountDownLatch testDone = new CountDownLatch(1);
+		AtomicLong threadId = new AtomicLong();
+		
+		ActorSystem system = ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.parallelism(2)
+			.watchdogSyncTime(100)
+			.watchdogTimeout(1_000)
+			.watchdogDegradedThreshold(50)
+			.build());
+		UUID dest = system.addActor(() -> new Actor() {
+			@Override
+			public void receive(ActorMessage<?> message) {
+				threadId.getAndSet(Thread.currentThread().getId());
+				try {
+					Thread.sleep(300);
+				} catch (InterruptedException e) {
+					e.printStackTrace();
+				}
+				
+				testDone.countDown();
+			} 
+		});
+		
+		system.start();
+		
+		ActorExecutorServiceImpl<?> executorService = (ActorExecutorServiceImpl<?>)((InternalActorSystem)system).getExecutorService();
+		DefaultWatchdogRunnable watchdog = (DefaultWatchdogRunnable)executorService.getWatchdogRunnable();
+		while (watchdog.getRoundTripTimeWindow(0).getCount()==0)
+			TimeUnit.MILLISECONDS.sleep(10);
+		assertTrue(executorService.degradedThreads().isEmpty());
+		
+		system.send(ActorMessage.create(null, 0, system.SYSTEM_ID(), dest));
+		testDone.await();
+		/* the health check, that waited behind the receive, is answered late, but within the timeout */
+		while (!executorService.degradedThreads().contains(threadId.get()))
+			TimeUnit.MILLISECONDS.sleep(10);
+		assertEquals(0, executorService.nonResponsiveThreadsCount());
+		assertEquals(ActorThreadHealth.DEGRADED, watchdog.threadHealth().get(threadId.get()));
+		
+		long maxRoundTripTime = 0;
+		for (int i=0; i<2; i++)
+			maxRoundTripTime = Math.max(maxRoundTripTime, watchdog.getRoundTripTimeStatistics(i).getMax());
+		assertTrue(maxRoundTripTime>50_000_000);
+		
+		system.shutdown(true);
+	}
 }
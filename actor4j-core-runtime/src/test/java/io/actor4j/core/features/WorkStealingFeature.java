@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.features;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import io.actor4j.core.ActorSystem;
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.config.ActorSystemConfig;
+import io.actor4j.core.messages.ActorMessage;
+import io.actor4j.core.runtime.ActorDispatchEpochs;
+import io.actor4j.core.runtime.ActorThreadPoolHandler;
+import io.actor4j.core.runtime.DefaultInternalActorExecutorService;
+import io.actor4j.core.runtime.InternalActorSystem;
+import io.actor4j.core.runtime.MigrationActorMessageDispatcher;
+
+import static org.junit.Assert.*;
+
+public class WorkStealingFeature {
+	protected ActorSystem createSystem() {
+		return ActorSystem.create(AllFeaturesTest.factory(), ActorSystemConfig.builder()
+			.parallelism(2)
+			.parallelismFactor(1)
+			.throughput(10)
+			.idle(1000)
+			.workStealingMode()
+			.build());
+	}
+	
+	@Test(timeout=5000)
+	public void test_workStealingMode() {
+		ActorSystem system = createSystem();
+		assertTrue(((InternalActorSystem)system).getMessageDispatcher() instanceof MigrationActorMessageDispatcher);
+		
+		system = ActorSystem.create(AllFeaturesTest.factory());
+		assertFalse(((InternalActorSystem)system).getMessageDispatcher() instanceof MigrationActorMessageDispatcher);
+	}
+	
+	@Test(timeout=10000)
+	public void test_epochs() throws InterruptedException {
+		ActorDispatchEpochs epochs = new ActorDispatchEpochs((InternalActorSystem)createSystem());
+		for (int i=0; i<100; i++) {
+			Thread thread = new Thread(() -> epochs.get().enter());
+			thread.start();
+			thread.join();
+		}
+		assertEquals(100, epochs.size());
+		
+		/* the epochs of the terminated threads are pruned */
+		while (epochs.size()>0) {
+			System.gc();
+			Thread.sleep(10);
+			epochs.snapshot();
+		}
+	}
+	
+	@Test(timeout=10000)
+	public void test_stealing() {
+		final int ACTORS = 4;
+		final int COUNT = 10_000;
+		CountDownLatch testDone = new CountDownLatch(ACTORS);
+		AtomicBoolean failed = new AtomicBoolean(false);
+		
+		ActorSystem system = createSystem();
+		List<UUID> actors = new ArrayList<>();
+		for (int i=0; i<ACTORS; i++)
+			actors.add(system.addActor(() -> new Actor() {
+				protected int expected = 0;
+				
+				@Override
+				public void receive(ActorMessage<?> message) {
+					if (message.valueAsInt()!=expected)
+						failed.set(true);
+					expected++;
+					
+					long stopTime = System.nanoTime()+20_000;
+					while (System.nanoTime()<stopTime);
+					
+					if (expected==COUNT)
+						testDone.countDown();
+				}
+			}));
+		
+		system.start();
+		
+		ActorThreadPoolHandler handler = ((DefaultInternalActorExecutorService)((InternalActorSystem)system).getExecutorService())
+			.getActorThreadPool().getActorThreadPoolHandler();
+		Map<UUID, Long> cellsMap = handler.getCellsMap();
+		// all actors are placed on the same thread, the other thread is idle
+		Long threadId = cellsMap.get(actors.get(0));
+		for (UUID id : actors) {
+			cellsMap.put(id, threadId);
+			handler.updateDispatch(((InternalActorSystem)system).getCells().get(id));
+		}
+		
+		for (int i=0; i<COUNT; i++)
+			for (UUID id : actors)
+				system.send(ActorMessage.create(i, 0, system.SYSTEM_ID(), id));
+		try {
+			testDone.await();
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		assertFalse(failed.get());
+		
+		boolean stolen = false;
+		for (UUID id : actors)
+			stolen |= !threadId.equals(cellsMap.get(id));
+		assertTrue(stolen);
+		
+		system.shutdownWithActors(true);
+	}
+}
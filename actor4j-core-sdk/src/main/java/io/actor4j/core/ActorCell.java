@@ -15,6 +15,7 @@
  */
 package io.actor4j.core;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Queue;
 import java.util.UUID;
@@ -38,8 +39,10 @@ public interface ActorCell {
 	public void unbecomeAll();
 	
 	public void send(ActorMessage<?> message);
+	public void send(Collection<ActorMessage<?>> messages);
 	public void send(ActorMessage<?> message, String alias);
 	public void priority(ActorMessage<?> message);
+	public void priority(ActorMessage<?> message, int level);
 	public void unhandled(ActorMessage<?> message);
 	
 	public UUID addChild(ActorFactory factory);
@@ -16,6 +16,7 @@
 package io.actor4j.core;
 
 import java.io.File;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -62,6 +63,7 @@ public interface ActorSystem {
 	public UUID getActorFromPath(String path);
 	
 	public ActorSystem send(ActorMessage<?> message);
+	public ActorSystem send(Collection<ActorMessage<?>> messages);
 	public ActorSystem sendViaPath(ActorMessage<?> message, String path);
 	public ActorSystem sendViaAlias(ActorMessage<?> message, String alias);
 	public ActorSystem sendWhenActive(ActorMessage<?> message);
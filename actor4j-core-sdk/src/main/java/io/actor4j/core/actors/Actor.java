@@ -15,6 +15,7 @@
  */
 package io.actor4j.core.actors;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Queue;
 import java.util.UUID;
@@ -56,6 +57,8 @@ public abstract class Actor implements ActorRef {
 	public static final int UP    	   = checkTag(Integer.MAX_VALUE-1); // HEALTH_CHECK_SUCCESS
 	public static final int TIMEOUT    = checkTag(Integer.MAX_VALUE);
 	
+	public static final int DEAD_LETTER = checkTag(Integer.MAX_VALUE-2);
+	
 	/**
 	 * Don't create here, new actors as child or send messages too other actors. You will 
 	 * get a NullPointerException, because the variable cell is not initialized. It will 
@@ -234,6 +237,11 @@ public abstract class Actor implements ActorRef {
 		cell.send(message);
 	}
 	
+	@Override
+	public void send(Collection<ActorMessage<?>> messages) {
+		cell.send(messages);
+	}
+	
 	@Override
 	public void sendViaPath(ActorMessage<?> message, String path) {
 		UUID dest = cell.getSystem().getActorFromPath(path);
@@ -296,6 +304,26 @@ public abstract class Actor implements ActorRef {
 		sendViaAlias(ActorMessage.create(value, tag, self(), null, interaction, protocol, domain), alias);
 	}
 	
+	@Override
+	public void tellInt(int value, int tag, UUID dest) {
+		send(ActorMessage.createInt(value, tag, self(), dest));
+	}
+	
+	@Override
+	public void tellLong(long value, int tag, UUID dest) {
+		send(ActorMessage.createLong(value, tag, self(), dest));
+	}
+	
+	@Override
+	public void tellDouble(double value, int tag, UUID dest) {
+		send(ActorMessage.createDouble(value, tag, self(), dest));
+	}
+	
+	@Override
+	public void tellLongPair(long first, long second, int tag, UUID dest) {
+		send(ActorMessage.createLongPair(first, second, tag, self(), dest));
+	}
+	
 	@Override
 	public void forward(ActorMessage<?> message, UUID dest) {
 		send(message.shallowCopy(dest));
@@ -311,16 +339,31 @@ public abstract class Actor implements ActorRef {
 		cell.priority(message);
 	}
 	
+	@Override
+	public void priority(ActorMessage<?> message, int level) {
+		cell.priority(message, level);
+	}
+	
 	@Override
 	public void priority(ActorMessage<?> message, UUID dest) {
 		priority(message.shallowCopy(self(), dest));
 	}
 	
+	@Override
+	public void priority(ActorMessage<?> message, UUID dest, int level) {
+		priority(message.shallowCopy(self(), dest), level);
+	}
+	
 	@Override
 	public <T> void priority(T value, int tag, UUID dest) {
 		priority(ActorMessage.create(value, tag, self(), dest));
 	}
 	
+	@Override
+	public <T> void priority(T value, int tag, UUID dest, int level) {
+		priority(ActorMessage.create(value, tag, self(), dest), level);
+	}
+	
 	public void unhandled(ActorMessage<?> message) {
 		cell.unhandled(message);
 	}
@@ -15,6 +15,7 @@
  */
 package io.actor4j.core.actors;
 
+import java.util.Collection;
 import java.util.Queue;
 import java.util.UUID;
 
@@ -34,6 +35,7 @@ public interface ActorRef {
 	public boolean isRootInUser();
 	
 	public void send(ActorMessage<?> message);
+	public void send(Collection<ActorMessage<?>> messages);
 	public void sendViaPath(ActorMessage<?> message, String path);
 	public void sendViaAlias(ActorMessage<?> message, String alias);
 	public void send(ActorMessage<?> message, UUID dest);
@@ -46,11 +48,18 @@ public interface ActorRef {
 	public <T> void tell(T value, int tag, String alias, UUID interaction);
 	public <T> void tell(T value, int tag, String alias, UUID interaction, String protocol);
 	public <T> void tell(T value, int tag, String alias, UUID interaction, String protocol, String domain);
+	public void tellInt(int value, int tag, UUID dest);
+	public void tellLong(long value, int tag, UUID dest);
+	public void tellDouble(double value, int tag, UUID dest);
+	public void tellLongPair(long first, long second, int tag, UUID dest);
 	public void forward(ActorMessage<?> message, UUID dest);
 	public void forward(ActorMessage<?> message, String alias);
 	public void priority(ActorMessage<?> message);
+	public void priority(ActorMessage<?> message, int level);
 	public void priority(ActorMessage<?> message, UUID dest);
+	public void priority(ActorMessage<?> message, UUID dest, int level);
 	public <T> void priority(T value, int tag, UUID dest);
+	public <T> void priority(T value, int tag, UUID dest, int level);
 	
 	public void watch(UUID dest);
 	public void unwatch(UUID dest);
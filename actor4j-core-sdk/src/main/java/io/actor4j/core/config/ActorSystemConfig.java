@@ -20,7 +20,11 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import io.actor4j.core.persistence.drivers.PersistenceDriver;
 import io.actor4j.core.pods.Caching;
 import io.actor4j.core.pods.Database;
+import io.actor4j.core.runtime.ActorDispatcherMode;
+import io.actor4j.core.runtime.ActorOverflowPolicy;
 import io.actor4j.core.runtime.ActorThreadMode;
+import io.actor4j.core.utils.ActorIdGenerator;
+import io.actor4j.core.utils.ActorIdGenerators;
 
 public class ActorSystemConfig {
 	private final String name;
@@ -39,6 +43,20 @@ public class ActorSystemConfig {
 	private final int load;
 	private final ActorThreadMode threadMode;
 	private final long sleepTime;
+	private final int backoffSpins;
+	private final int backoffYields;
+	private final ActorDispatcherMode dispatcherMode;
+	private final boolean workStealingMode;
+	private final int mailboxThroughput;
+	private final int priorityLevels;
+	private final int defaultPriorityLevel;
+	private final ActorOverflowPolicy overflowPolicy;
+	private final long overflowTimeout;
+	private final double overflowThreshold;
+	private final int sojournSampleRate;
+	private final int flightRecorderSampleRate;
+	private final int traceSampleRate;
+	private final int traceBufferSize;
 	
 	private final int maxResourceThreads;
 	
@@ -55,7 +73,6 @@ public class ActorSystemConfig {
 	// Metrics
 	private final AtomicBoolean counterEnabled;
 	private final AtomicBoolean threadProcessingTimeEnabled;
-	private final int maxStatisticValues;
 	
 	// Pods
 	private final boolean horizontalPodAutoscalerEnabled;
@@ -68,6 +85,26 @@ public class ActorSystemConfig {
 	private final boolean watchdogEnabled;
 	private final long watchdogSyncTime;
 	private final long watchdogTimeout;
+	private final long watchdogDegradedThreshold; // in ms
+	private final int watchdogWindowSize;
+	
+	// Rebalancing
+	private final boolean rebalancingEnabled;
+	private final long rebalancingSyncTime;
+	private final double rebalancingThreshold;
+	
+	// Hotspot Detection
+	private final boolean hotspotDetectionEnabled;
+	private final long hotspotDetectionSyncTime;
+	private final int hotspotReportSize;
+	private final long receiveBudget; // in ms
+	
+	// Dead Letters
+	private final int deadLetterBufferSize; // recent dead letters
+	
+	// Addressing
+	private final boolean compactAddresses; // opt-in, cell ids with an address into the routing table (replaces the generator's least significant bits)
+	private final ActorIdGenerator idGenerator;
 	
 	// As Service
 	private final boolean serverMode;
@@ -120,6 +157,62 @@ public class ActorSystemConfig {
 		return sleepTime;
 	}
 	
+	public int backoffSpins() {
+		return backoffSpins;
+	}
+	
+	public int backoffYields() {
+		return backoffYields;
+	}
+	
+	public ActorDispatcherMode dispatcherMode() {
+		return dispatcherMode;
+	}
+	
+	public boolean workStealingMode() {
+		return workStealingMode;
+	}
+	
+	public int mailboxThroughput() {
+		return mailboxThroughput;
+	}
+	
+	public int priorityLevels() {
+		return priorityLevels;
+	}
+	
+	public int defaultPriorityLevel() {
+		return defaultPriorityLevel>=0 ? defaultPriorityLevel : priorityLevels/2;
+	}
+	
+	public ActorOverflowPolicy overflowPolicy() {
+		return overflowPolicy;
+	}
+	
+	public long overflowTimeout() {
+		return overflowTimeout;
+	}
+	
+	public double overflowThreshold() {
+		return overflowThreshold;
+	}
+	
+	public int sojournSampleRate() {
+		return sojournSampleRate;
+	}
+	
+	public int flightRecorderSampleRate() {
+		return flightRecorderSampleRate;
+	}
+	
+	public int traceSampleRate() {
+		return traceSampleRate;
+	}
+	
+	public int traceBufferSize() {
+		return traceBufferSize;
+	}
+	
 	public int maxResourceThreads() {
 		return maxResourceThreads;
 	}
@@ -152,10 +245,6 @@ public class ActorSystemConfig {
 		return threadProcessingTimeEnabled;
 	}
 	
-	public int maxStatisticValues() {
-		return maxStatisticValues;
-	}
-	
 	public boolean horizontalPodAutoscalerEnabled() {
 		return horizontalPodAutoscalerEnabled;
 	}
@@ -188,6 +277,54 @@ public class ActorSystemConfig {
 		return watchdogTimeout;
 	}
 	
+	public long watchdogDegradedThreshold() {
+		return watchdogDegradedThreshold;
+	}
+	
+	public int watchdogWindowSize() {
+		return watchdogWindowSize;
+	}
+	
+	public boolean rebalancingEnabled() {
+		return rebalancingEnabled;
+	}
+	
+	public long rebalancingSyncTime() {
+		return rebalancingSyncTime;
+	}
+	
+	public double rebalancingThreshold() {
+		return rebalancingThreshold;
+	}
+	
+	public boolean hotspotDetectionEnabled() {
+		return hotspotDetectionEnabled;
+	}
+	
+	public long hotspotDetectionSyncTime() {
+		return hotspotDetectionSyncTime;
+	}
+	
+	public int hotspotReportSize() {
+		return hotspotReportSize;
+	}
+	
+	public long receiveBudget() {
+		return receiveBudget;
+	}
+	
+	public int deadLetterBufferSize() {
+		return deadLetterBufferSize;
+	}
+	
+	public boolean compactAddresses() {
+		return compactAddresses;
+	}
+	
+	public ActorIdGenerator idGenerator() {
+		return idGenerator;
+	}
+	
 	public boolean serverMode() {
 		return serverMode;
 	}
@@ -209,6 +346,20 @@ public class ActorSystemConfig {
 		protected int load;
 		protected ActorThreadMode threadMode;
 		protected long sleepTime;
+		protected int backoffSpins;
+		protected int backoffYields;
+		protected ActorDispatcherMode dispatcherMode;
+		protected boolean workStealingMode;
+		protected int mailboxThroughput;
+		protected int priorityLevels;
+		protected int defaultPriorityLevel; // level of priority(message) without level (-1, if priorityLevels/2)
+		protected ActorOverflowPolicy overflowPolicy;
+		protected long overflowTimeout;
+		protected double overflowThreshold;
+		protected int sojournSampleRate; // 1 in N messages (0, if disabled)
+		protected int flightRecorderSampleRate; // 1 in N messages, while recording (if sojournSampleRate is disabled)
+		protected int traceSampleRate; // 1 in N untraced messages starts a trace (0, if disabled; THREAD_QUEUES mode only)
+		protected int traceBufferSize; // recorded spans
 		
 		protected int maxResourceThreads;
 		
@@ -225,7 +376,6 @@ public class ActorSystemConfig {
 		// Metrics
 		protected boolean counterEnabled;
 		protected boolean threadProcessingTimeEnabled;
-		protected int maxStatisticValues;
 		
 		// Pods
 		protected boolean horizontalPodAutoscalerEnabled;
@@ -238,6 +388,26 @@ public class ActorSystemConfig {
 		protected boolean watchdogEnabled;
 		protected long watchdogSyncTime;
 		protected long watchdogTimeout;
+		protected long watchdogDegradedThreshold;
+		protected int watchdogWindowSize;
+		
+		// Rebalancing
+		protected boolean rebalancingEnabled;
+		protected long rebalancingSyncTime;
+		protected double rebalancingThreshold;
+		
+		// Hotspot Detection
+		protected boolean hotspotDetectionEnabled;
+		protected long hotspotDetectionSyncTime;
+		protected int hotspotReportSize;
+		protected long receiveBudget;
+		
+		// Dead Letters
+		protected int deadLetterBufferSize;
+		
+		// Addressing
+		protected boolean compactAddresses;
+		protected ActorIdGenerator idGenerator;
 		
 		// As Service
 		protected boolean serverMode;
@@ -258,6 +428,18 @@ public class ActorSystemConfig {
 			calculateLoad();
 			threadMode = ActorThreadMode.PARK;
 			sleepTime = 25;
+			backoffSpins = 1_000;
+			backoffYields = 100;
+			dispatcherMode = ActorDispatcherMode.THREAD_QUEUES;
+			mailboxThroughput = 10;
+			priorityLevels = 4;
+			defaultPriorityLevel = -1;
+			overflowTimeout = 100;
+			overflowThreshold = 0.75;
+			sojournSampleRate = 0;
+			flightRecorderSampleRate = 100;
+			traceSampleRate = 0;
+			traceBufferSize = 4096;
 			
 			maxResourceThreads = 200;
 			
@@ -273,7 +455,6 @@ public class ActorSystemConfig {
 			// Metrics
 			counterEnabled = false;
 			threadProcessingTimeEnabled = false;
-			maxStatisticValues = 10_000;
 
 			// Pods
 			horizontalPodAutoscalerEnabled = true;
@@ -284,6 +465,26 @@ public class ActorSystemConfig {
 			watchdogEnabled = true;
 			watchdogSyncTime = 5_000;
 			watchdogTimeout = 2_000;
+			watchdogDegradedThreshold = 250;
+			watchdogWindowSize = 16;
+			
+			// Rebalancing
+			rebalancingEnabled = false;
+			rebalancingSyncTime = 10_000;
+			rebalancingThreshold = 0.25;
+			
+			// Hotspot Detection
+			hotspotDetectionEnabled = false;
+			hotspotDetectionSyncTime = 10_000;
+			hotspotReportSize = 10;
+			receiveBudget = 100;
+			
+			// Dead Letters
+			deadLetterBufferSize = 1024;
+			
+			// Addressing
+			compactAddresses = false;
+			idGenerator = ActorIdGenerators.SECURE_RANDOM;
 		}
 		
 		public Builder(T config) {
@@ -300,6 +501,20 @@ public class ActorSystemConfig {
 			this.load = config.load();
 			this.threadMode = config.threadMode();
 			this.sleepTime = config.sleepTime();
+			this.backoffSpins = config.backoffSpins();
+			this.backoffYields = config.backoffYields();
+			this.dispatcherMode = config.dispatcherMode();
+			this.workStealingMode = config.workStealingMode();
+			this.mailboxThroughput = config.mailboxThroughput();
+			this.priorityLevels = config.priorityLevels();
+			this.defaultPriorityLevel = ((ActorSystemConfig)config).defaultPriorityLevel; // keeps -1 (unresolved)
+			this.overflowPolicy = config.overflowPolicy();
+			this.overflowTimeout = config.overflowTimeout();
+			this.overflowThreshold = config.overflowThreshold();
+			this.sojournSampleRate = config.sojournSampleRate();
+			this.flightRecorderSampleRate = config.flightRecorderSampleRate();
+			this.traceSampleRate = config.traceSampleRate();
+			this.traceBufferSize = config.traceBufferSize();
 			this.maxResourceThreads = config.maxResourceThreads();
 			this.awaitTerminationTimeout = config.awaitTerminationTimeout();
 			this.maxRetries = config.maxRetries();
@@ -308,7 +523,6 @@ public class ActorSystemConfig {
 			this.persistenceMode = config.persistenceMode();
 			this.counterEnabled = config.counterEnabled().get();
 			this.threadProcessingTimeEnabled = config.threadProcessingTimeEnabled().get();
-			this.maxStatisticValues = config.maxStatisticValues();
 			this.horizontalPodAutoscalerEnabled = config.horizontalPodAutoscalerEnabled();
 			this.horizontalPodAutoscalerSyncTime = config.horizontalPodAutoscalerSyncTime();
 			this.horizontalPodAutoscalerMeasurementTime = config.horizontalPodAutoscalerMeasurementTime();
@@ -317,6 +531,18 @@ public class ActorSystemConfig {
 			this.watchdogEnabled = config.watchdogEnabled();
 			this.watchdogSyncTime = config.watchdogSyncTime();
 			this.watchdogTimeout = config.watchdogTimeout();
+			this.watchdogDegradedThreshold = config.watchdogDegradedThreshold();
+			this.watchdogWindowSize = config.watchdogWindowSize();
+			this.rebalancingEnabled = config.rebalancingEnabled();
+			this.rebalancingSyncTime = config.rebalancingSyncTime();
+			this.rebalancingThreshold = config.rebalancingThreshold();
+			this.hotspotDetectionEnabled = config.hotspotDetectionEnabled();
+			this.hotspotDetectionSyncTime = config.hotspotDetectionSyncTime();
+			this.hotspotReportSize = config.hotspotReportSize();
+			this.receiveBudget = config.receiveBudget();
+			this.deadLetterBufferSize = config.deadLetterBufferSize();
+			this.compactAddresses = config.compactAddresses();
+			this.idGenerator = config.idGenerator();
 			this.serverMode = config.serverMode();
 		}
 
@@ -411,6 +637,93 @@ public class ActorSystemConfig {
 			return this;
 		}
 		
+		public Builder<T> backoffMode() {
+			threadMode = ActorThreadMode.BACKOFF;
+
+			return this;
+		}
+		
+		public Builder<T> backoffMode(int backoffSpins, int backoffYields, long sleepTime) {
+			this.backoffSpins = backoffSpins;
+			this.backoffYields = backoffYields;
+			this.sleepTime = sleepTime;
+			threadMode = ActorThreadMode.BACKOFF;
+
+			return this;
+		}
+		
+		public Builder<T> dispatcherMode(ActorDispatcherMode dispatcherMode) {
+			this.dispatcherMode = dispatcherMode;
+
+			return this;
+		}
+		
+		public Builder<T> workStealingMode() {
+			workStealingMode = true;
+
+			return this;
+		}
+		
+		public Builder<T> mailboxThroughput(int mailboxThroughput) {
+			this.mailboxThroughput = mailboxThroughput;
+
+			return this;
+		}
+		
+		public Builder<T> priorityLevels(int priorityLevels) {
+			this.priorityLevels = priorityLevels;
+
+			return this;
+		}
+		
+		public Builder<T> defaultPriorityLevel(int defaultPriorityLevel) {
+			this.defaultPriorityLevel = defaultPriorityLevel;
+
+			return this;
+		}
+		
+		public Builder<T> overflowPolicy(ActorOverflowPolicy overflowPolicy) {
+			this.overflowPolicy = overflowPolicy;
+
+			return this;
+		}
+		
+		public Builder<T> overflowTimeout(long overflowTimeout) {
+			this.overflowTimeout = overflowTimeout;
+
+			return this;
+		}
+		
+		public Builder<T> overflowThreshold(double overflowThreshold) {
+			this.overflowThreshold = overflowThreshold;
+
+			return this;
+		}
+		
+		public Builder<T> sojournSampleRate(int sojournSampleRate) {
+			this.sojournSampleRate = sojournSampleRate;
+
+			return this;
+		}
+		
+		public Builder<T> flightRecorderSampleRate(int flightRecorderSampleRate) {
+			this.flightRecorderSampleRate = flightRecorderSampleRate;
+
+			return this;
+		}
+		
+		public Builder<T> traceSampleRate(int traceSampleRate) {
+			this.traceSampleRate = traceSampleRate;
+
+			return this;
+		}
+		
+		public Builder<T> traceBufferSize(int traceBufferSize) {
+			this.traceBufferSize = traceBufferSize;
+
+			return this;
+		}
+		
 		public Builder<T> maxResourceThreads(int maxResourceThreads) {
 			this.maxResourceThreads = maxResourceThreads;
 
@@ -454,12 +767,6 @@ public class ActorSystemConfig {
 			return this;
 		}
 		
-		public Builder<T> maxStatisticValues(int maxStatisticValues) {
-			this.maxStatisticValues = maxStatisticValues;
-			
-			return this;
-		}
-		
 		public Builder<T> horizontalPodAutoscalerEnabled(boolean enabled) {
 			this.horizontalPodAutoscalerEnabled = enabled;
 			
@@ -508,6 +815,78 @@ public class ActorSystemConfig {
 			return this;
 		}
 		
+		public Builder<T> watchdogDegradedThreshold(long watchdogDegradedThreshold) {
+			this.watchdogDegradedThreshold = watchdogDegradedThreshold;
+			
+			return this;
+		}
+		
+		public Builder<T> watchdogWindowSize(int watchdogWindowSize) {
+			this.watchdogWindowSize = watchdogWindowSize;
+			
+			return this;
+		}
+		
+		public Builder<T> rebalancingEnabled(boolean enabled) {
+			this.rebalancingEnabled = enabled;
+			
+			return this;
+		}
+		
+		public Builder<T> rebalancingSyncTime(long rebalancingSyncTime) {
+			this.rebalancingSyncTime = rebalancingSyncTime;
+			
+			return this;
+		}
+		
+		public Builder<T> rebalancingThreshold(double rebalancingThreshold) {
+			this.rebalancingThreshold = rebalancingThreshold;
+			
+			return this;
+		}
+		
+		public Builder<T> hotspotDetectionEnabled(boolean enabled) {
+			this.hotspotDetectionEnabled = enabled;
+			
+			return this;
+		}
+		
+		public Builder<T> hotspotDetectionSyncTime(long hotspotDetectionSyncTime) {
+			this.hotspotDetectionSyncTime = hotspotDetectionSyncTime;
+			
+			return this;
+		}
+		
+		public Builder<T> hotspotReportSize(int hotspotReportSize) {
+			this.hotspotReportSize = hotspotReportSize;
+			
+			return this;
+		}
+		
+		public Builder<T> receiveBudget(long receiveBudget) {
+			this.receiveBudget = receiveBudget;
+			
+			return this;
+		}
+		
+		public Builder<T> deadLetterBufferSize(int deadLetterBufferSize) {
+			this.deadLetterBufferSize = deadLetterBufferSize;
+			
+			return this;
+		}
+		
+		public Builder<T> compactAddresses(boolean enabled) {
+			this.compactAddresses = enabled;
+			
+			return this;
+		}
+		
+		public Builder<T> idGenerator(ActorIdGenerator idGenerator) {
+			this.idGenerator = idGenerator;
+			
+			return this;
+		}
+		
 		public Builder<T> serverMode() {
 			serverMode = true;
 
@@ -531,6 +910,20 @@ public class ActorSystemConfig {
 		this.load = builder.load;
 		this.threadMode = builder.threadMode;
 		this.sleepTime = builder.sleepTime;
+		this.backoffSpins = builder.backoffSpins;
+		this.backoffYields = builder.backoffYields;
+		this.dispatcherMode = builder.dispatcherMode;
+		this.workStealingMode = builder.workStealingMode;
+		this.mailboxThroughput = builder.mailboxThroughput;
+		this.priorityLevels = builder.priorityLevels;
+		this.defaultPriorityLevel = builder.defaultPriorityLevel;
+		this.overflowPolicy = builder.overflowPolicy;
+		this.overflowTimeout = builder.overflowTimeout;
+		this.overflowThreshold = builder.overflowThreshold;
+		this.sojournSampleRate = builder.sojournSampleRate;
+		this.flightRecorderSampleRate = builder.flightRecorderSampleRate;
+		this.traceSampleRate = builder.traceSampleRate;
+		this.traceBufferSize = builder.traceBufferSize;
 		this.maxResourceThreads = builder.maxResourceThreads;
 		this.awaitTerminationTimeout = builder.awaitTerminationTimeout;
 		this.maxRetries = builder.maxRetries;
@@ -539,7 +932,6 @@ public class ActorSystemConfig {
 		this.persistenceMode = builder.persistenceMode;
 		this.counterEnabled = new AtomicBoolean(builder.counterEnabled);
 		this.threadProcessingTimeEnabled = new AtomicBoolean(builder.threadProcessingTimeEnabled);
-		this.maxStatisticValues = builder.maxStatisticValues;
 		this.horizontalPodAutoscalerEnabled = builder.horizontalPodAutoscalerEnabled;
 		this.horizontalPodAutoscalerSyncTime = builder.horizontalPodAutoscalerSyncTime;
 		this.horizontalPodAutoscalerMeasurementTime = builder.horizontalPodAutoscalerMeasurementTime;
@@ -548,6 +940,18 @@ public class ActorSystemConfig {
 		this.watchdogEnabled = builder.watchdogEnabled;
 		this.watchdogSyncTime = builder.watchdogSyncTime;
 		this.watchdogTimeout = builder.watchdogTimeout;
+		this.watchdogDegradedThreshold = builder.watchdogDegradedThreshold;
+		this.watchdogWindowSize = builder.watchdogWindowSize;
+		this.rebalancingEnabled = builder.rebalancingEnabled;
+		this.rebalancingSyncTime = builder.rebalancingSyncTime;
+		this.rebalancingThreshold = builder.rebalancingThreshold;
+		this.hotspotDetectionEnabled = builder.hotspotDetectionEnabled;
+		this.hotspotDetectionSyncTime = builder.hotspotDetectionSyncTime;
+		this.hotspotReportSize = builder.hotspotReportSize;
+		this.receiveBudget = builder.receiveBudget;
+		this.deadLetterBufferSize = builder.deadLetterBufferSize;
+		this.compactAddresses = builder.compactAddresses;
+		this.idGenerator = builder.idGenerator;
 		this.serverMode = builder.serverMode;
 	}
 	
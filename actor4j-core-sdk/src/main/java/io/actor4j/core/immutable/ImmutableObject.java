@@ -15,9 +15,7 @@
  */
 package io.actor4j.core.immutable;
 
-import io.actor4j.core.messages.ActorMessageUtils;
-import io.actor4j.core.utils.DeepCopyable;
-import io.actor4j.core.utils.Shareable;
+import io.actor4j.core.messages.ActorMessageCopiers;
 
 public class ImmutableObject<T> implements ImmutableCollection<T> {
 	protected final T value;
@@ -26,7 +24,7 @@ public class ImmutableObject<T> implements ImmutableCollection<T> {
 		super();
 		
 		if (value!=null)
-			if (!(ActorMessageUtils.isSupportedType(value.getClass()) || value instanceof Record || value instanceof Shareable || value instanceof DeepCopyable || value instanceof Exception))
+			if (!ActorMessageCopiers.isCopyable(value.getClass()))
 				throw new IllegalArgumentException();
 		
 		this.value = value;
@@ -49,6 +49,18 @@ public class ActorLogger {
 		user_logger = logger;
 	}
 	
+	/*
+	 * The records are published by a background thread, the logging threads are never blocked by the output.
+	 */
+	public static void async() {
+		async(true);
+	}
+	
+	public static void async(boolean enabled) {
+		LoggerFactory.async(system_logger, enabled);
+		LoggerFactory.async(user_logger, enabled);
+	}
+	
 	public static void showSimpleClassName() {
 		showSimpleClassName(true);
 	}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/*
+ * Publishes the log records asynchronously to the delegate handler. The records are passed by a bounded lock-free 
+ * ring buffer (multiple producers, single consumer) to a background thread, that formats and writes them. Consuming is
+ * serialized by the monitor of drain, so that flush can publish the pending records from any thread. A producer
+ * never blocks, when the buffer is full, the record is dropped (and counted). The source and the thread name of a record 
+ * are captured by the producer.
+ */
+public class AsyncLogHandler extends Handler {
+	protected record Entry(LogRecord record, String threadName) {
+	}
+	
+	protected static final long PARK_TIME = TimeUnit.MILLISECONDS.toNanos(10);
+	
+	protected final Handler delegate;
+	
+	protected final AtomicReferenceArray<Entry> buffer;
+	protected final AtomicLongArray sequences; // per slot, the position, that may be written (or read, if +1)
+	protected final int mask;
+	protected final AtomicLong tail; // next position to write
+	protected volatile long head; // next position to read (written within drain only, read by the park check)
+	
+	protected final AtomicLong dropped;
+	protected final Thread thread;
+	protected volatile boolean parked;
+	protected volatile boolean closed;
+	
+	public AsyncLogHandler(Handler delegate) {
+		this(delegate, 8192);
+	}
+	
+	public AsyncLogHandler(Handler delegate, int capacity) {
+		super();
+		
+		this.delegate = delegate;
+		setLevel(delegate.getLevel());
+		
+		capacity = Integer.highestOneBit(Math.max(2, capacity-1)<<1); // next power of two
+		buffer = new AtomicReferenceArray<>(capacity);
+		sequences = new AtomicLongArray(capacity);
+		for (int i=0; i<capacity; i++)
+			sequences.set(i, i);
+		mask = capacity-1;
+		tail = new AtomicLong(0);
+		
+		dropped = new AtomicLong(0);
+		thread = new Thread(this::drainLoop, "actor4j-logging-thread");
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	public Handler getDelegate() {
+		return delegate;
+	}
+	
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+	
+	@Override
+	public void publish(LogRecord record) {
+		if (closed || !isLoggable(record))
+			return;
+		
+		record.getSourceClassName(); // infers the caller, before the record is handed over
+		if (offer(new Entry(record, Thread.currentThread().getName()))) {
+			if (parked)
+				LockSupport.unpark(thread);
+		}
+		else
+			dropped.incrementAndGet();
+	}
+	
+	protected boolean offer(Entry entry) {
+		for (;;) {
+			long position = tail.get();
+			int index = (int)position & mask;
+			long difference = sequences.get(index)-position;
+			if (difference==0) {
+				if (tail.compareAndSet(position, position+1)) {
+					buffer.lazySet(index, entry);
+					sequences.set(index, position+1);
+					return true;
+				}
+			}
+			else if (difference<0)
+				return false; // full
+		}
+	}
+	
+	/*
+	 * The caller must hold the monitor (see drain).
+	 */
+	protected Entry poll() {
+		long position = head;
+		int index = (int)position & mask;
+		if (sequences.get(index)!=position+1)
+			return null;
+		
+		Entry result = buffer.get(index);
+		buffer.lazySet(index, null);
+		sequences.set(index, position+mask+1);
+		head = position+1;
+		
+		return result;
+	}
+	
+	protected void drainLoop() {
+		while (!closed) {
+			if (!drain()) {
+				parked = true;
+				if (tail.get()==head) // double check, the producer may have missed the flag
+					LockSupport.parkNanos(this, PARK_TIME);
+				parked = false;
+			}
+		}
+		drain();
+	}
+	
+	/*
+	 * Returns true, if at least one record was published.
+	 */
+	protected synchronized boolean drain() {
+		boolean result = false;
+		
+		Entry entry;
+		while ((entry=poll())!=null) {
+			LoggerFactory.threadName.set(entry.threadName());
+			try {
+				delegate.publish(entry.record());
+			}
+			finally {
+				LoggerFactory.threadName.remove();
+			}
+			result = true;
+		}
+		
+		long count = dropped.getAndSet(0);
+		if (count>0) {
+			LogRecord record = new LogRecord(Level.WARNING, String.format("[LOGGING] %d log records dropped (buffer full)", count));
+			record.setLoggerName("LOGGING");
+			record.setSourceClassName(AsyncLogHandler.class.getName());
+			record.setSourceMethodName("drain");
+			delegate.publish(record);
+		}
+		if (result)
+			delegate.flush();
+		
+		return result;
+	}
+	
+	/*
+	 * Publishes all pending records (blocking the caller).
+	 */
+	@Override
+	public void flush() {
+		drain();
+	}
+	
+	/*
+	 * Stops the background thread, after all pending records were published. The delegate handler stays open.
+	 */
+	public void stop() {
+		closed = true;
+		LockSupport.unpark(thread);
+		try {
+			thread.join(TimeUnit.SECONDS.toMillis(1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		drain();
+	}
+	
+	@Override
+	public void close() throws SecurityException {
+		stop();
+		delegate.close();
+	}
+}
@@ -15,10 +15,9 @@
  */
 package io.actor4j.core.logging;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
+import java.text.MessageFormat;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.ConsoleHandler;
@@ -32,7 +31,10 @@ import static io.actor4j.core.logging.ActorLogger.*;
 
 public class LoggerFactory {
 	protected static final Map<Level, String> LEVEL_AS_STRING;
+	protected static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
 	protected static volatile boolean simpleClassName;
+	/* thread name of the record, that is currently published by the AsyncLogHandler */
+	protected static final ThreadLocal<String> threadName = new ThreadLocal<>();
 
 	protected final Logger logger;
 	protected final String name;
@@ -77,18 +79,61 @@ public class LoggerFactory {
 		return new LoggerFactory(name, level, formatter).logger;
 	}
 	
+	/*
+	 * Hands over the records of the logger to an AsyncLogHandler (enabled), or back to the delegate handler (disabled).
+	 */
+	public static void async(Logger logger, boolean enabled) {
+		for (Handler handler : logger.getHandlers()) {
+			if (enabled && !(handler instanceof AsyncLogHandler)) {
+				logger.addHandler(new AsyncLogHandler(handler));
+				logger.removeHandler(handler);
+			}
+			else if (!enabled && handler instanceof AsyncLogHandler asyncHandler) {
+				logger.addHandler(asyncHandler.getDelegate());
+				logger.removeHandler(asyncHandler);
+				asyncHandler.stop();
+			}
+		}
+	}
+	
 	protected static String format(LogRecord record) {
-		Date date = Calendar.getInstance().getTime();  
-		DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");  
-		String dateAsString = dateFormat.format(date);
+		String threadName = LoggerFactory.threadName.get();
+		
+		return format(record, threadName!=null ? threadName : Thread.currentThread().getName());
+	}
+	
+	protected static String format(LogRecord record, String threadName) {
+		String level = LEVEL_AS_STRING.get(record.getLevel());
+		StringBuilder builder = new StringBuilder(128);
+		builder.append('[').append(level);
+		for (int i=level.length(); i<5; i++)
+			builder.append(' ');
+		builder.append("] ");
+		DATE_TIME_FORMATTER.formatTo(record.getInstant(), builder);
+		builder.append(" [").append(record.getLoggerName()).append("] [").append(threadName).append("] ")
+			.append(simpleClassName ? getSimpleClassName(record.getSourceClassName()) : record.getSourceClassName())
+			.append("::").append(record.getSourceMethodName())
+			.append(" [MESSAGE] ").append(formatMessage(record))
+			.append(System.lineSeparator());
+		
+		return builder.toString();
+	}
+	
+	/*
+	 * Parameters are formatted like java.util.logging.Formatter does ({0}, {1}, ...), only when the record is published.
+	 */
+	protected static String formatMessage(LogRecord record) {
+		String message = record.getMessage();
+		Object[] parameters = record.getParameters();
+		if (message!=null && parameters!=null && parameters.length>0 && message.indexOf('{')!=-1)
+			try {
+				message = MessageFormat.format(message, parameters);
+			}
+			catch (IllegalArgumentException e) {
+				// returns the unformatted message
+			}
 		
-		return String.format("[%-5s] %s [%s] [%s] %s::%s [MESSAGE] %s%n", 
-				LEVEL_AS_STRING.get(record.getLevel()), 
-				dateAsString, record.getLoggerName(), 
-				Thread.currentThread().getName(), 
-				simpleClassName ? getSimpleClassName(record.getSourceClassName()) : record.getSourceClassName(), 
-				record.getSourceMethodName(),
-				record.getMessage());
+		return message;
 	}
 	
 	protected static String getSimpleClassName(String sourceClassName) {
@@ -47,6 +47,10 @@ public interface ActorMessage<T> extends Comparable<ActorMessage<T>> {
 		return (Double)value();
 	}
 	
+	public default LongPair valueAsLongPair() {
+		return (LongPair)value();
+	}
+	
 	public default String valueAsString() {
 		return (String)value();
 	}
@@ -97,6 +101,39 @@ public interface ActorMessage<T> extends Comparable<ActorMessage<T>> {
 		return create(value, tag, source, dest, null, null, null);
 	}
 	
+	/* primitive values, without boxing */
+	public static ActorMessage<Integer> createInt(int value, int tag, UUID source, UUID dest) {
+		return new IntActorMessage(value, tag, source, dest);
+	}
+	
+	public static ActorMessage<Integer> createInt(int value, int tag, UUID source, UUID dest, UUID interaction) {
+		return new IntActorMessage(value, tag, source, dest, interaction, null, null);
+	}
+	
+	public static ActorMessage<Long> createLong(long value, int tag, UUID source, UUID dest) {
+		return new LongActorMessage(value, tag, source, dest);
+	}
+	
+	public static ActorMessage<Long> createLong(long value, int tag, UUID source, UUID dest, UUID interaction) {
+		return new LongActorMessage(value, tag, source, dest, interaction, null, null);
+	}
+	
+	public static ActorMessage<Double> createDouble(double value, int tag, UUID source, UUID dest) {
+		return new DoubleActorMessage(value, tag, source, dest);
+	}
+	
+	public static ActorMessage<Double> createDouble(double value, int tag, UUID source, UUID dest, UUID interaction) {
+		return new DoubleActorMessage(value, tag, source, dest, interaction, null, null);
+	}
+	
+	public static ActorMessage<LongPair> createLongPair(long first, long second, int tag, UUID source, UUID dest) {
+		return new LongPairActorMessage(first, second, tag, source, dest);
+	}
+	
+	public static ActorMessage<LongPair> createLongPair(long first, long second, int tag, UUID source, UUID dest, UUID interaction) {
+		return new LongPairActorMessage(first, second, tag, source, dest, interaction, null, null);
+	}
+	
 	public static <T> ActorMessage<T> create(T value, int tag, UUID source, UUID dest, String domain) {
 		return create(value, tag, source, dest, null, null, domain);
 	}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.messages;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import io.actor4j.core.utils.DeepCopyable;
+import io.actor4j.core.utils.Shareable;
+
+/*
+ * Registry of the copy strategies of the message values by class. The strategy of a class is resolved once and cached
+ * by a ClassValue, so the classification costs one lookup per message. A registered strategy applies to the class 
+ * and its subclasses (e.g., third-party immutable collections), the closest registered supertype (breadth-first over
+ * superclass and interfaces) wins. Registered strategies take precedence over the default strategies:
+ * identity for supported types, records, Shareable and exceptions, deepCopy for DeepCopyable, otherwise rejected 
+ * (IllegalArgumentException).
+ */
+public final class ActorMessageCopiers {
+	public static final ActorMessageCopier<Object> IDENTITY = (value) -> value;
+	@SuppressWarnings("unchecked")
+	public static final ActorMessageCopier<Object> DEEP_COPY = (value) -> ((DeepCopyable<Object>)value).deepCopy();
+	public static final ActorMessageCopier<Object> REJECT = (value) -> { throw new IllegalArgumentException(value.getClass().getName()); };
+	
+	/* either a copier or a predefined strategy */
+	private record Registration(ActorMessageCopier<?> copier, ActorMessageCopyStrategy strategy) {
+	}
+	
+	private static volatile Map<Class<?>, Registration> registry = Collections.emptyMap(); // copy on write
+	private static volatile ClassValue<ActorMessageCopier<Object>> copiers = createClassValue();
+	
+	private ActorMessageCopiers() {
+	}
+	
+	private static ClassValue<ActorMessageCopier<Object>> createClassValue() {
+		return new ClassValue<>() {
+			@Override
+			protected ActorMessageCopier<Object> computeValue(Class<?> type) {
+				return resolve(type);
+			}
+		};
+	}
+	
+	@SuppressWarnings("unchecked")
+	public static <T> ActorMessageCopier<T> get(Class<T> type) {
+		return (ActorMessageCopier<T>)copiers.get(type);
+	}
+	
+	public static boolean isIdentity(Class<?> type) {
+		return copiers.get(type)==IDENTITY;
+	}
+	
+	public static boolean isCopyable(Class<?> type) {
+		return copiers.get(type)!=REJECT;
+	}
+	
+	@SuppressWarnings("unchecked")
+	public static <T> T copy(T value) {
+		return value!=null ? ((ActorMessageCopier<T>)copiers.get(value.getClass())).copy(value) : null;
+	}
+	
+	public static <T> void register(Class<T> type, ActorMessageCopier<? super T> copier) {
+		if (copier==null)
+			throw new NullPointerException();
+		
+		register(type, new Registration(copier, null));
+	}
+	
+	public static void register(Class<?> type, ActorMessageCopyStrategy strategy) {
+		if (strategy==null)
+			throw new NullPointerException();
+		
+		register(type, new Registration(null, strategy));
+	}
+	
+	private static void register(Class<?> type, Registration registration) {
+		synchronized (ActorMessageCopiers.class) {
+			Map<Class<?>, Registration> registry = new LinkedHashMap<>(ActorMessageCopiers.registry);
+			registry.put(type, registration);
+			ActorMessageCopiers.registry = registry;
+			copiers = createClassValue(); // the subclasses may be affected too
+		}
+	}
+	
+	public static void registerIdentity(Class<?> type) {
+		register(type, ActorMessageCopyStrategy.IDENTITY);
+	}
+	
+	public static void registerClone(Class<?> type) {
+		register(type, ActorMessageCopyStrategy.CLONE);
+	}
+	
+	public static void registerStructural(Class<?> type) {
+		register(type, ActorMessageCopyStrategy.STRUCTURAL);
+	}
+	
+	public static void unregister(Class<?> type) {
+		synchronized (ActorMessageCopiers.class) {
+			Map<Class<?>, Registration> registry = new LinkedHashMap<>(ActorMessageCopiers.registry);
+			if (registry.remove(type)!=null) {
+				ActorMessageCopiers.registry = registry;
+				copiers = createClassValue();
+			}
+		}
+	}
+	
+	/*
+	 * Returns the registration of the closest registered supertype (breadth-first, the superclass before the interfaces).
+	 */
+	private static Registration lookup(Class<?> type) {
+		Map<Class<?>, Registration> registry = ActorMessageCopiers.registry;
+		if (registry.isEmpty())
+			return null;
+		
+		Deque<Class<?>> queue = new ArrayDeque<>();
+		Set<Class<?>> visited = new HashSet<>();
+		queue.add(type);
+		while (!queue.isEmpty()) {
+			Class<?> current = queue.poll();
+			if (!visited.add(current))
+				continue;
+			
+			Registration result = registry.get(current);
+			if (result!=null)
+				return result;
+			
+			if (current.getSuperclass()!=null)
+				queue.add(current.getSuperclass());
+			for (Class<?> i : current.getInterfaces())
+				queue.add(i);
+		}
+		
+		return null;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static ActorMessageCopier<Object> resolve(Class<?> type) {
+		Registration registration = lookup(type);
+		if (registration!=null) {
+			if (registration.copier()!=null)
+				return (ActorMessageCopier<Object>)registration.copier();
+			
+			else if (registration.strategy()==ActorMessageCopyStrategy.CLONE)
+				return cloneCopier(type);
+			else if (registration.strategy()==ActorMessageCopyStrategy.STRUCTURAL)
+				return structuralCopier(type);
+			else if (registration.strategy()==ActorMessageCopyStrategy.DEEP_COPY && DeepCopyable.class.isAssignableFrom(type))
+				return DEEP_COPY;
+			else if (registration.strategy()==ActorMessageCopyStrategy.IDENTITY)
+				return IDENTITY;
+			else
+				return REJECT;
+		}
+		
+		if (ActorMessageUtils.isSupportedType(type) || Record.class.isAssignableFrom(type) || Shareable.class.isAssignableFrom(type))
+			return IDENTITY;
+		else if (DeepCopyable.class.isAssignableFrom(type))
+			return DEEP_COPY;
+		else if (Exception.class.isAssignableFrom(type))
+			return IDENTITY;
+		else
+			return REJECT;
+	}
+	
+	private static ActorMessageCopier<Object> cloneCopier(Class<?> type) {
+		if (type.isArray())
+			return (value) -> {
+				int length = Array.getLength(value);
+				Object result = Array.newInstance(type.getComponentType(), length);
+				System.arraycopy(value, 0, result, 0, length);
+				
+				return result;
+			};
+		
+		try {
+			Method method = type.getMethod("clone");
+			MethodHandle handle = MethodHandles.publicLookup().unreflect(method).asType(MethodType.methodType(Object.class, Object.class));
+			return (value) -> {
+				try {
+					return handle.invoke(value);
+				} catch (RuntimeException | Error e) {
+					throw e;
+				} catch (Throwable t) {
+					throw new IllegalStateException(t);
+				}
+			};
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			return (value) -> { throw new IllegalArgumentException(type.getName()+" (no public clone method)"); };
+		}
+	}
+	
+	/*
+	 * Copies the structure (arrays, collections and maps), the elements are copied by their own strategy. The copy has
+	 * the same class, if it has a public no-argument constructor.
+	 */
+	@SuppressWarnings("unchecked")
+	private static ActorMessageCopier<Object> structuralCopier(Class<?> type) {
+		if (type.isArray())
+			return (value) -> {
+				int length = Array.getLength(value);
+				Object result = Array.newInstance(type.getComponentType(), length);
+				if (type.getComponentType().isPrimitive())
+					System.arraycopy(value, 0, result, 0, length);
+				else
+					for (int i=0; i<length; i++)
+						Array.set(result, i, copy(Array.get(value, i)));
+				
+				return result;
+			};
+		
+		MethodHandle constructor = null;
+		if (!Modifier.isAbstract(type.getModifiers()))
+			try {
+				constructor = MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class));
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				// fallback
+			}
+		final MethodHandle newInstance = constructor;
+		
+		if (Map.class.isAssignableFrom(type))
+			return (value) -> {
+				Map<Object, Object> result = newInstance!=null ? (Map<Object, Object>)create(newInstance) : new LinkedHashMap<>();
+				for (Map.Entry<?, ?> entry : ((Map<?, ?>)value).entrySet())
+					result.put(copy(entry.getKey()), copy(entry.getValue()));
+				
+				return result;
+			};
+		else if (Collection.class.isAssignableFrom(type))
+			return (value) -> {
+				Collection<Object> result = newInstance!=null ? (Collection<Object>)create(newInstance) : 
+					Set.class.isAssignableFrom(type) ? new LinkedHashSet<>() : new ArrayList<>();
+				for (Object element : (Collection<?>)value)
+					result.add(copy(element));
+				
+				return result;
+			};
+		else
+			return (value) -> { throw new IllegalArgumentException(type.getName()+" (no structure)"); };
+	}
+	
+	private static Object create(MethodHandle newInstance) {
+		try {
+			return newInstance.invoke();
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new IllegalStateException(t);
+		}
+	}
+}
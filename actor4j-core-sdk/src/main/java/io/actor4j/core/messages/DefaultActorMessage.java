@@ -17,9 +17,6 @@ package io.actor4j.core.messages;
 
 import java.util.UUID;
 
-import io.actor4j.core.utils.DeepCopyable;
-import io.actor4j.core.utils.Shareable;
-
 public record DefaultActorMessage<T>(T value, int tag, UUID source, UUID dest, UUID interaction, String protocol, String domain) implements ActorMessage<T> {
 	public DefaultActorMessage {
 		// empty
@@ -112,14 +109,11 @@ public record DefaultActorMessage<T>(T value, int tag, UUID source, UUID dest, U
 	@Override
 	public ActorMessage<T> copy() {
 		if (value!=null) { 
-			if (ActorMessageUtils.isSupportedType(value.getClass()) || value instanceof Record || value instanceof Shareable)
-				return this;
-			else if (value instanceof DeepCopyable)
-				return ActorMessage.create(((DeepCopyable<T>)value).deepCopy(), tag, source, dest, interaction, protocol, domain);
-			else if (value instanceof Exception)
+			ActorMessageCopier<T> copier = (ActorMessageCopier<T>)ActorMessageCopiers.get(value.getClass());
+			if (copier==ActorMessageCopiers.IDENTITY)
 				return this;
 			else
-				throw new IllegalArgumentException(value.getClass().getName());
+				return ActorMessage.create(copier.copy(value), tag, source, dest, interaction, protocol, domain);
 		}
 		else
 			return this;
@@ -129,14 +123,11 @@ public record DefaultActorMessage<T>(T value, int tag, UUID source, UUID dest, U
 	@Override
 	public ActorMessage<T> copy(UUID dest) {
 		if (value!=null) { 
-			if (ActorMessageUtils.isSupportedType(value.getClass()) || value instanceof Record || value instanceof Shareable)
-				return !ActorMessageUtils.equals(this.dest, dest) ? ActorMessage.create(value, tag, source, dest, interaction, protocol, domain) : this;
-			else if (value instanceof DeepCopyable)
-				return ActorMessage.create(((DeepCopyable<T>)value).deepCopy(), tag, source, dest, interaction, protocol, domain);
-			else if (value instanceof Exception)
+			ActorMessageCopier<T> copier = (ActorMessageCopier<T>)ActorMessageCopiers.get(value.getClass());
+			if (copier==ActorMessageCopiers.IDENTITY)
 				return !ActorMessageUtils.equals(this.dest, dest) ? ActorMessage.create(value, tag, source, dest, interaction, protocol, domain) : this;
 			else
-				throw new IllegalArgumentException(value.getClass().getName());
+				return ActorMessage.create(copier.copy(value), tag, source, dest, interaction, protocol, domain);
 		}
 		else
 			return !ActorMessageUtils.equals(this.dest, dest) ? ActorMessage.create(null, tag, source, dest, interaction, protocol, domain) : this;
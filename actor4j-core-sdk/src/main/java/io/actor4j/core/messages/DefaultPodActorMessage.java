@@ -17,9 +17,6 @@ package io.actor4j.core.messages;
 
 import java.util.UUID;
 
-import io.actor4j.core.utils.DeepCopyable;
-import io.actor4j.core.utils.Shareable;
-
 public record DefaultPodActorMessage<T, U, P>(T value, int tag, UUID source, UUID dest, UUID interaction, U user, P params, String protocol, String domain)  implements PodActorMessage<T, U, P> {
 	public DefaultPodActorMessage {
 		// empty
@@ -108,14 +105,11 @@ public record DefaultPodActorMessage<T, U, P>(T value, int tag, UUID source, UUI
 	@Override
 	public ActorMessage<T> copy() {
 		if (value!=null) { 
-			if (ActorMessageUtils.isSupportedType(value.getClass()) || value instanceof Record || value instanceof Shareable)
-				return this;
-			else if (value instanceof DeepCopyable)
-				return new DefaultPodActorMessage<T, U, P>(((DeepCopyable<T>)value).deepCopy(), tag, source, dest, interaction, user, params, protocol, domain);
-			else if (value instanceof Exception)
+			ActorMessageCopier<T> copier = (ActorMessageCopier<T>)ActorMessageCopiers.get(value.getClass());
+			if (copier==ActorMessageCopiers.IDENTITY)
 				return this;
 			else
-				throw new IllegalArgumentException(value.getClass().getName());
+				return new DefaultPodActorMessage<T, U, P>(copier.copy(value), tag, source, dest, interaction, user, params, protocol, domain);
 		}
 		else
 			return this;
@@ -125,14 +119,11 @@ public record DefaultPodActorMessage<T, U, P>(T value, int tag, UUID source, UUI
 	@Override
 	public ActorMessage<T> copy(UUID dest) {
 		if (value!=null) { 
-			if (ActorMessageUtils.isSupportedType(value.getClass()) || value instanceof Record || value instanceof Shareable)
-				return !ActorMessageUtils.equals(this.dest, dest) ? new DefaultPodActorMessage<T, U, P>(value, tag, source, dest, interaction, user, params, protocol, domain) : this;
-			else if (value instanceof DeepCopyable)
-				return new DefaultPodActorMessage<T, U, P>(((DeepCopyable<T>)value).deepCopy(), tag, source, dest, interaction, user, params, protocol, domain);
-			else if (value instanceof Exception)
+			ActorMessageCopier<T> copier = (ActorMessageCopier<T>)ActorMessageCopiers.get(value.getClass());
+			if (copier==ActorMessageCopiers.IDENTITY)
 				return !ActorMessageUtils.equals(this.dest, dest) ? new DefaultPodActorMessage<T, U, P>(value, tag, source, dest, interaction, user, params, protocol, domain) : this;
 			else
-				throw new IllegalArgumentException(value.getClass().getName());
+				return new DefaultPodActorMessage<T, U, P>(copier.copy(value), tag, source, dest, interaction, user, params, protocol, domain);
 		}
 		else
 			return !ActorMessageUtils.equals(this.dest, dest) ? new DefaultPodActorMessage<T, U, P>(null, tag, source, dest, interaction, user, params, protocol, domain) : this;
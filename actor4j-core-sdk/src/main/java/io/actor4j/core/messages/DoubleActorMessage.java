@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.messages;
+
+import java.util.UUID;
+
+/*
+ * Message with a primitive double value (not boxed, until value() is called).
+ */
+public record DoubleActorMessage(double doubleValue, int tag, UUID source, UUID dest, UUID interaction, String protocol, String domain) implements ActorMessage<Double> {
+	public DoubleActorMessage(double doubleValue, int tag, UUID source, UUID dest) {
+		this(doubleValue, tag, source, dest, null, null, null);
+	}
+	
+	@Override
+	public Double value() {
+		return doubleValue;
+	}
+	
+	@Override
+	public double valueAsDouble() {
+		return doubleValue;
+	}
+	
+	@Override
+	public ActorMessage<Double> shallowCopy() {
+		return new DoubleActorMessage(doubleValue, tag, source, dest, interaction, protocol, domain);
+	}
+	
+	@Override
+	public ActorMessage<Double> shallowCopy(Double value) {
+		if (value==null)
+			return new DefaultActorMessage<Double>(null, tag, source, dest, interaction, protocol, domain);
+		
+		return Double.compare(this.doubleValue, value)!=0 ? 
+			new DoubleActorMessage(value, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Double> shallowCopy(int tag) {
+		return this.tag!=tag ? 
+			new DoubleActorMessage(doubleValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Double> shallowCopy(Double value, int tag) {
+		if (value==null)
+			return new DefaultActorMessage<Double>(null, tag, source, dest, interaction, protocol, domain);
+		
+		return Double.compare(this.doubleValue, value)!=0 || this.tag!=tag ? 
+			new DoubleActorMessage(value, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Double> shallowCopy(int tag, String protocol) {
+		return this.tag!=tag || !ActorMessageUtils.equals(this.protocol, protocol) ? 
+			new DoubleActorMessage(doubleValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Double> shallowCopy(UUID source, UUID dest) {
+		return !ActorMessageUtils.equals(this.source, source) || !ActorMessageUtils.equals(this.dest, dest) ? 
+			new DoubleActorMessage(doubleValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Double> shallowCopy(UUID dest) {
+		return !ActorMessageUtils.equals(this.dest, dest) ? 
+			new DoubleActorMessage(doubleValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Double> shallowCopy(int tag, UUID dest) {
+		return this.tag!=tag || !ActorMessageUtils.equals(this.dest, dest) ? 
+			new DoubleActorMessage(doubleValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Double> copy() {
+		return this; // immutable
+	}
+	
+	@Override
+	public ActorMessage<Double> copy(UUID dest) {
+		return shallowCopy(dest);
+	}
+	
+	@Override
+	public String toString() {
+		return "ActorMessage [value=" + doubleValue + ", tag=" + tag + ", source=" + source + ", dest=" + dest
+				+ ", interaction=" + interaction + ", protocol=" + protocol + ", domain=" + domain + "]";
+	}
+}
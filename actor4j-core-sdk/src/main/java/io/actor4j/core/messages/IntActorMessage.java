@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.messages;
+
+import java.util.UUID;
+
+/*
+ * Message with a primitive int value (not boxed, until value() is called).
+ */
+public record IntActorMessage(int intValue, int tag, UUID source, UUID dest, UUID interaction, String protocol, String domain) implements ActorMessage<Integer> {
+	public IntActorMessage(int intValue, int tag, UUID source, UUID dest) {
+		this(intValue, tag, source, dest, null, null, null);
+	}
+	
+	@Override
+	public Integer value() {
+		return intValue;
+	}
+	
+	@Override
+	public int valueAsInt() {
+		return intValue;
+	}
+	
+	@Override
+	public ActorMessage<Integer> shallowCopy() {
+		return new IntActorMessage(intValue, tag, source, dest, interaction, protocol, domain);
+	}
+	
+	@Override
+	public ActorMessage<Integer> shallowCopy(Integer value) {
+		if (value==null)
+			return new DefaultActorMessage<Integer>(null, tag, source, dest, interaction, protocol, domain);
+		
+		return this.intValue!=value ? 
+			new IntActorMessage(value, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Integer> shallowCopy(int tag) {
+		return this.tag!=tag ? 
+			new IntActorMessage(intValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Integer> shallowCopy(Integer value, int tag) {
+		if (value==null)
+			return new DefaultActorMessage<Integer>(null, tag, source, dest, interaction, protocol, domain);
+		
+		return this.intValue!=value || this.tag!=tag ? 
+			new IntActorMessage(value, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Integer> shallowCopy(int tag, String protocol) {
+		return this.tag!=tag || !ActorMessageUtils.equals(this.protocol, protocol) ? 
+			new IntActorMessage(intValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Integer> shallowCopy(UUID source, UUID dest) {
+		return !ActorMessageUtils.equals(this.source, source) || !ActorMessageUtils.equals(this.dest, dest) ? 
+			new IntActorMessage(intValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Integer> shallowCopy(UUID dest) {
+		return !ActorMessageUtils.equals(this.dest, dest) ? 
+			new IntActorMessage(intValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Integer> shallowCopy(int tag, UUID dest) {
+		return this.tag!=tag || !ActorMessageUtils.equals(this.dest, dest) ? 
+			new IntActorMessage(intValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Integer> copy() {
+		return this; // immutable
+	}
+	
+	@Override
+	public ActorMessage<Integer> copy(UUID dest) {
+		return shallowCopy(dest);
+	}
+	
+	@Override
+	public String toString() {
+		return "ActorMessage [value=" + intValue + ", tag=" + tag + ", source=" + source + ", dest=" + dest
+				+ ", interaction=" + interaction + ", protocol=" + protocol + ", domain=" + domain + "]";
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.messages;
+
+import java.util.UUID;
+
+/*
+ * Message with a primitive long value (not boxed, until value() is called).
+ */
+public record LongActorMessage(long longValue, int tag, UUID source, UUID dest, UUID interaction, String protocol, String domain) implements ActorMessage<Long> {
+	public LongActorMessage(long longValue, int tag, UUID source, UUID dest) {
+		this(longValue, tag, source, dest, null, null, null);
+	}
+	
+	@Override
+	public Long value() {
+		return longValue;
+	}
+	
+	@Override
+	public long valueAsLong() {
+		return longValue;
+	}
+	
+	@Override
+	public ActorMessage<Long> shallowCopy() {
+		return new LongActorMessage(longValue, tag, source, dest, interaction, protocol, domain);
+	}
+	
+	@Override
+	public ActorMessage<Long> shallowCopy(Long value) {
+		if (value==null)
+			return new DefaultActorMessage<Long>(null, tag, source, dest, interaction, protocol, domain);
+		
+		return this.longValue!=value ? 
+			new LongActorMessage(value, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Long> shallowCopy(int tag) {
+		return this.tag!=tag ? 
+			new LongActorMessage(longValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Long> shallowCopy(Long value, int tag) {
+		if (value==null)
+			return new DefaultActorMessage<Long>(null, tag, source, dest, interaction, protocol, domain);
+		
+		return this.longValue!=value || this.tag!=tag ? 
+			new LongActorMessage(value, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Long> shallowCopy(int tag, String protocol) {
+		return this.tag!=tag || !ActorMessageUtils.equals(this.protocol, protocol) ? 
+			new LongActorMessage(longValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Long> shallowCopy(UUID source, UUID dest) {
+		return !ActorMessageUtils.equals(this.source, source) || !ActorMessageUtils.equals(this.dest, dest) ? 
+			new LongActorMessage(longValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Long> shallowCopy(UUID dest) {
+		return !ActorMessageUtils.equals(this.dest, dest) ? 
+			new LongActorMessage(longValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Long> shallowCopy(int tag, UUID dest) {
+		return this.tag!=tag || !ActorMessageUtils.equals(this.dest, dest) ? 
+			new LongActorMessage(longValue, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<Long> copy() {
+		return this; // immutable
+	}
+	
+	@Override
+	public ActorMessage<Long> copy(UUID dest) {
+		return shallowCopy(dest);
+	}
+	
+	@Override
+	public String toString() {
+		return "ActorMessage [value=" + longValue + ", tag=" + tag + ", source=" + source + ", dest=" + dest
+				+ ", interaction=" + interaction + ", protocol=" + protocol + ", domain=" + domain + "]";
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.messages;
+
+import java.util.UUID;
+
+/*
+ * Message with two primitive long values, e.g. a key and a value, or a sequence number and a timestamp (the pair is only
+ * created, when value() is called).
+ */
+public record LongPairActorMessage(long first, long second, int tag, UUID source, UUID dest, UUID interaction, String protocol, String domain) implements ActorMessage<LongPair> {
+	public LongPairActorMessage(long first, long second, int tag, UUID source, UUID dest) {
+		this(first, second, tag, source, dest, null, null, null);
+	}
+	
+	@Override
+	public LongPair value() {
+		return new LongPair(first, second);
+	}
+	
+	@Override
+	public ActorMessage<LongPair> shallowCopy() {
+		return new LongPairActorMessage(first, second, tag, source, dest, interaction, protocol, domain);
+	}
+	
+	@Override
+	public ActorMessage<LongPair> shallowCopy(LongPair value) {
+		if (value==null)
+			return new DefaultActorMessage<LongPair>(null, tag, source, dest, interaction, protocol, domain);
+		
+		return this.first!=value.first() || this.second!=value.second() ? 
+			new LongPairActorMessage(value.first(), value.second(), tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<LongPair> shallowCopy(int tag) {
+		return this.tag!=tag ? 
+			new LongPairActorMessage(first, second, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<LongPair> shallowCopy(LongPair value, int tag) {
+		if (value==null)
+			return new DefaultActorMessage<LongPair>(null, tag, source, dest, interaction, protocol, domain);
+		
+		return this.first!=value.first() || this.second!=value.second() || this.tag!=tag ? 
+			new LongPairActorMessage(value.first(), value.second(), tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<LongPair> shallowCopy(int tag, String protocol) {
+		return this.tag!=tag || !ActorMessageUtils.equals(this.protocol, protocol) ? 
+			new LongPairActorMessage(first, second, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<LongPair> shallowCopy(UUID source, UUID dest) {
+		return !ActorMessageUtils.equals(this.source, source) || !ActorMessageUtils.equals(this.dest, dest) ? 
+			new LongPairActorMessage(first, second, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<LongPair> shallowCopy(UUID dest) {
+		return !ActorMessageUtils.equals(this.dest, dest) ? 
+			new LongPairActorMessage(first, second, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<LongPair> shallowCopy(int tag, UUID dest) {
+		return this.tag!=tag || !ActorMessageUtils.equals(this.dest, dest) ? 
+			new LongPairActorMessage(first, second, tag, source, dest, interaction, protocol, domain) : this;
+	}
+	
+	@Override
+	public ActorMessage<LongPair> copy() {
+		return this; // immutable
+	}
+	
+	@Override
+	public ActorMessage<LongPair> copy(UUID dest) {
+		return shallowCopy(dest);
+	}
+	
+	@Override
+	public String toString() {
+		return "ActorMessage [value=" + first + ", " + second + ", tag=" + tag + ", source=" + source + ", dest=" + dest
+				+ ", interaction=" + interaction + ", protocol=" + protocol + ", domain=" + domain + "]";
+	}
+}
@@ -21,6 +21,7 @@ import io.actor4j.core.actors.Actor;
 import io.actor4j.core.actors.ActorGroupMember;
 import io.actor4j.core.pods.PodContext;
 import io.actor4j.core.runtime.InternalPodActorCell;
+import io.actor4j.core.utils.ActorIdGenerators;
 
 public abstract class PodActor extends Actor implements ActorGroupMember {
 	protected final UUID groupId;
@@ -28,7 +29,7 @@ public abstract class PodActor extends Actor implements ActorGroupMember {
 	public PodActor() {
 		super();
 		
-		this.groupId = UUID.randomUUID();
+		this.groupId = ActorIdGenerators.getDefault().generate();
 	}
 	
 	@Override
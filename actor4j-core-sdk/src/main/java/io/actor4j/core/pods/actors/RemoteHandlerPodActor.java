@@ -54,7 +54,7 @@ public abstract class RemoteHandlerPodActor extends HandlerPodActor {
 				internal_callback(message, remoteMessage);
 			}
 			else {
-				UUID interaction = message.interaction()!=null ? message.interaction() : UUID.randomUUID();
+				UUID interaction = message.interaction()!=null ? message.interaction() : getSystem().getConfig().idGenerator().generate();
 				
 				if (((RemotePodMessage)message.value()).remotePodMessageDTO().reply()) {
 					remoteMap.put(interaction, (RemotePodMessage)message.value()); 
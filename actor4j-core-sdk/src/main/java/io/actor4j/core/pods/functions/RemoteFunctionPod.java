@@ -66,7 +66,7 @@ public abstract class RemoteFunctionPod extends ActorPod {
 						}	
 					}
 					else {
-						UUID interaction = message.interaction()!=null ? message.interaction() : UUID.randomUUID();
+						UUID interaction = message.interaction()!=null ? message.interaction() : getSystem().getConfig().idGenerator().generate();
 						result = podRemoteFunction.handle((RemotePodMessage)message.value(), interaction);
 						if (result!=null)
 							internal_callback((RemotePodMessage)message.value(), result);
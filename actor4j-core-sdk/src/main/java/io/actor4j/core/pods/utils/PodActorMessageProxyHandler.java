@@ -25,6 +25,7 @@ import io.actor4j.core.actors.ActorRef;
 import io.actor4j.core.messages.ActorMessage;
 import io.actor4j.core.runtime.InternalActorCell;
 import io.actor4j.core.runtime.InternalActorSystem;
+import io.actor4j.core.utils.ActorIdGenerators;
 
 public abstract class PodActorMessageProxyHandler {
 	protected final ActorRef host;
@@ -58,7 +59,7 @@ public abstract class PodActorMessageProxyHandler {
 		}
 		else
 		{
-			UUID interaction = message.interaction()!=null ? message.interaction() : UUID.randomUUID();
+			UUID interaction = message.interaction()!=null ? message.interaction() : ActorIdGenerators.getDefault().generate();
 			map.put(interaction, message.copy()); 
 			handle(message, interaction);
 //			UUID interaction = UUID.randomUUID();
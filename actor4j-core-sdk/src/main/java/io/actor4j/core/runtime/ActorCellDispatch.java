@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+/*
+ * Dispatch descriptor of a cell, so that a send resolves its destination with a single lookup of the cell. The process
+ * (e.g., ActorThread) is kept in sync with the cellsMap of the dispatcher. Redirects are kept by the ActorRoutingTable.
+ */
+public class ActorCellDispatch {
+	protected final ActorCellKind kind;
+	protected final ActorOverflowPolicy overflowPolicy; // null, if the policy of the system applies
+	protected volatile Object process;
+	
+	public ActorCellDispatch(ActorCellKind kind, ActorOverflowPolicy overflowPolicy) {
+		super();
+		
+		this.kind = kind;
+		this.overflowPolicy = overflowPolicy;
+	}
+	
+	public ActorCellDispatch(ActorCellKind kind) {
+		this(kind, null);
+	}
+	
+	public ActorCellKind getKind() {
+		return kind;
+	}
+	
+	public ActorOverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+	
+	public Object getProcess() {
+		return process;
+	}
+	
+	public void setProcess(Object process) {
+		this.process = process;
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import io.actor4j.core.actors.Actor;
+import io.actor4j.core.actors.PseudoActor;
+import io.actor4j.core.actors.ResourceActor;
+import io.actor4j.core.pods.actors.PodActor;
+
+public enum ActorCellKind {
+	DEFAULT, RESOURCE, POD, PSEUDO;
+	
+	public static ActorCellKind of(Actor actor) {
+		if (actor instanceof PseudoActor)
+			return PSEUDO;
+		else if (actor instanceof ResourceActor)
+			return RESOURCE;
+		else if (actor instanceof PodActor)
+			return POD;
+		else
+			return DEFAULT;
+	}
+}
@@ -17,6 +17,7 @@ package io.actor4j.core.runtime;
 
 import static io.actor4j.core.utils.ActorUtils.*;
 
+import java.util.Collection;
 import java.util.UUID;
 
 import io.actor4j.core.messages.ActorMessage;
@@ -48,11 +49,28 @@ public abstract class ActorMessageDispatcher {
 	
 	public abstract void post(ActorMessage<?> message, UUID source, String alias);
 	
+	public void post(Collection<ActorMessage<?>> messages, UUID source) {
+		for (ActorMessage<?> message : messages)
+			post(message, source, null);
+	}
+	
 	public abstract void postOuter(ActorMessage<?> message);
 	
+	public void postOuter(Collection<ActorMessage<?>> messages) {
+		for (ActorMessage<?> message : messages)
+			postOuter(message);
+	}
+	
 	public abstract void postServer(ActorMessage<?> message);
 	
-	public abstract void postPriority(ActorMessage<?> message);
+	public void postPriority(ActorMessage<?> message) {
+		postPriority(message, system.getConfig().defaultPriorityLevel());
+	}
+	
+	/*
+	 * Level 0 is the highest priority (see ActorSystemConfig.priorityLevels and defaultPriorityLevel).
+	 */
+	public abstract void postPriority(ActorMessage<?> message, int level);
 	
 	public abstract void postDirective(ActorMessage<?> message);
 	
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+/*
+ * Behaviour of a bounded queue, when it is full (see DefaultActorThread).
+ */
+public enum ActorOverflowPolicy {
+	DROP_NEWEST,			// the new message is discarded
+	DROP_OLDEST,			// the head of the queue is discarded
+	REJECT,					// the new message is passed to undelivered
+	BLOCK,					// the producer spins until overflowTimeout, then rejects
+	RANDOM_EARLY_DISCARD	// above overflowThreshold, discards with a probability rising with the fill level
+}
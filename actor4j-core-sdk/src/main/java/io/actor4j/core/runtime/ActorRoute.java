@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.UUID;
+
+/*
+ * Immutable entry of the ActorRoutingTable. The cell is null, if only a redirect or an alias is registered for the id.
+ */
+public record ActorRoute(InternalActorCell cell, ActorCellKind kind, UUID redirect, String alias) {
+	/*
+	 * The destination is an ordinary cell, that is not redirected.
+	 */
+	public boolean isDirect() {
+		return cell!=null && redirect==null && (kind==ActorCellKind.DEFAULT || kind==ActorCellKind.POD);
+	}
+	
+	public ActorRoute withCell(InternalActorCell cell) {
+		return new ActorRoute(cell, cell!=null ? cell.getDispatch().getKind() : null, redirect, alias);
+	}
+	
+	public ActorRoute withRedirect(UUID redirect) {
+		return new ActorRoute(cell, kind, redirect, alias);
+	}
+	
+	public ActorRoute withAlias(String alias) {
+		return new ActorRoute(cell, kind, redirect, alias);
+	}
+	
+	public boolean isEmpty() {
+		return cell==null && redirect==null && alias==null;
+	}
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.runtime;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import io.actor4j.core.utils.ActorIdGenerator;
+import io.actor4j.core.utils.ActorIdGenerators;
+
+/*
+ * Single registry of all actor ids (cell, kind, redirect, alias). Each entry is replaced atomically, so that a dispatch sees
+ * either the complete registration or none. The former maps (cells, resourceCells, podCells, pseudoCells, redirector) are
+ * provided as read-only views.
+ * 
+ * Compact addresses: the ids created by the table (createId) carry an index into a table of slots in their least 
+ * significant bits, so these routes are resolved by array indexing instead of hashing (and need no map entry). The slot
+ * belongs to the id, that it was created for, until its route is removed. Other ids (e.g., given by the user, persistent
+ * or stale ids) are kept in the map. Opt-in (compactAddresses), because it changes the format of the public ids: their
+ * least significant bits are a fixed marker and a sequential (reused) address.
+ */
+public class ActorRoutingTable {
+	protected record Slot(UUID id, ActorRoute route) {
+	}
+	
+	protected static final long COMPACT_MARKER = 0xAC704A4DL; // upper 32 bits of the least significant bits (IETF variant)
+	protected static final int CHUNK_BITS = 12;
+	protected static final int CHUNK_SIZE = 1<<CHUNK_BITS;
+	protected static final int CHUNK_MASK = CHUNK_SIZE-1;
+	
+	protected final Map<UUID, ActorRoute> routes;     // ActorCellID    -> ActorRoute
+	protected final Map<String, Queue<UUID>> aliases; // ActorCellAlias -> ActorCellID
+	
+	protected final boolean compact;
+	protected final ActorIdGenerator idGenerator;
+	protected volatile AtomicReferenceArray<Slot>[] chunks; // address -> Slot, the chunks are never moved
+	protected int nextAddress; // guarded by this
+	protected final Queue<Integer> freeAddresses;
+	
+	protected final List<RouteView<?>> views;
+	protected final Map<UUID, InternalActorCell> cells;
+	protected final Map<UUID, InternalActorCell> pseudoCells;
+	protected final Map<UUID, Boolean> resourceCells;
+	protected final Map<UUID, Boolean> podCells;
+	protected final Map<UUID, UUID> redirector;
+	
+	protected static final ActorRoute EMPTY = new ActorRoute(null, null, null, null);
+	
+	public ActorRoutingTable() {
+		this(false, ActorIdGenerators.SECURE_RANDOM);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public ActorRoutingTable(boolean compact, ActorIdGenerator idGenerator) {
+		super();
+		
+		routes = new ConcurrentHashMap<>();
+		aliases = new ConcurrentHashMap<>();
+		
+		this.compact = compact;
+		this.idGenerator = idGenerator;
+		chunks = new AtomicReferenceArray[0];
+		freeAddresses = new ConcurrentLinkedQueue<>();
+		
+		views = new ArrayList<>();
+		cells = new RouteView<>((route) -> route.cell()!=null && route.kind()!=ActorCellKind.PSEUDO ? route.cell() : null);
+		pseudoCells = new RouteView<>((route) -> route.kind()==ActorCellKind.PSEUDO ? route.cell() : null);
+		resourceCells = new RouteView<>((route) -> route.kind()==ActorCellKind.RESOURCE ? Boolean.FALSE : null);
+		podCells = new RouteView<>((route) -> route.kind()==ActorCellKind.POD ? Boolean.FALSE : null);
+		redirector = new RouteView<>((route) -> route.redirect());
+	}
+	
+	public static boolean isCompact(UUID id) {
+		return (id.getLeastSignificantBits()>>>32)==COMPACT_MARKER;
+	}
+	
+	public static int address(UUID id) {
+		return (int)id.getLeastSignificantBits();
+	}
+	
+	/*
+	 * Returns a new id for a cell, with a compact address (if enabled). The most significant bits are taken from the id
+	 * generator, its least significant bits are discarded (replaced by the marker and the address). So a compact id keeps
+	 * only the entropy of the most significant bits (e.g., 60 random bits for a random UUID).
+	 */
+	public UUID createId() {
+		UUID id = idGenerator.generate();
+		if (!compact)
+			return id;
+		
+		int address = allocate();
+		UUID result = new UUID(id.getMostSignificantBits(), (COMPACT_MARKER<<32) | (address & 0xFFFFFFFFL));
+		chunks[address>>>CHUNK_BITS].set(address & CHUNK_MASK, new Slot(result, null)); // reserved
+		
+		return result;
+	}
+	
+	/*
+	 * Releases the compact address of an id, that was not registered.
+	 */
+	public void release(UUID id) {
+		compute(id, (key, route) -> route, false);
+	}
+	
+	protected int allocate() {
+		Integer result = freeAddresses.poll();
+		if (result!=null)
+			return result;
+		
+		synchronized (this) {
+			int address = nextAddress++;
+			int chunk = address>>>CHUNK_BITS;
+			if (chunk>=chunks.length) {
+				AtomicReferenceArray<Slot>[] chunks = Arrays.copyOf(this.chunks, Math.max(4, this.chunks.length*2));
+				for (int i=this.chunks.length; i<chunks.length; i++)
+					chunks[i] = new AtomicReferenceArray<>(CHUNK_SIZE);
+				this.chunks = chunks;
+			}
+			
+			return address;
+		}
+	}
+	
+	/*
+	 * Returns the chunk of the slot of a compact id or null.
+	 */
+	protected AtomicReferenceArray<Slot> chunk(UUID id) {
+		if (!compact || !isCompact(id))
+			return null;
+		
+		int chunk = address(id)>>>CHUNK_BITS;
+		AtomicReferenceArray<Slot>[] chunks = this.chunks;
+		
+		return chunk>=0 && chunk<chunks.length ? chunks[chunk] : null;
+	}
+	
+	public ActorRoute get(UUID id) {
+		AtomicReferenceArray<Slot> chunk = chunk(id);
+		if (chunk!=null) {
+			Slot slot = chunk.get(address(id) & CHUNK_MASK);
+			if (slot!=null && slot.id().equals(id))
+				return slot.route();
+		}
+		
+		return routes.get(id);
+	}
+	
+	public InternalActorCell getCell(UUID id) {
+		ActorRoute route = get(id);
+		
+		return route!=null ? route.cell() : null;
+	}
+	
+	/*
+	 * Atomically replaces the route of an id (null removes it), like Map.compute and Map.computeIfPresent. The 
+	 * function may be called repeatedly on contention.
+	 */
+	protected ActorRoute compute(UUID id, BiFunction<UUID, ActorRoute, ActorRoute> function, boolean ifPresent) {
+		AtomicReferenceArray<Slot> chunk = chunk(id);
+		if (chunk!=null) {
+			int index = address(id) & CHUNK_MASK;
+			for (;;) {
+				Slot slot = chunk.get(index);
+				if (slot==null || !slot.id().equals(id))
+					break; // not owned (anymore)
+				if (ifPresent && slot.route()==null)
+					return null;
+				
+				ActorRoute route = function.apply(id, slot.route());
+				if (route!=null) {
+					if (route==slot.route())
+						return route;
+					else if (chunk.compareAndSet(index, slot, new Slot(id, route))) {
+						count(slot.route(), route);
+						return route;
+					}
+				}
+				else if (chunk.compareAndSet(index, slot, null)) {
+					count(slot.route(), null);
+					freeAddresses.offer(address(id));
+					return null;
+				}
+			}
+		}
+		
+		ActorRoute[] previous = new ActorRoute[1]; // of the applied (last) call
+		BiFunction<UUID, ActorRoute, ActorRoute> remapping = (key, route) -> {
+			previous[0] = route;
+			return function.apply(key, route);
+		};
+		ActorRoute result = ifPresent ? routes.computeIfPresent(id, remapping) : routes.compute(id, remapping);
+		count(previous[0], result);
+		
+		return result;
+	}
+	
+	/*
+	 * Updates the sizes of the views, after a route was replaced.
+	 */
+	protected void count(ActorRoute previous, ActorRoute route) {
+		if (previous==route)
+			return;
+		
+		for (RouteView<?> view : views)
+			view.count(previous, route);
+	}
+	
+	public void register(InternalActorCell cell) {
+		compute(cell.getId(), (id, route) -> (route!=null ? route : EMPTY).withCell(cell), false);
+	}
+	
+	/*
+	 * Removes the cell together with its alias membership, a redirect is retained.
+	 */
+	public void unregister(UUID id) {
+		ActorRoute[] removed = new ActorRoute[1];
+		compute(id, (key, route) -> {
+			removed[0] = route;
+			return route.redirect()!=null ? new ActorRoute(null, null, route.redirect(), null) : null;
+		}, true);
+		
+		if (removed[0]!=null && removed[0].alias()!=null) {
+			Queue<UUID> queue = aliases.get(removed[0].alias());
+			if (queue!=null) {
+				queue.remove(id);
+				if (queue.isEmpty())
+					aliases.remove(removed[0].alias());
+			}
+		}
+	}
+	
+	public UUID getRedirect(UUID id) {
+		ActorRoute route = get(id);
+		
+		return route!=null ? route.redirect() : null;
+	}
+	
+	public void setRedirect(UUID id, UUID dest) {
+		compute(id, (key, route) -> {
+			ActorRoute result = (route!=null ? route : EMPTY).withRedirect(dest);
+			return !result.isEmpty() ? result : null;
+		}, false);
+	}
+	
+	public void clearRedirects() {
+		List<UUID> ids = new ArrayList<>();
+		routeIterator().forEachRemaining((entry) -> ids.add(entry.getKey()));
+		for (UUID id : ids)
+			setRedirect(id, null);
+	}
+	
+	public String getAlias(UUID id) {
+		ActorRoute route = get(id);
+		
+		return route!=null ? route.alias() : null;
+	}
+	
+	public void setAlias(UUID id, String alias) {
+		aliases.computeIfAbsent(alias, (key) -> new ConcurrentLinkedQueue<>()).add(id);
+		compute(id, (key, route) -> (route!=null ? route : EMPTY).withAlias(alias), false);
+	}
+	
+	public Map<String, Queue<UUID>> getAliases() {
+		return aliases;
+	}
+	
+	public Map<UUID, InternalActorCell> getCells() {
+		return cells;
+	}
+	
+	public Map<UUID, InternalActorCell> getPseudoCells() {
+		return pseudoCells;
+	}
+	
+	public Map<UUID, Boolean> getResourceCells() {
+		return resourceCells;
+	}
+	
+	public Map<UUID, Boolean> getPodCells() {
+		return podCells;
+	}
+	
+	public Map<UUID, UUID> getRedirector() {
+		return redirector;
+	}
+	
+	public void clear() {
+		routes.clear();
+		aliases.clear();
+		for (RouteView<?> view : views)
+			view.size.set(0);
+		
+		/* the addresses are not reused, ids created before may still be in use */
+		for (AtomicReferenceArray<Slot> chunk : chunks)
+			for (int i=0; i<chunk.length(); i++)
+				chunk.set(i, null);
+		freeAddresses.clear();
+	}
+	
+	/*
+	 * Iterates over all routes (map and slots).
+	 */
+	protected Iterator<Map.Entry<UUID, ActorRoute>> routeIterator() {
+		return new Iterator<>() {
+			protected final Iterator<Map.Entry<UUID, ActorRoute>> iterator = routes.entrySet().iterator();
+			protected final AtomicReferenceArray<Slot>[] chunks = ActorRoutingTable.this.chunks;
+			protected int address;
+			protected Map.Entry<UUID, ActorRoute> next;
+			
+			@Override
+			public boolean hasNext() {
+				if (next==null && iterator.hasNext())
+					next = iterator.next();
+				while (next==null && address<chunks.length*CHUNK_SIZE) {
+					Slot slot = chunks[address>>>CHUNK_BITS].get(address & CHUNK_MASK);
+					if (slot!=null && slot.route()!=null)
+						next = new AbstractMap.SimpleImmutableEntry<>(slot.id(), slot.route());
+					address++;
+				}
+				
+				return next!=null;
+			}
+			
+			@Override
+			public Map.Entry<UUID, ActorRoute> next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				
+				Map.Entry<UUID, ActorRoute> result = next;
+				next = null;
+				
+				return result;
+			}
+		};
+	}
+	
+	/*
+	 * Read-only view, that maps each route to a value or skips it (null). The size is kept as a live counter, so it may 
+	 * be read often (e.g., metrics).
+	 */
+	protected class RouteView<V> extends AbstractMap<UUID, V> {
+		protected final Function<ActorRoute, V> mapper;
+		protected final Set<Entry<UUID, V>> entrySet;
+		protected final AtomicInteger size;
+		
+		public RouteView(Function<ActorRoute, V> mapper) {
+			super();
+			
+			this.mapper = mapper;
+			size = new AtomicInteger();
+			entrySet = new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<UUID, V>> iterator() {
+					return new RouteIterator();
+				}
+				
+				@Override
+				public int size() {
+					return RouteView.this.size();
+				}
+			};
+			views.add(this);
+		}
+		
+		protected void count(ActorRoute previous, ActorRoute route) {
+			int delta = (route!=null && mapper.apply(route)!=null ? 1 : 0) - (previous!=null && mapper.apply(previous)!=null ? 1 : 0);
+			if (delta!=0)
+				size.addAndGet(delta);
+		}
+		
+		@Override
+		public int size() {
+			return Math.max(0, size.get()); // may be inconsistent for a moment, during concurrent updates
+		}
+		
+		@Override
+		public V get(Object key) {
+			ActorRoute route = key instanceof UUID id ? ActorRoutingTable.this.get(id) : null;
+			
+			return route!=null ? mapper.apply(route) : null;
+		}
+		
+		@Override
+		public boolean containsKey(Object key) {
+			return get(key)!=null;
+		}
+		
+		@Override
+		public boolean isEmpty() {
+			return size()==0;
+		}
+		
+		@Override
+		public Set<Entry<UUID, V>> entrySet() {
+			return entrySet;
+		}
+		
+		protected class RouteIterator implements Iterator<Entry<UUID, V>> {
+			protected final Iterator<Entry<UUID, ActorRoute>> iterator = routeIterator();
+			protected Entry<UUID, V> next;
+			
+			@Override
+			public boolean hasNext() {
+				while (next==null && iterator.hasNext()) {
+					Entry<UUID, ActorRoute> entry = iterator.next();
+					V value = mapper.apply(entry.getValue());
+					if (value!=null)
+						next = new SimpleImmutableEntry<>(entry.getKey(), value);
+				}
+				
+				return next!=null;
+			}
+			
+			@Override
+			public Entry<UUID, V> next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				
+				Entry<UUID, V> result = next;
+				next = null;
+				
+				return result;
+			}
+		}
+	}
+}
@@ -16,5 +16,5 @@
 package io.actor4j.core.runtime;
 
 public enum ActorSystemError {
-	ACTOR_INITIALIZATION, ACTOR, PSEUDO_ACTOR, RESOURCE_ACTOR, EMBEDDED_ACTOR, REPLICATION, WATCHDOG, EXECUTER_ACTOR, EXECUTER_RESOURCE, EXECUTER_CLIENT
+	ACTOR_INITIALIZATION, ACTOR, PSEUDO_ACTOR, RESOURCE_ACTOR, EMBEDDED_ACTOR, REPLICATION, WATCHDOG, REBALANCING, HOTSPOT_DETECTION, EXECUTER_ACTOR, EXECUTER_RESOURCE, EXECUTER_CLIENT
 }
@@ -24,6 +24,7 @@ import io.actor4j.core.ActorCell;
 import io.actor4j.core.actors.Actor;
 import io.actor4j.core.messages.ActorMessage;
 import io.actor4j.core.supervisor.SupervisorStrategy;
+import io.actor4j.core.utils.LatencyHistogram;
 
 public interface InternalActorCell extends ActorCell {
 	public Actor getActor();
@@ -53,5 +54,7 @@ public interface InternalActorCell extends ActorCell {
 	public void internal_stop();
 	
 	public AtomicLong getRequestRate();
-	public Queue<Long> getProcessingTimeStatistics();
+	public LatencyHistogram getProcessingTimeStatistics();
+	
+	public ActorCellDispatch getDispatch();
 }
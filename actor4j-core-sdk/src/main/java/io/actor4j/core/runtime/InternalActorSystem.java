@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import io.actor4j.core.ActorPodService;
 import io.actor4j.core.ActorService;
@@ -49,11 +50,15 @@ public interface InternalActorSystem extends ActorService, ActorPodService {
 	public Map<String, Queue<UUID>> getPodDomains();
 	public Map<String, Queue<UUID>> getAliases();
 	public Map<UUID, UUID> getRedirector();
+	public ActorRoutingTable getRoutingTable();
 	
 	public AtomicBoolean getMessagingEnabled();
 	public ActorMessageDispatcher getMessageDispatcher();
 	public Queue<ActorMessage<?>> getBufferQueue();
 	
+	public LongAdder getUndeliveredCounter();
+	public LongAdder getUnhandledCounter();
+	
 	public ActorExecutorService getExecutorService();
 	public ActorStrategyOnFailure getActorStrategyOnFailure();
 	
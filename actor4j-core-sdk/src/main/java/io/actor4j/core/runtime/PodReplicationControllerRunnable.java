@@ -31,7 +31,7 @@ public abstract class PodReplicationControllerRunnable implements Runnable {
 		super();
 		
 		this.system = system;
-		uuid = UUID.randomUUID();
+		uuid = system.getConfig().idGenerator().generate();
 	}
 	
 	public abstract void onRun();
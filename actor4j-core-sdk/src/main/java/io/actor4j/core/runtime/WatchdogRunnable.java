@@ -33,7 +33,7 @@ public abstract class WatchdogRunnable implements Runnable {
 		
 		this.system = system;
 		this.watchdogActors = watchdogActors;
-		uuid = UUID.randomUUID();
+		uuid = system.getConfig().idGenerator().generate();
 	}
 	
 	public abstract void onRun();
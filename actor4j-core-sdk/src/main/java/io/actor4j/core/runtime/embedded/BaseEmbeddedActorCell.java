@@ -45,7 +45,7 @@ public class BaseEmbeddedActorCell implements InternalEmbeddedActorCell {
 	protected SupervisorStrategy parentSupervisorStrategy;
 	
 	public BaseEmbeddedActorCell(ActorRef host, EmbeddedActor actor) {
-		this(host, actor, UUID.randomUUID());
+		this(host, actor, host.getSystem().getConfig().idGenerator().generate());
 	}
 	
 	public BaseEmbeddedActorCell(ActorRef host, EmbeddedActor actor, UUID id) {
@@ -34,7 +34,7 @@ public class DefaultEmbeddedActorStrategyOnFailure implements EmbeddedActorStrat
 	}
 	
 	protected void oneForOne_directive_resume(InternalEmbeddedActorCell cell) {
-		systemLogger().log(INFO, String.format("[LIFECYCLE] embedded actor (%s) resumed", actorLabel(cell.getActor())));
+		systemLogger().log(INFO, "[LIFECYCLE] embedded actor ({0}) resumed", actorLabel(cell.getActor()));
 	}
 	
 	protected void oneForOne_directive_restart(InternalEmbeddedActorCell cell, Exception reason) {
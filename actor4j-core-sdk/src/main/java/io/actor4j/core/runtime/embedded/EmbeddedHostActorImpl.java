@@ -113,7 +113,7 @@ public class EmbeddedHostActorImpl {
 	}
 	
 	public UUID addEmbeddedChild(EmbeddedActorFactory factory) {
-		return addEmbeddedChild(factory, UUID.randomUUID());
+		return addEmbeddedChild(factory, host.getSystem().getConfig().idGenerator().generate());
 	}
 	
 	public UUID addEmbeddedChild(EmbeddedActorFactory factory, UUID id) {
@@ -38,7 +38,7 @@ public class RestartProtocol {
 				newEmbeddedActor.setCell(cell);
 				cell.setActor(newEmbeddedActor);
 				cell.postRestart(reason);
-				systemLogger().log(INFO, String.format("[LIFECYCLE] embedded actor (%s) restarted", actorLabel(cell.getActor())));
+				systemLogger().log(INFO, "[LIFECYCLE] embedded actor ({0}) restarted", actorLabel(cell.getActor()));
 			} catch (Exception e) {
 				throw new ActorInitializationException(); // never must occur
 			}
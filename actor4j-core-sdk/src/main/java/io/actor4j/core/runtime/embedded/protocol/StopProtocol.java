@@ -32,7 +32,7 @@ public class StopProtocol {
 	public void postStop() {
 		if (cell.host() instanceof EmbeddedHostActor h)
 			h.removeEmbeddedChild(cell.getId());
-		systemLogger().log(INFO, String.format("[LIFECYCLE] embedded actor (%s) stopped", actorLabel(cell.getActor())));
+		systemLogger().log(INFO, "[LIFECYCLE] embedded actor ({0}) stopped", actorLabel(cell.getActor()));
 	}
 
 	public void apply() {
@@ -27,13 +27,13 @@ public class ActorGroupList extends LinkedList<UUID> implements ActorGroup {
 	public ActorGroupList() {
 		super();
 		
-		id = UUID.randomUUID();
+		id = ActorIdGenerators.getDefault().generate();
 	}
 
 	public ActorGroupList(Collection<UUID> c) {
 		super(c);
 		
-		id = UUID.randomUUID();
+		id = ActorIdGenerators.getDefault().generate();
 	}
 
 	@Override
@@ -27,25 +27,25 @@ public class ActorGroupSet extends HashSet<UUID> implements ActorGroup {
 	public ActorGroupSet() {
 		super();
 		
-		id = UUID.randomUUID();
+		id = ActorIdGenerators.getDefault().generate();
 	}
 
 	public ActorGroupSet(Collection<UUID> c) {
 		super(c);
 		
-		id = UUID.randomUUID();
+		id = ActorIdGenerators.getDefault().generate();
 	}
 
 	public ActorGroupSet(int initialCapacity, float loadFactor) {
 		super(initialCapacity, loadFactor);
 		
-		id = UUID.randomUUID();
+		id = ActorIdGenerators.getDefault().generate();
 	}
 
 	public ActorGroupSet(int initialCapacity) {
 		super(initialCapacity);
 		
-		id = UUID.randomUUID();
+		id = ActorIdGenerators.getDefault().generate();
 	}
 
 	@Override
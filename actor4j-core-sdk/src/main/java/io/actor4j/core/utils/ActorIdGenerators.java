@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Implementations of ActorIdGenerator. SECURE_RANDOM is the default, the faster generators create unique, but 
+ * predictable ids and must not be used for ids, that must not be guessed.
+ */
+public final class ActorIdGenerators {
+	/* UUID.randomUUID (version 4, SecureRandom) */
+	public static final ActorIdGenerator SECURE_RANDOM = UUID::randomUUID;
+	/* version 4, ThreadLocalRandom */
+	public static final ActorIdGenerator RANDOM = ActorIdGenerators::randomUUID;
+	
+	/* used, where no actor system is at hand (e.g., group ids, interaction ids of handlers) */
+	private static volatile ActorIdGenerator defaultGenerator = SECURE_RANDOM;
+	
+	private ActorIdGenerators() {
+	}
+	
+	public static ActorIdGenerator getDefault() {
+		return defaultGenerator;
+	}
+	
+	public static void setDefault(ActorIdGenerator generator) {
+		if (generator==null)
+			throw new NullPointerException();
+		
+		defaultGenerator = generator;
+	}
+	
+	public static UUID randomUUID() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long mostSigBits  = (random.nextLong() & ~0xF000L) | 0x4000L;                     // version 4
+		long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L; // IETF variant
+		
+		return new UUID(mostSigBits, leastSigBits);
+	}
+	
+	/*
+	 * Counter based (version 8, custom layout): a counter, that starts at the current time (in ms, shifted by 18 bits), 
+	 * is salted per generator and stored in the most significant bits, the least significant bits hold a random node 
+	 * id per generator. The most significant bits alone are unique (as needed for compact addresses, see 
+	 * ActorRoutingTable). Needs only a single atomic increment per id.
+	 */
+	public static ActorIdGenerator timeBased() {
+		final AtomicLong counter = new AtomicLong(System.currentTimeMillis()<<18);
+		final long salt = ThreadLocalRandom.current().nextLong();
+		final long node = randomUUID().getLeastSignificantBits();
+		
+		return () -> {
+			long value = (counter.incrementAndGet() ^ salt) & 0x0FFFFFFFFFFFFFFFL; // 60 bits
+			
+			return new UUID(((value>>>12)<<16) | 0x8000L | (value & 0xFFFL), node);
+		};
+	}
+}
@@ -44,7 +44,7 @@ public abstract class ActorMessageProxyHandler {
 		}
 		else
 		{
-			UUID interaction = message.interaction()!=null ? message.interaction() : UUID.randomUUID();
+			UUID interaction = message.interaction()!=null ? message.interaction() : ActorIdGenerators.getDefault().generate();
 			map.put(interaction, message.copy()); 
 			handle(message, interaction);
 		}
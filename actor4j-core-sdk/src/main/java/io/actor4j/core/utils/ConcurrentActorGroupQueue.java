@@ -27,13 +27,13 @@ public class ConcurrentActorGroupQueue extends ConcurrentLinkedQueue<UUID> imple
 	public ConcurrentActorGroupQueue() {
 		super();
 
-		id = UUID.randomUUID();
+		id = ActorIdGenerators.getDefault().generate();
 	}
 
 	public ConcurrentActorGroupQueue(Collection<? extends UUID> c) {
 		super(c);
 
-		id = UUID.randomUUID();
+		id = ActorIdGenerators.getDefault().generate();
 	}
 
 	@Override
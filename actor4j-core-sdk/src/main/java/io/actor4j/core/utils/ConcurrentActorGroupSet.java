@@ -33,7 +33,7 @@ public class ConcurrentActorGroupSet implements ActorGroup {
 		super();
 
 		set = ConcurrentHashMap.newKeySet();
-		id = UUID.randomUUID();
+		id = ActorIdGenerators.getDefault().generate();
 	}
 
 	public ConcurrentActorGroupSet(Collection<UUID> c) {
@@ -41,7 +41,7 @@ public class ConcurrentActorGroupSet implements ActorGroup {
 
 		Map<UUID, Boolean> map = new ConcurrentHashMap<>((Map<UUID, Boolean>)c.stream().collect(Collectors.toMap(v -> v, v -> false)));
 		set = map.keySet();
-		id = UUID.randomUUID();
+		id = ActorIdGenerators.getDefault().generate();
 	}
 
 	public ConcurrentActorGroupSet(int initialCapacity, float loadFactor) {
@@ -49,7 +49,7 @@ public class ConcurrentActorGroupSet implements ActorGroup {
 
 		Map<UUID, Boolean> map = new ConcurrentHashMap<>(initialCapacity, loadFactor);
 		set = map.keySet();
-		id = UUID.randomUUID();
+		id = ActorIdGenerators.getDefault().generate();
 	}
 
 	public ConcurrentActorGroupSet(int initialCapacity) {
@@ -57,7 +57,7 @@ public class ConcurrentActorGroupSet implements ActorGroup {
 
 		Map<UUID, Boolean> map = new ConcurrentHashMap<>(initialCapacity);
 		set = map.keySet();
-		id = UUID.randomUUID();
+		id = ActorIdGenerators.getDefault().generate();
 	}
 
 	@Override
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Log-bucketed histogram (HdrHistogram-style) with a fixed memory footprint. Each power of two is divided into 16 linear 
+ * sub-buckets (relative error below 6.25%), values are clamped to MAX_VALUE. Recording is lock-free and allocation-free
+ * (the buckets are allocated with the first value), but assumes a single writer, e.g. the thread processing the actor.
+ * Reads never reset the histogram.
+ * 
+ * Without percentiles (e.g., per cell), only count, sum and max are kept. The buckets are then allocated with the first 
+ * percentile request, the percentiles cover the values recorded since.
+ */
+public class LatencyHistogram {
+	protected static final int SUB_BUCKET_BITS = 4;
+	protected static final int SUB_BUCKETS = 1<<SUB_BUCKET_BITS;
+	protected static final int MAX_EXPONENT = 39;
+	protected static final int BUCKETS = (MAX_EXPONENT-SUB_BUCKET_BITS+2)*SUB_BUCKETS;
+	
+	public static final long MAX_VALUE = (1L<<(MAX_EXPONENT+1))-1;
+	
+	protected volatile boolean percentiles;
+	protected volatile AtomicLongArray buckets;
+	protected volatile long count;
+	protected volatile long sum;
+	protected volatile long max;
+	
+	public LatencyHistogram() {
+		this(true);
+	}
+	
+	public LatencyHistogram(boolean percentiles) {
+		super();
+		
+		this.percentiles = percentiles;
+	}
+	
+	public void record(long value) {
+		value = value<0 ? 0 : (value>MAX_VALUE ? MAX_VALUE : value);
+		if (percentiles) {
+			AtomicLongArray buckets = this.buckets;
+			if (buckets==null)
+				this.buckets = buckets = new AtomicLongArray(BUCKETS);
+			int index = index(value);
+			buckets.lazySet(index, buckets.get(index)+1);
+		}
+		sum = sum+value;
+		if (value>max)
+			max = value;
+		count = count+1;
+	}
+	
+	public long getCount() {
+		return count;
+	}
+	
+	public long getSum() {
+		return sum;
+	}
+	
+	public long getMax() {
+		return max;
+	}
+	
+	public double getMean() {
+		long count = this.count;
+		return count>0 ? (double)sum/count : 0;
+	}
+	
+	/*
+	 * Returns the highest value of the bucket, that contains the percentile (e.g., 50, 99, 99.9).
+	 */
+	public long getValueAtPercentile(double percentile) {
+		percentiles = true; // from now on
+		AtomicLongArray buckets = this.buckets;
+		if (buckets==null)
+			return 0;
+		
+		long total = 0;
+		for (int i=0; i<BUCKETS; i++)
+			total += buckets.get(i);
+		if (total==0)
+			return 0;
+		
+		long max = this.max;
+		long rank = Math.max(1, (long)Math.ceil(Math.min(percentile, 100)/100*total));
+		long sum = 0;
+		for (int i=0; i<BUCKETS; i++) {
+			sum += buckets.get(i);
+			if (sum>=rank)
+				return Math.min(highestValue(i), max);
+		}
+		
+		return max;
+	}
+	
+	protected static int index(long value) {
+		if (value<SUB_BUCKETS)
+			return (int)value;
+		
+		int exponent = 63-Long.numberOfLeadingZeros(value);
+		return (exponent-SUB_BUCKET_BITS+1)*SUB_BUCKETS + (int)((value>>>(exponent-SUB_BUCKET_BITS)) & (SUB_BUCKETS-1));
+	}
+	
+	protected static long highestValue(int index) {
+		if (index<SUB_BUCKETS)
+			return index;
+		
+		int shift = index/SUB_BUCKETS-1;
+		return ((long)(SUB_BUCKETS+index%SUB_BUCKETS)<<shift) + (1L<<shift)-1;
+	}
+	
+	@Override
+	public String toString() {
+		return "LatencyHistogram [count=" + getCount() + ", mean=" + getMean() + ", p50=" + getValueAtPercentile(50) 
+			+ ", p99=" + getValueAtPercentile(99) + ", p99.9=" + getValueAtPercentile(99.9) + ", max=" + getMax() + "]";
+	}
+}
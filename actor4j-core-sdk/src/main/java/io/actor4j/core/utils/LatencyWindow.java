@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Rolling window of the last recorded values (e.g., round trip times), older values are overwritten. Complements 
+ * LatencyHistogram, that never forgets. Assumes a single writer, reads copy the window.
+ */
+public class LatencyWindow {
+	protected final AtomicLongArray values;
+	protected final AtomicLong count;
+	
+	public LatencyWindow(int size) {
+		super();
+		
+		values = new AtomicLongArray(Math.max(1, size));
+		count = new AtomicLong(0);
+	}
+	
+	public void record(long value) {
+		long index = count.get();
+		values.lazySet((int)(index%values.length()), value);
+		count.lazySet(index+1);
+	}
+	
+	/*
+	 * Returns the total number of recorded values.
+	 */
+	public long getCount() {
+		return count.get();
+	}
+	
+	public int size() {
+		return (int)Math.min(count.get(), values.length());
+	}
+	
+	public long getLast() {
+		long index = count.get();
+		return index>0 ? values.get((int)((index-1)%values.length())) : 0;
+	}
+	
+	public long[] toArray() {
+		long[] result = new long[size()];
+		for (int i=0; i<result.length; i++)
+			result[i] = values.get(i);
+		
+		return result;
+	}
+	
+	public long getMax() {
+		return Arrays.stream(toArray()).max().orElse(0);
+	}
+	
+	public double getMean() {
+		return Arrays.stream(toArray()).average().orElse(0);
+	}
+	
+	/*
+	 * Returns the value at the percentile (nearest rank) of the window.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long[] result = toArray();
+		if (result.length==0)
+			return 0;
+		
+		Arrays.sort(result);
+		int rank = Math.max(1, (int)Math.ceil(Math.min(percentile, 100)/100*result.length));
+		
+		return result[rank-1];
+	}
+	
+	@Override
+	public String toString() {
+		return "LatencyWindow [size=" + size() + ", last=" + getLast() + ", mean=" + getMean() + ", p90=" + getValueAtPercentile(90) 
+			+ ", max=" + getMax() + "]";
+	}
+}
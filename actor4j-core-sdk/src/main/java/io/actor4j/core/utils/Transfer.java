@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2015-2024, David A. Bauer. All rights reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.actor4j.core.utils;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Ownership transfer of a mutable payload (e.g., a large buffer or collection) to exactly one receiver, without 
+ * copying. On send, the message is copied, and the copy of a transfer moves the payload to a new transfer, the transfer 
+ * of the sender becomes invalid. Any further access or send of an invalid transfer throws an IllegalStateException 
+ * (e.g., a second send or a broadcast). In debug mode, the exception refers to the first transfer as its cause.
+ */
+public final class Transfer<T> implements DeepCopyable<Transfer<T>> {
+	protected static volatile boolean debug;
+	
+	protected final AtomicReference<T> value;
+	protected volatile Throwable transferred; // debug mode only
+	
+	protected Transfer(T value) {
+		super();
+		
+		this.value = new AtomicReference<>(Objects.requireNonNull(value));
+	}
+	
+	public static <T> Transfer<T> of(T value) {
+		return new Transfer<>(value);
+	}
+	
+	public static void debug(boolean enabled) {
+		debug = enabled;
+	}
+	
+	public boolean isValid() {
+		return value.get()!=null;
+	}
+	
+	public T get() {
+		T result = value.get();
+		if (result==null)
+			throw invalid();
+		
+		return result;
+	}
+	
+	/*
+	 * Takes the payload, the transfer becomes invalid.
+	 */
+	public T take() {
+		T result = value.getAndSet(null);
+		if (result==null)
+			throw invalid();
+		if (debug)
+			transferred = new Throwable("Taken by thread "+Thread.currentThread().getName());
+		
+		return result;
+	}
+	
+	/*
+	 * Moves the payload to a new transfer, the transfer becomes invalid.
+	 */
+	@Override
+	public Transfer<T> deepCopy() {
+		T result = value.getAndSet(null);
+		if (result==null)
+			throw invalid();
+		if (debug)
+			transferred = new Throwable("Transferred by thread "+Thread.currentThread().getName());
+		
+		return new Transfer<>(result);
+	}
+	
+	protected IllegalStateException invalid() {
+		return new IllegalStateException("Ownership already transferred", transferred);
+	}
+	
+	@Override
+	public String toString() {
+		T value = this.value.get();
+		
+		return "Transfer [value=" + (value!=null ? value.getClass().getName() : "<transferred>") + "]";
+	}
+}